@@ -0,0 +1,91 @@
+package com.inditex.pricing.benchmark;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceTimeline;
+import com.inditex.pricing.domain.service.PriceTimelineResolver;
+import com.inditex.pricing.infrastructure.adapter.output.memory.CompactPriceStore;
+import com.inditex.pricing.infrastructure.adapter.output.memory.PriceTimelineIndex;
+import com.inditex.pricing.infrastructure.generator.PriceDataGenerator;
+import com.inditex.pricing.infrastructure.generator.PriceDataGeneratorProperties;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Heap footprint of the in-memory price index for a synthetic catalogue, generated with
+ * {@link PriceDataGenerator}:
+ * 
+ * - objects: one {@link PriceTimeline} of Price and PriceSegment objects per product
+ * - compact: {@link PriceTimelineIndex} over a {@link CompactPriceStore}
+ * 
+ * Each representation is measured alone as the growth of the used heap after a full GC, and
+ * reported in bytes per generated tariff.
+ * 
+ * Run: mvn -Pbenchmark test-compile exec:exec@footprint -Dfootprint.args="rows=10000000"
+ * 
+ * Arguments (key=value): rows, tariffsPerProduct, seed.
+ */
+public final class PriceFootprintReport {
+
+    private PriceFootprintReport() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "rows", "1000000",
+                "tariffsPerProduct", "4",
+                "seed", "42"));
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            options.put(option[0], option[1]);
+        }
+        PriceDataGeneratorProperties catalogue = PriceDataGeneratorProperties.forRows(
+                Integer.parseInt(options.get("rows")),
+                Integer.parseInt(options.get("tariffsPerProduct")),
+                Long.parseLong(options.get("seed")));
+        long rows = catalogue.getRowCount();
+
+        long baseline = usedHeap();
+        Map<PriceKey, PriceTimeline> timelines = objectTimelines(catalogue);
+        long objects = usedHeap() - baseline;
+        int products = timelines.size();
+        timelines = null;
+
+        baseline = usedHeap();
+        PriceTimelineIndex index = PriceTimelineIndex.of(generate(catalogue));
+        long compact = usedHeap() - baseline;
+        CompactPriceStore store = index.getStore();
+
+        System.out.printf("rows=%d products=%d winningTariffs=%d%n", rows, products, store.tariffCount());
+        System.out.printf("objects: %,d bytes (%.1f B/tariff)%n", objects, (double) objects / rows);
+        System.out.printf("compact: %,d bytes (%.1f B/tariff), arrays %,d bytes (%.1f B/tariff)%n",
+                compact, (double) compact / rows, store.footprintBytes(), (double) store.footprintBytes() / rows);
+    }
+
+    private static Map<PriceKey, PriceTimeline> objectTimelines(PriceDataGeneratorProperties catalogue) {
+        Map<PriceKey, List<Price>> pricesByKey = new HashMap<>();
+        for (Price price : generate(catalogue)) {
+            pricesByKey.computeIfAbsent(PriceKey.of(price), key -> new ArrayList<>()).add(price);
+        }
+        Map<PriceKey, PriceTimeline> timelines = new HashMap<>(pricesByKey.size() * 2);
+        pricesByKey.forEach((key, prices) -> timelines.put(key, PriceTimelineResolver.resolve(prices)));
+        return timelines;
+    }
+
+    private static List<Price> generate(PriceDataGeneratorProperties catalogue) {
+        List<Price> prices = new ArrayList<>((int) catalogue.getRowCount());
+        new PriceDataGenerator(catalogue).generate(prices::add);
+        return prices;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
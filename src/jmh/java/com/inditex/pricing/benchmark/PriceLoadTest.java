@@ -0,0 +1,147 @@
+package com.inditex.pricing.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test of GET /api/prices against a running instance.
+ * 
+ * Each of the {@code concurrency} clients sends a request, waits for the response and sends the next
+ * one, so the server sees exactly that many requests in flight. Compare the platform-thread model
+ * with the virtual-thread mode by running it against both at a concurrency well above the Tomcat
+ * thread pool (200 by default):
+ * 
+ *   mvn spring-boot:run                          (platform threads)
+ *   mvn -Pvirtual-threads spring-boot:run        (virtual threads, Java 21)
+ *   mvn -Pbenchmark test-compile exec:exec@load-test -Dload.args="concurrency=1000 duration=30"
+ * 
+ * Arguments (key=value): url, concurrency, duration (seconds), warmup (seconds), brands,
+ * firstProductId, products, seasonStart, seasonDays. The defaults target the sample data
+ * (product 35455 of brand 1 in June 2020); point them at a generated catalogue to spread the keys.
+ */
+public final class PriceLoadTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private PriceLoadTest() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "url", "http://localhost:8080",
+                "concurrency", "1000",
+                "duration", "30",
+                "warmup", "10",
+                "brands", "1",
+                "firstProductId", "35455",
+                "products", "1",
+                "seasonStart", "2020-06-14T00:00:00",
+                "seasonDays", "30"));
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            options.put(option[0], option[1]);
+        }
+
+        int concurrency = Integer.parseInt(options.get("concurrency"));
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+
+        System.out.printf("Warming up for %ss with %d clients...%n", options.get("warmup"), concurrency);
+        run(client, options, concurrency, Long.parseLong(options.get("warmup")));
+        Result result = run(client, options, concurrency, Long.parseLong(options.get("duration")));
+        result.print(concurrency);
+        System.exit(0);
+    }
+
+    private static Result run(HttpClient client, Map<String, String> options, int concurrency, long seconds)
+            throws InterruptedException {
+        String baseUrl = options.get("url") + "/api/prices";
+        int brands = Integer.parseInt(options.get("brands"));
+        long firstProductId = Long.parseLong(options.get("firstProductId"));
+        int products = Integer.parseInt(options.get("products"));
+        LocalDateTime seasonStart = LocalDateTime.parse(options.get("seasonStart"));
+        int seasonMinutes = Integer.parseInt(options.get("seasonDays")) * 24 * 60;
+
+        long[][] latencies = new long[concurrency][];
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        for (int c = 0; c < concurrency; c++) {
+            int clientIndex = c;
+            clients.execute(() -> {
+                SplittableRandom random = new SplittableRandom(clientIndex);
+                long[] samples = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    URI uri = URI.create(baseUrl
+                            + "?applicationDate=" + seasonStart.plusMinutes(random.nextInt(seasonMinutes))
+                            + "&productId=" + (firstProductId + random.nextInt(products))
+                            + "&brandId=" + (1 + random.nextInt(brands)));
+                    HttpRequest request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+                    long start = System.nanoTime();
+                    try {
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status != 200 && status != 404) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == samples.length) {
+                        samples = Arrays.copyOf(samples, count * 2);
+                    }
+                    samples[count++] = System.nanoTime() - start;
+                }
+                latencies[clientIndex] = Arrays.copyOf(samples, count);
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(seconds + REQUEST_TIMEOUT.toSeconds() + 10, TimeUnit.SECONDS);
+
+        long[] all = Arrays.stream(latencies).filter(l -> l != null).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, errors.get(), seconds);
+    }
+
+    private static final class Result {
+
+        private final long[] sortedLatencies;
+        private final long errors;
+        private final long seconds;
+
+        private Result(long[] sortedLatencies, long errors, long seconds) {
+            this.sortedLatencies = sortedLatencies;
+            this.errors = errors;
+            this.seconds = seconds;
+        }
+
+        private void print(int concurrency) {
+            System.out.printf("concurrency=%d requests=%d errors=%d throughput=%.0f req/s%n",
+                    concurrency, sortedLatencies.length, errors, (double) sortedLatencies.length / seconds);
+            System.out.printf("latency ms: p50=%.2f p90=%.2f p99=%.2f max=%.2f%n",
+                    percentile(0.50), percentile(0.90), percentile(0.99), percentile(1.0));
+        }
+
+        private double percentile(double p) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sortedLatencies.length - 1, Math.ceil(p * sortedLatencies.length) - 1);
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.inditex.pricing.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.pricing.application.service.PriceService;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import com.inditex.pricing.infrastructure.adapter.input.rest.mapper.PriceResponseMapper;
+import com.inditex.pricing.infrastructure.adapter.output.memory.PriceTimelineIndex;
+import com.inditex.pricing.infrastructure.generator.PriceDataGenerator;
+import com.inditex.pricing.infrastructure.generator.PriceDataGeneratorProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the price lookup against a synthetic catalogue of configurable size,
+ * generated with {@link PriceDataGenerator} ({@code overlapDepth} tariffs per product).
+ * 
+ * - service: PriceService.getApplicablePrice over the in-memory interval index (no cache)
+ * - endToEnd: service + PriceResponseMapper + Jackson serialization, as done per HTTP request
+ * 
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="PriceLookupBenchmark -p rows=10000000 -prof gc"
+ * (10M rows need a larger heap, e.g. -jvmArgs -Xmx8g)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PriceLookupBenchmark {
+
+    private static final int QUERY_COUNT = 4096;
+
+    @Param({"10000", "1000000"})
+    private int rows;
+
+    @Param({"4"})
+    private int overlapDepth;
+
+    private PriceService priceService;
+    private PriceResponseMapper priceResponseMapper;
+    private ObjectMapper objectMapper;
+    private PriceQuery[] queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PriceDataGeneratorProperties catalogue = PriceDataGeneratorProperties.forRows(rows, overlapDepth, 42L);
+        List<Price> prices = new ArrayList<>(rows);
+        new PriceDataGenerator(catalogue).generate(prices::add);
+        PriceTimelineIndex index = PriceTimelineIndex.of(prices);
+        priceService = new PriceService(new IndexPriceRepository(index), Optional.empty(), Optional.empty(),
+                Optional.empty(), false, Duration.ZERO);
+        priceResponseMapper = new PriceResponseMapper();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        SplittableRandom random = new SplittableRandom(7L);
+        queries = new PriceQuery[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            Price price = prices.get(random.nextInt(prices.size()));
+            LocalDateTime date = catalogue.getSeasonStart().plusMinutes(random.nextInt(catalogue.getSeasonDays() * 24 * 60));
+            queries[i] = new PriceQuery(date, price.getProductId(), price.getBrandId());
+        }
+    }
+
+    @Benchmark
+    public Price service() {
+        PriceQuery query = nextQuery();
+        return priceService.getApplicablePrice(query.getApplicationDate(), query.getProductId(), query.getBrandId());
+    }
+
+    @Benchmark
+    public byte[] endToEnd() throws Exception {
+        PriceQuery query = nextQuery();
+        Price price = priceService.getApplicablePrice(query.getApplicationDate(), query.getProductId(), query.getBrandId());
+        return objectMapper.writeValueAsBytes(priceResponseMapper.toResponse(price));
+    }
+
+    private PriceQuery nextQuery() {
+        return queries[cursor++ & (QUERY_COUNT - 1)];
+    }
+
+    /**
+     * Repository port over a prebuilt index, so the benchmark does not need a Spring context.
+     */
+    private static final class IndexPriceRepository implements PriceRepositoryPort {
+
+        private final PriceTimelineIndex index;
+
+        private IndexPriceRepository(PriceTimelineIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+            return index.findPrice(new PriceKey(brandId, productId), applicationDate);
+        }
+
+        @Override
+        public PriceSegment findSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+            return index.segmentAt(new PriceKey(brandId, productId), applicationDate);
+        }
+    }
+}
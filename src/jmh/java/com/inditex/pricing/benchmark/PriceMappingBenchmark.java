@@ -0,0 +1,75 @@
+package com.inditex.pricing.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceResponse;
+import com.inditex.pricing.infrastructure.adapter.input.rest.mapper.PriceResponseMapper;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.entity.PriceEntity;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.mapper.PriceMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the mapping layers of a price lookup, each measured on its own:
+ * 
+ * - entityToDomain: PriceMapper.toDomain
+ * - domainToResponse: PriceResponseMapper.toResponse
+ * - serializeResponse: Jackson serialization of PriceResponse, configured like Spring Boot
+ * 
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="PriceMappingBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceMappingBenchmark {
+
+    private PriceMapper priceMapper;
+    private PriceResponseMapper priceResponseMapper;
+    private ObjectMapper objectMapper;
+    private PriceEntity entity;
+    private Price price;
+    private PriceResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        priceMapper = new PriceMapper();
+        priceResponseMapper = new PriceResponseMapper();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        entity = PriceEntity.builder()
+                .id(1L)
+                .brandId(1L)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .priceList(1L)
+                .productId(35455L)
+                .priority(0)
+                .price(new BigDecimal("35.50"))
+                .currency("EUR")
+                .build();
+        price = priceMapper.toDomain(entity);
+        response = priceResponseMapper.toResponse(price);
+    }
+
+    @Benchmark
+    public Price entityToDomain() {
+        return priceMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public PriceResponse domainToResponse() {
+        return priceResponseMapper.toResponse(price);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
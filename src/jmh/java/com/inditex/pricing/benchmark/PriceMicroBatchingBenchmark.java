@@ -0,0 +1,192 @@
+package com.inditex.pricing.benchmark;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.JdbcPriceBatchWriter;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.JdbcPriceRepositoryAdapter;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.MicroBatchingPriceRepositoryAdapter;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.mapper.PriceRowMapper;
+import com.inditex.pricing.infrastructure.generator.PriceDataGenerator;
+import com.inditex.pricing.infrastructure.generator.PriceDataGeneratorProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmark of concurrent single price lookups against H2 over TCP, one query per lookup versus
+ * micro-batched into set-based queries with {@link MicroBatchingPriceRepositoryAdapter}.
+ * 
+ * - window=none: every lookup runs the applicable price query on its own connection
+ * - window=PT0S: lookups already queued when a batch starts are resolved together, no waiting
+ * - window=PT0.001S / PT0.002S: each batch waits up to the window for more lookups
+ * 
+ * Sample time mode reports the lookup latency percentiles (p99 included); the database queries per
+ * second of each iteration are printed after it. Distinct products are looked up, so no result is
+ * shared between lookups.
+ * 
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="PriceMicroBatchingBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Threads(64)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PriceMicroBatchingBenchmark {
+
+    private static final int QUERY_COUNT = 4096;
+
+    @Param({"100000"})
+    private int rows;
+
+    @Param({"none", "PT0S", "PT0.001S", "PT0.002S"})
+    private String window;
+
+    @Param({"8"})
+    private int connections;
+
+    private Server server;
+    private HikariDataSource dataSource;
+    private MicroBatchingPriceRepositoryAdapter batchingAdapter;
+    private PriceRepositoryPort repository;
+    private final LongAdder databaseQueries = new LongAdder();
+    private final AtomicInteger cursor = new AtomicInteger();
+    private PriceQuery[] queries;
+    private long iterationStart;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists").start();
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:tcp://localhost:" + port + "/mem:batching;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(connections);
+        dataSource = new HikariDataSource(config);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+
+        PriceDataGeneratorProperties catalogue = PriceDataGeneratorProperties.forRows(rows, 4, 42L);
+        JdbcPriceBatchWriter writer = new JdbcPriceBatchWriter(new JdbcTemplate(dataSource), catalogue.getBatchSize());
+        SplittableRandom random = new SplittableRandom(7L);
+        queries = new PriceQuery[QUERY_COUNT];
+        int[] seen = {0};
+        new PriceDataGenerator(catalogue).generate(price -> {
+            writer.add(price);
+            int slot = seen[0]++;
+            if (slot < QUERY_COUNT) {
+                queries[slot] = query(price, catalogue, random);
+            } else {
+                int replaced = random.nextInt(slot + 1);
+                if (replaced < QUERY_COUNT) {
+                    queries[replaced] = query(price, catalogue, random);
+                }
+            }
+        });
+        writer.flush();
+
+        PriceRepositoryPort counting = new CountingRepository(
+                new JdbcPriceRepositoryAdapter(dataSource, new PriceRowMapper(), Optional.empty()), databaseQueries);
+        if ("none".equals(window)) {
+            repository = counting;
+        } else {
+            batchingAdapter = new MicroBatchingPriceRepositoryAdapter(counting, new SimpleMeterRegistry(),
+                    Duration.parse(window), 100, connections);
+            repository = batchingAdapter;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        databaseQueries.reset();
+        iterationStart = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportIteration() {
+        double seconds = (System.nanoTime() - iterationStart) / 1e9;
+        System.out.printf("%n  window=%s: %.0f database queries/s%n", window, databaseQueries.sum() / seconds);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (batchingAdapter != null) {
+            batchingAdapter.close();
+        }
+        dataSource.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public Optional<Price> applicablePrice() {
+        PriceQuery query = queries[cursor.getAndIncrement() & (QUERY_COUNT - 1)];
+        return repository.findApplicablePrice(query.getApplicationDate(), query.getProductId(), query.getBrandId());
+    }
+
+    private static PriceQuery query(Price price, PriceDataGeneratorProperties catalogue, SplittableRandom random) {
+        LocalDateTime date = catalogue.getSeasonStart().plusMinutes(random.nextInt(catalogue.getSeasonDays() * 24 * 60));
+        return new PriceQuery(date, price.getProductId(), price.getBrandId());
+    }
+
+    /**
+     * Repository port that counts the queries sent to the database.
+     */
+    private static final class CountingRepository implements PriceRepositoryPort {
+
+        private final PriceRepositoryPort delegate;
+        private final LongAdder queries;
+
+        private CountingRepository(PriceRepositoryPort delegate, LongAdder queries) {
+            this.delegate = delegate;
+            this.queries = queries;
+        }
+
+        @Override
+        public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+            queries.increment();
+            return delegate.findApplicablePrice(applicationDate, productId, brandId);
+        }
+
+        @Override
+        public PriceSegment findSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+            queries.increment();
+            return delegate.findSegment(applicationDate, productId, brandId);
+        }
+
+        @Override
+        public Map<PriceQuery, Price> findApplicablePrices(Collection<PriceQuery> queries) {
+            this.queries.increment();
+            return delegate.findApplicablePrices(queries);
+        }
+
+        @Override
+        public Map<PriceQuery, PriceSegment> findSegments(Collection<PriceQuery> queries) {
+            this.queries.increment();
+            return delegate.findSegments(queries);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.inditex.pricing.benchmark;
+
+import com.inditex.pricing.infrastructure.adapter.output.persistence.JdbcPriceBatchWriter;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.repository.JpaPriceRepository;
+import com.inditex.pricing.infrastructure.generator.PriceDataGenerator;
+import com.inditex.pricing.infrastructure.generator.PriceDataGeneratorProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmark of the applicable price query in H2 with the previous and the current PRICES indexes,
+ * over a synthetic catalogue generated with {@link PriceDataGenerator}.
+ * 
+ * - legacy: idx_product_brand, idx_dates and idx_priority with the former query (ORDER BY PRIORITY DESC)
+ * - covering: idx_price_lookup with {@link JpaPriceRepository#APPLICABLE_PRICE_QUERY}
+ * 
+ * The setup prints the plan and the rows scanned (EXPLAIN ANALYZE scanCount) of a sample query.
+ * 
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="PriceQueryIndexBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PriceQueryIndexBenchmark {
+
+    private static final int QUERY_COUNT = 4096;
+
+    private static final String LEGACY_INDEXES =
+            "DROP INDEX idx_price_lookup;" +
+            "CREATE INDEX idx_product_brand ON PRICES(PRODUCT_ID, BRAND_ID);" +
+            "CREATE INDEX idx_dates ON PRICES(START_DATE, END_DATE);" +
+            "CREATE INDEX idx_priority ON PRICES(PRIORITY);";
+
+    private static final String LEGACY_QUERY =
+            "SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR " +
+            "FROM PRICES " +
+            "WHERE PRODUCT_ID = ? AND BRAND_ID = ? AND ? BETWEEN START_DATE AND END_DATE " +
+            "ORDER BY PRIORITY DESC " +
+            "FETCH FIRST 1 ROWS ONLY";
+
+    private static final String COVERING_QUERY =
+            JpaPriceRepository.APPLICABLE_PRICE_QUERY.replaceAll(":\\w+", "?");
+
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"4"})
+    private int overlapDepth;
+
+    @Param({"legacy", "covering"})
+    private String indexLayout;
+
+    private SingleConnectionDataSource dataSource;
+    private PreparedStatement statement;
+    private Object[][] queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:" + indexLayout + ";DB_CLOSE_DELAY=-1", "sa", "", true);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        boolean legacy = "legacy".equals(indexLayout);
+        if (legacy) {
+            for (String ddl : LEGACY_INDEXES.split(";")) {
+                jdbcTemplate.execute(ddl);
+            }
+        }
+
+        PriceDataGeneratorProperties catalogue = PriceDataGeneratorProperties.forRows(rows, overlapDepth, 42L);
+        JdbcPriceBatchWriter writer = new JdbcPriceBatchWriter(jdbcTemplate, catalogue.getBatchSize());
+        new PriceDataGenerator(catalogue).generate(writer::add);
+        writer.flush();
+
+        SplittableRandom random = new SplittableRandom(7L);
+        queries = new Object[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            long id = 1 + random.nextLong(writer.getWritten());
+            Map<String, Object> row = jdbcTemplate.queryForMap("SELECT BRAND_ID, PRODUCT_ID FROM PRICES WHERE ID = ?", id);
+            Timestamp applicationDate = Timestamp.valueOf(catalogue.getSeasonStart()
+                    .plusMinutes(random.nextInt(catalogue.getSeasonDays() * 24 * 60)));
+            queries[i] = legacy
+                    ? new Object[]{row.get("PRODUCT_ID"), row.get("BRAND_ID"), applicationDate}
+                    : new Object[]{row.get("BRAND_ID"), row.get("PRODUCT_ID"), applicationDate, applicationDate};
+        }
+
+        String sql = legacy ? LEGACY_QUERY : COVERING_QUERY;
+        reportPlan(jdbcTemplate, sql);
+        Connection connection = dataSource.getConnection();
+        statement = connection.prepareStatement(sql);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        statement.close();
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public long applicablePrice() throws SQLException {
+        Object[] parameters = queries[cursor++ & (QUERY_COUNT - 1)];
+        for (int i = 0; i < parameters.length; i++) {
+            statement.setObject(i + 1, parameters[i]);
+        }
+        try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : -1L;
+        }
+    }
+
+    private void reportPlan(JdbcTemplate jdbcTemplate, String sql) {
+        Object[] sample = queries[0];
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, sample);
+        String analyzed = jdbcTemplate.queryForObject("EXPLAIN ANALYZE " + sql, String.class, sample);
+        long scanned = 0;
+        Matcher matcher = SCAN_COUNT.matcher(analyzed);
+        while (matcher.find()) {
+            scanned += Long.parseLong(matcher.group(1));
+        }
+        System.out.printf("%n[%s] rows=%d, rows scanned by sample query=%d%n%s%n", indexLayout, rows, scanned, plan);
+    }
+}
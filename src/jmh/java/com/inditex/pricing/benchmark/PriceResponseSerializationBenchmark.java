@@ -0,0 +1,62 @@
+package com.inditex.pricing.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.inditex.pricing.infrastructure.adapter.input.rest.converter.PriceResponseHttpMessageConverter;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the serialization of PriceResponse to the response stream:
+ * 
+ * - jackson: ObjectMapper configured like Spring Boot, as MappingJackson2HttpMessageConverter does
+ * - converter: PriceResponseHttpMessageConverter
+ * 
+ * Both write into a discarding stream, as a servlet response buffers them, so gc.alloc.rate.norm
+ * is the garbage of the serialization alone.
+ * 
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="PriceResponseSerializationBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceResponseSerializationBenchmark {
+
+    private ObjectWriter jacksonWriter;
+    private PriceResponseHttpMessageConverter converter;
+    private PriceResponse response;
+    private OutputStream out;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        jacksonWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        converter = new PriceResponseHttpMessageConverter(objectMapper, Optional.empty());
+        response = new PriceResponse(35455L, 1L, 1L,
+                LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                new BigDecimal("35.50"), "EUR");
+        out = OutputStream.nullOutputStream();
+    }
+
+    @Benchmark
+    public void jackson() throws Exception {
+        jacksonWriter.writeValue(out, response);
+    }
+
+    @Benchmark
+    public void converter() throws Exception {
+        converter.writeJson(response, out);
+    }
+}
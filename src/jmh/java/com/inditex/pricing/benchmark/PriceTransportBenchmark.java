@@ -0,0 +1,113 @@
+package com.inditex.pricing.benchmark;
+
+import com.inditex.pricing.PricingApplication;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.infrastructure.adapter.input.binary.BinaryPriceClient;
+import com.inditex.pricing.infrastructure.adapter.input.binary.BinaryPriceServer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Side-by-side benchmark of the two transports of the price lookups, against the running application
+ * with its sample data:
+ * 
+ * - rest: GET /api/prices and POST /api/prices/batch over HTTP/1.1 keep-alive, JSON responses
+ * - binary: the length-prefixed protocol of BinaryPriceServer over one TCP connection
+ * 
+ * single() is one lookup per call; batch() resolves {@value #BATCH_SIZE} lookups per call. Both ends
+ * run in the benchmark JVM, so the time and gc.alloc.rate.norm include the client as well as the server.
+ * Lookups hit the price cache, so the difference is the cost of each transport.
+ * 
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="PriceTransportBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class PriceTransportBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final LocalDateTime SEASON_START = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    @Param({"rest", "binary"})
+    private String transport;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private BinaryPriceClient binaryClient;
+    private HttpRequest[] singleRequests;
+    private HttpRequest batchRequest;
+    private List<PriceQuery> queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = SpringApplication.run(PricingApplication.class,
+                "--server.port=0",
+                "--pricing.binary.enabled=true",
+                "--pricing.binary.port=0",
+                "--logging.level.root=WARN",
+                "--logging.level.com.inditex.pricing=WARN");
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/prices";
+
+        queries = new ArrayList<>(BATCH_SIZE);
+        singleRequests = new HttpRequest[BATCH_SIZE];
+        StringBuilder batchBody = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            PriceQuery query = new PriceQuery(SEASON_START.plusHours(i), 35455L, 1L);
+            queries.add(query);
+            singleRequests[i] = HttpRequest.newBuilder(URI.create(baseUrl + "?applicationDate=" + query.getApplicationDate()
+                    + "&productId=" + query.getProductId() + "&brandId=" + query.getBrandId())).GET().build();
+            batchBody.append(i == 0 ? "" : ",")
+                    .append("{\"applicationDate\":\"").append(query.getApplicationDate())
+                    .append("\",\"productId\":").append(query.getProductId())
+                    .append(",\"brandId\":").append(query.getBrandId()).append('}');
+        }
+        batchBody.append("]}");
+        batchRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(batchBody.toString()))
+                .build();
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        binaryClient = new BinaryPriceClient("localhost", context.getBean(BinaryPriceServer.class).getPort());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        binaryClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Object single() throws IOException, InterruptedException {
+        int index = cursor++ % BATCH_SIZE;
+        if ("rest".equals(transport)) {
+            return httpClient.send(singleRequests[index], HttpResponse.BodyHandlers.ofByteArray()).body();
+        }
+        return binaryClient.lookup(queries.get(index));
+    }
+
+    @Benchmark
+    public void batch(Blackhole blackhole) throws IOException, InterruptedException {
+        if ("rest".equals(transport)) {
+            blackhole.consume(httpClient.send(batchRequest, HttpResponse.BodyHandlers.ofByteArray()).body());
+            return;
+        }
+        binaryClient.lookupBatch(queries, blackhole::consume);
+    }
+}
@@ -1,7 +1,13 @@
 package com.inditex.pricing;
 
+import com.inditex.pricing.infrastructure.adapter.output.memory.PriceTariffFileExportJob;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
 
 /**
  * Main application class for the Inditex Pricing Service.
@@ -11,9 +17,29 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @version 1.0.0
  */
 @SpringBootApplication
+@EnableScheduling
 public class PricingApplication {
 
+    /**
+     * Clock of the system default zone, in which the tariff dates are expressed.
+     * Injected wherever the current date matters, so that tests can replace it.
+     * 
+     * @return System clock
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    /**
+     * Starts the service or, when launched as the tariff file export job, runs it and exits with its exit code.
+     * 
+     * @param args Command line arguments
+     */
     public static void main(String[] args) {
-        SpringApplication.run(PricingApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(PricingApplication.class, args);
+        if (context.getBeanNamesForType(PriceTariffFileExportJob.class).length > 0) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
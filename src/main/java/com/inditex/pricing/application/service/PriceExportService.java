@@ -0,0 +1,49 @@
+package com.inditex.pricing.application.service;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.port.input.ExportBrandPricesUseCase;
+import com.inditex.pricing.domain.port.output.PriceExportRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Application service that implements the ExportBrandPricesUseCase.
+ * This is the orchestration layer between the export endpoint and the bulk read repository.
+ * 
+ * Bypasses the cache and the key filter: a whole-brand read is a single ordered scan, cheaper
+ * than any per-product shortcut, and would only evict the hot entries of the cache.
+ */
+@Service
+public class PriceExportService implements ExportBrandPricesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceExportService.class);
+
+    private final PriceExportRepositoryPort priceExportRepositoryPort;
+
+    /**
+     * Constructor injection for dependency inversion.
+     * Depends on abstractions (ports), not concrete implementations.
+     * 
+     * @param priceExportRepositoryPort Port for bulk price reads
+     */
+    public PriceExportService(PriceExportRepositoryPort priceExportRepositoryPort) {
+        this.priceExportRepositoryPort = priceExportRepositoryPort;
+    }
+
+    @Override
+    public long exportBrandPrices(LocalDateTime applicationDate, Long brandId, Consumer<Price> sink) {
+        long start = System.nanoTime();
+        long[] exported = {0};
+        priceExportRepositoryPort.findApplicablePrices(applicationDate, brandId, price -> {
+            sink.accept(price);
+            exported[0]++;
+        });
+        log.info("Exported {} prices of brand {} at {} in {} ms", exported[0], brandId, applicationDate,
+                (System.nanoTime() - start) / 1_000_000);
+        return exported[0];
+    }
+}
@@ -0,0 +1,116 @@
+package com.inditex.pricing.application.service;
+
+import com.inditex.pricing.domain.exception.InvalidPriceException;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceImportResult;
+import com.inditex.pricing.domain.port.input.ImportPricesUseCase;
+import com.inditex.pricing.domain.port.output.PriceWriteRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Application service that implements the ImportPricesUseCase.
+ * This is the orchestration layer between the imported stream and the write repository.
+ * 
+ * Only one batch of tariffs is held in memory at a time, whatever the size of the import.
+ */
+@Service
+public class PriceImportService implements ImportPricesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceImportService.class);
+
+    /**
+     * Precision of PRICES.PRICE, DECIMAL(10, 2): larger prices would fail the batch and
+     * more decimals would be rounded silently, so both are rejected as invalid rows.
+     */
+    private static final int PRICE_INTEGER_DIGITS = 8;
+    private static final int PRICE_SCALE = 2;
+
+    private final PriceWriteRepositoryPort priceWriteRepositoryPort;
+    private final int batchSize;
+
+    /**
+     * Constructor injection for dependency inversion.
+     * Depends on abstractions (ports), not concrete implementations.
+     * 
+     * @param priceWriteRepositoryPort Port for price write operations
+     * @param batchSize Number of tariffs committed per batch
+     */
+    public PriceImportService(PriceWriteRepositoryPort priceWriteRepositoryPort,
+                              @Value("${pricing.import.batch-size:5000}") int batchSize) {
+        this.priceWriteRepositoryPort = priceWriteRepositoryPort;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Business logic: Skip the rows committed by previous runs, validate each remaining tariff
+     * and write them in batches, checkpointing after each one.
+     */
+    @Override
+    public PriceImportResult importPrices(String importId, Iterator<Price> prices) {
+        long start = System.nanoTime();
+        long checkpoint = priceWriteRepositoryPort.findCheckpoint(importId);
+        long committed = checkpoint;
+        long row = 0;
+        List<Price> batch = new ArrayList<>(batchSize);
+        try {
+            while (prices.hasNext()) {
+                Price price = prices.next();
+                row++;
+                if (row <= checkpoint) {
+                    continue;
+                }
+                validate(row, price);
+                batch.add(price);
+                if (batch.size() == batchSize) {
+                    priceWriteRepositoryPort.saveBatch(importId, batch, row);
+                    committed = row;
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                priceWriteRepositoryPort.saveBatch(importId, batch, row);
+            }
+        } catch (InvalidPriceException ex) {
+            throw new InvalidPriceException(ex.getRow(), ex.getReason(), committed);
+        }
+
+        long skipped = Math.min(row, checkpoint);
+        PriceImportResult result = new PriceImportResult(importId, skipped, row - skipped,
+                Duration.ofNanos(System.nanoTime() - start));
+        log.info("Imported {} prices into '{}' ({} already committed) at {} rows/s",
+                result.getImportedRows(), importId, skipped, Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    private void validate(long row, Price price) {
+        if (price.getEndDate().isBefore(price.getStartDate())) {
+            throw new InvalidPriceException(row, "end date is before start date");
+        }
+        if (price.getPriority() < 0) {
+            throw new InvalidPriceException(row, "priority is negative");
+        }
+        if (price.getPrice().compareTo(BigDecimal.ZERO) < 0) {
+            throw new InvalidPriceException(row, "price is negative");
+        }
+        if (price.getPrice().precision() - price.getPrice().scale() > PRICE_INTEGER_DIGITS) {
+            throw new InvalidPriceException(row, "price has more than " + PRICE_INTEGER_DIGITS + " integer digits");
+        }
+        if (price.getPrice().stripTrailingZeros().scale() > PRICE_SCALE) {
+            throw new InvalidPriceException(row, "price has more than " + PRICE_SCALE + " decimals");
+        }
+        if (price.getCurrency().length() != 3) {
+            throw new InvalidPriceException(row, "currency is not an ISO 4217 code");
+        }
+    }
+}
@@ -1,32 +1,66 @@
 package com.inditex.pricing.application.service;
 
+import com.inditex.pricing.domain.exception.InvalidDateRangeException;
 import com.inditex.pricing.domain.exception.PriceNotFoundException;
 import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceLookupResult;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.port.input.GetPriceTimelineUseCase;
 import com.inditex.pricing.domain.port.input.GetPriceUseCase;
+import com.inditex.pricing.domain.port.input.GetPricesBatchUseCase;
+import com.inditex.pricing.domain.port.output.PriceCachePort;
+import com.inditex.pricing.domain.port.output.PriceKeyFilterPort;
+import com.inditex.pricing.domain.port.output.PriceMetricsPort;
 import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
- * Application service that implements the GetPriceUseCase.
+ * Application service that implements the GetPriceUseCase, GetPricesBatchUseCase and GetPriceTimelineUseCase.
  * This is the orchestration layer between domain and infrastructure.
  * 
- * Follows the Single Responsibility Principle - only handles price query use case.
+ * Follows the Single Responsibility Principle - only handles price query use cases.
  */
 @Service
-public class PriceService implements GetPriceUseCase {
+public class PriceService implements GetPriceUseCase, GetPricesBatchUseCase, GetPriceTimelineUseCase {
 
     private final PriceRepositoryPort priceRepositoryPort;
+    private final PriceCachePort priceCachePort;
+    private final PriceKeyFilterPort priceKeyFilterPort;
+    private final PriceMetricsPort priceMetricsPort;
+    private final SingleFlight<PriceQuery, Price> priceFlights;
+    private final SingleFlight<PriceKey, PriceSegment> segmentFlights;
 
     /**
      * Constructor injection for dependency inversion.
      * Depends on abstractions (ports), not concrete implementations.
      * 
      * @param priceRepositoryPort Port for price persistence operations
+     * @param priceCachePort Port for the resolved price cache, absent when caching is disabled
+     * @param priceKeyFilterPort Port for the known products filter, absent when filtering is disabled
+     * @param priceMetricsPort Port for the lookup measurements, absent when metrics are disabled
+     * @param coalescingEnabled Whether concurrent identical repository calls are collapsed into one
+     * @param coalescingMaxWait Maximum time a lookup waits for the identical call in flight
      */
-    public PriceService(PriceRepositoryPort priceRepositoryPort) {
+    public PriceService(PriceRepositoryPort priceRepositoryPort, Optional<PriceCachePort> priceCachePort,
+                        Optional<PriceKeyFilterPort> priceKeyFilterPort, Optional<PriceMetricsPort> priceMetricsPort,
+                        @Value("${pricing.coalescing.enabled:true}") boolean coalescingEnabled,
+                        @Value("${pricing.coalescing.max-wait:PT0.5S}") Duration coalescingMaxWait) {
         this.priceRepositoryPort = priceRepositoryPort;
+        this.priceCachePort = priceCachePort.orElse(null);
+        this.priceKeyFilterPort = priceKeyFilterPort.orElse(null);
+        this.priceMetricsPort = priceMetricsPort.orElse(null);
+        this.priceFlights = coalescingEnabled ? new SingleFlight<>(coalescingMaxWait, this.priceMetricsPort) : null;
+        this.segmentFlights = coalescingEnabled ? new SingleFlight<>(coalescingMaxWait, this.priceMetricsPort) : null;
     }
 
     /**
@@ -34,10 +68,158 @@ public class PriceService implements GetPriceUseCase {
      * 
      * Business logic: Query the repository for the applicable price.
      * The repository is responsible for applying priority rules.
+     * Products known to have no tariffs are rejected before reaching the cache or the repository.
+     * When caching is enabled, the price is resolved with its validity period and reused
+     * for every application date inside that period; periods without price are cached too.
+     * When coalescing is enabled, concurrent lookups of the same product share one repository call:
+     * the same application date without cache, or any date inside the resolved period with cache.
+     * When metrics are enabled, the lookup, its repository call and its outcome are measured.
      */
     @Override
     public Price getApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
-        return priceRepositoryPort.findApplicablePrice(applicationDate, productId, brandId)
-                .orElseThrow(() -> new PriceNotFoundException(productId, brandId, applicationDate.toString()));
+        long start = System.nanoTime();
+        PriceKey key = new PriceKey(brandId, productId);
+        Price price = null;
+        if (isKnown(key)) {
+            price = priceCachePort == null
+                    ? findPrice(key, applicationDate)
+                    : findSegment(key, applicationDate).getPrice();
+        }
+        recordLookup(brandId, price != null, start);
+        if (price == null) {
+            throw new PriceNotFoundException(productId, brandId, applicationDate);
+        }
+        return price;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Business logic: Same as {@link #getApplicablePrice}, resolving the validity period as well.
+     * With caching enabled this is the cached lookup itself; without it the repository resolves
+     * the segment around the date instead of the single price.
+     */
+    @Override
+    public PriceSegment getApplicablePriceSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        long start = System.nanoTime();
+        PriceKey key = new PriceKey(brandId, productId);
+        PriceSegment segment = isKnown(key) ? findSegment(key, applicationDate) : null;
+        boolean found = segment != null && segment.hasPrice();
+        recordLookup(brandId, found, start);
+        if (!found) {
+            throw new PriceNotFoundException(productId, brandId, applicationDate);
+        }
+        return segment;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Business logic: Resolve all queries with a single repository call.
+     * Queries without applicable price are reported as not found instead of throwing.
+     */
+    @Override
+    public List<PriceLookupResult> getApplicablePrices(List<PriceQuery> queries) {
+        List<PriceQuery> knownQueries = queries.stream()
+                .filter(query -> isKnown(query.getKey()))
+                .toList();
+        Map<PriceQuery, Price> prices = knownQueries.isEmpty()
+                ? Map.of()
+                : priceRepositoryPort.findApplicablePrices(knownQueries);
+        return queries.stream()
+                .map(query -> new PriceLookupResult(query, prices.get(query)))
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Business logic: Resolve the whole range with one repository call instead of a lookup per date.
+     * The cache is bypassed, since it holds the single segments of point lookups.
+     * Products known to have no tariffs get an empty timeline without reaching the repository.
+     */
+    @Override
+    public void getPriceTimeline(LocalDateTime from, LocalDateTime to, Long productId, Long brandId,
+                                 Consumer<PriceSegment> sink) {
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException(from, to);
+        }
+        if (!isKnown(new PriceKey(brandId, productId))) {
+            return;
+        }
+
+        LocalDateTime end = to.equals(LocalDateTime.MAX) ? to : to.plusNanos(1);
+        priceRepositoryPort.findTimeline(from, to, productId, brandId, segment -> {
+            boolean clipped = segment.getFrom().isBefore(from) || segment.getUntil().isAfter(end);
+            sink.accept(clipped
+                    ? new PriceSegment(max(segment.getFrom(), from), min(segment.getUntil(), end), segment.getPrice())
+                    : segment);
+        });
+    }
+
+    private boolean isKnown(PriceKey key) {
+        return priceKeyFilterPort == null || priceKeyFilterPort.mightContain(key);
+    }
+
+    private Price findPrice(PriceKey key, LocalDateTime applicationDate) {
+        if (priceFlights == null) {
+            return queryPrice(key, applicationDate);
+        }
+        return priceFlights.execute(new PriceQuery(applicationDate, key.getProductId(), key.getBrandId()),
+                () -> queryPrice(key, applicationDate), price -> true);
+    }
+
+    private PriceSegment findSegment(PriceKey key, LocalDateTime applicationDate) {
+        if (priceCachePort != null) {
+            Optional<PriceSegment> cached = priceCachePort.get(key, applicationDate);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        return segmentFlights == null
+                ? querySegment(key, applicationDate)
+                : segmentFlights.execute(key, () -> querySegment(key, applicationDate),
+                        shared -> shared.contains(applicationDate));
+    }
+
+    private Price queryPrice(PriceKey key, LocalDateTime applicationDate) {
+        long start = System.nanoTime();
+        Price price = priceRepositoryPort.findApplicablePrice(applicationDate, key.getProductId(), key.getBrandId())
+                .orElse(null);
+        recordRepositoryLookup(start);
+        return price;
+    }
+
+    private PriceSegment querySegment(PriceKey key, LocalDateTime applicationDate) {
+        long generation = priceCachePort == null ? 0 : priceCachePort.generation(key);
+        long start = System.nanoTime();
+        PriceSegment segment = priceRepositoryPort.findSegment(applicationDate, key.getProductId(), key.getBrandId());
+        recordRepositoryLookup(start);
+        if (priceCachePort != null) {
+            priceCachePort.put(key, segment, generation);
+        }
+        return segment;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? b : a;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? b : a;
+    }
+
+    private void recordLookup(Long brandId, boolean found, long start) {
+        if (priceMetricsPort != null) {
+            priceMetricsPort.recordOutcome(brandId, found);
+            priceMetricsPort.recordServiceLookup(System.nanoTime() - start);
+        }
+    }
+
+    private void recordRepositoryLookup(long start) {
+        if (priceMetricsPort != null) {
+            priceMetricsPort.recordRepositoryLookup(System.nanoTime() - start);
+        }
     }
 }
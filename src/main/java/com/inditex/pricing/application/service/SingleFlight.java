@@ -0,0 +1,89 @@
+package com.inditex.pricing.application.service;
+
+import com.inditex.pricing.domain.port.output.PriceMetricsPort;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical calls into one (single-flight).
+ * 
+ * The first caller of a key runs the call; callers of the same key that arrive while it is in flight
+ * wait for its result instead of running their own. A waiter runs the call itself when the result
+ * does not arrive within the maximum wait, the call fails, or the result is not usable for it.
+ * The key is released as soon as the call finishes, so results are never reused afterwards.
+ * 
+ * @param <K> Key of identical calls
+ * @param <V> Result of a call
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+    private final PriceMetricsPort priceMetricsPort;
+
+    /**
+     * @param maxWait Maximum time a caller waits for the call in flight
+     * @param priceMetricsPort Port where the coalesced calls are counted, null when metrics are disabled
+     */
+    SingleFlight(Duration maxWait, PriceMetricsPort priceMetricsPort) {
+        this.maxWaitNanos = maxWait.toNanos();
+        this.priceMetricsPort = priceMetricsPort;
+    }
+
+    /**
+     * Runs the call, or joins the identical call in flight.
+     * 
+     * @param key Key of the call
+     * @param call Call to run
+     * @param usable Whether the result of another caller is valid for this one
+     * @return Result of the call
+     */
+    V execute(K key, Supplier<V> call, Predicate<V> usable) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader == null) {
+            return lead(key, flight, call);
+        }
+
+        try {
+            V shared = leader.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            if (usable.test(shared)) {
+                recordCoalesced(true);
+                return shared;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            // The waiter runs its own call
+        }
+        recordCoalesced(false);
+        return call.get();
+    }
+
+    private V lead(K key, CompletableFuture<V> flight, Supplier<V> call) {
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private void recordCoalesced(boolean shared) {
+        if (priceMetricsPort != null) {
+            priceMetricsPort.recordCoalescedLookup(shared);
+        }
+    }
+}
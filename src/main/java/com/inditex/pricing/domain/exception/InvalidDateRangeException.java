@@ -0,0 +1,27 @@
+package com.inditex.pricing.domain.exception;
+
+import java.time.LocalDateTime;
+
+/**
+ * Exception thrown when a date range ends before it starts.
+ * This is a domain exception that represents a business rule violation.
+ */
+public class InvalidDateRangeException extends RuntimeException {
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    public InvalidDateRangeException(LocalDateTime from, LocalDateTime to) {
+        super(String.format("Invalid date range: from=%s is after to=%s", from, to));
+        this.from = from;
+        this.to = to;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+}
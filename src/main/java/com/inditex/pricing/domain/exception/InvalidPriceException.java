@@ -0,0 +1,43 @@
+package com.inditex.pricing.domain.exception;
+
+/**
+ * Exception thrown when an imported tariff is malformed or breaks a tariff rule.
+ * This is a domain exception that represents a business rule violation.
+ * 
+ * Carries the position of the offending row in the imported file (1-based, header excluded)
+ * and how many rows were already committed, so the import can be fixed and resumed.
+ */
+public class InvalidPriceException extends RuntimeException {
+
+    private final long row;
+    private final String reason;
+    private final long committedRows;
+
+    public InvalidPriceException(long row, String reason) {
+        this(row, reason, -1);
+    }
+
+    public InvalidPriceException(long row, String reason, long committedRows) {
+        super(String.format("Invalid price at row %d: %s", row, reason));
+        this.row = row;
+        this.reason = reason;
+        this.committedRows = committedRows;
+    }
+
+    public long getRow() {
+        return row;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Rows of the import committed before the invalid one, or -1 when unknown.
+     * 
+     * @return committed rows
+     */
+    public long getCommittedRows() {
+        return committedRows;
+    }
+}
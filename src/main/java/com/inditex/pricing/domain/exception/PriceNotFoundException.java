@@ -1,23 +1,55 @@
 package com.inditex.pricing.domain.exception;
 
+import java.time.LocalDateTime;
+
 /**
  * Exception thrown when a price is not found for the given criteria.
  * This is a domain exception that represents a business rule violation.
+ * 
+ * Not-found is an expected outcome (unknown products, stale links), so the exception
+ * does not capture a stack trace and only formats its message when it is read.
  */
 public class PriceNotFoundException extends RuntimeException {
 
     private static final String DEFAULT_MESSAGE = "No applicable price found for the given criteria";
 
+    private final Long productId;
+    private final Long brandId;
+    private final Object applicationDate;
+
     public PriceNotFoundException() {
-        super(DEFAULT_MESSAGE);
+        this(DEFAULT_MESSAGE);
     }
 
     public PriceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.productId = null;
+        this.brandId = null;
+        this.applicationDate = null;
     }
 
     public PriceNotFoundException(Long productId, Long brandId, String applicationDate) {
-        super(String.format("No applicable price found for productId=%d, brandId=%d, applicationDate=%s",
-                productId, brandId, applicationDate));
+        this(productId, brandId, (Object) applicationDate);
+    }
+
+    public PriceNotFoundException(Long productId, Long brandId, LocalDateTime applicationDate) {
+        this(productId, brandId, (Object) applicationDate);
+    }
+
+    private PriceNotFoundException(Long productId, Long brandId, Object applicationDate) {
+        super(null, null, false, false);
+        this.productId = productId;
+        this.brandId = brandId;
+        this.applicationDate = applicationDate;
+    }
+
+    @Override
+    public String getMessage() {
+        String message = super.getMessage();
+        if (message != null) {
+            return message;
+        }
+        return String.format("No applicable price found for productId=%d, brandId=%d, applicationDate=%s",
+                productId, brandId, applicationDate);
     }
 }
@@ -0,0 +1,67 @@
+package com.inditex.pricing.domain.model;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a tariff import: how many rows were written by this run and how many were skipped
+ * because a previous run of the same import had already committed them.
+ * 
+ * Immutable value object following DDD principles.
+ */
+public final class PriceImportResult {
+
+    private final String importId;
+    private final long skippedRows;
+    private final long importedRows;
+    private final Duration elapsed;
+
+    /**
+     * Constructor for PriceImportResult.
+     * 
+     * @param importId Identifier of the import
+     * @param skippedRows Rows already committed by a previous run
+     * @param importedRows Rows written by this run
+     * @param elapsed Duration of this run
+     */
+    public PriceImportResult(String importId, long skippedRows, long importedRows, Duration elapsed) {
+        this.importId = importId;
+        this.skippedRows = skippedRows;
+        this.importedRows = importedRows;
+        this.elapsed = elapsed;
+    }
+
+    public String getImportId() {
+        return importId;
+    }
+
+    public long getSkippedRows() {
+        return skippedRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Rows committed by this and previous runs.
+     * 
+     * @return total committed rows of the import
+     */
+    public long getCommittedRows() {
+        return skippedRows + importedRows;
+    }
+
+    /**
+     * Write throughput of this run.
+     * 
+     * @return rows written per second
+     */
+    public double getRowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : importedRows * 1_000_000_000.0 / nanos;
+    }
+}
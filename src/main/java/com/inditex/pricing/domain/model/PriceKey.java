@@ -0,0 +1,68 @@
+package com.inditex.pricing.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Identifies the set of tariffs that compete for a product of a brand.
+ * Every price lookup is partitioned by this key before dates and priorities are evaluated.
+ * 
+ * Immutable value object following DDD principles.
+ */
+public final class PriceKey {
+
+    private final Long brandId;
+    private final Long productId;
+
+    /**
+     * Constructor for PriceKey value object.
+     * 
+     * @param brandId Brand identifier
+     * @param productId Product identifier
+     */
+    public PriceKey(Long brandId, Long productId) {
+        this.brandId = brandId;
+        this.productId = productId;
+    }
+
+    /**
+     * Builds the key a price belongs to.
+     * 
+     * @param price Domain price
+     * @return PriceKey of the price
+     */
+    public static PriceKey of(Price price) {
+        return new PriceKey(price.getBrandId(), price.getProductId());
+    }
+
+    public Long getBrandId() {
+        return brandId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PriceKey other)) {
+            return false;
+        }
+        return Objects.equals(brandId, other.brandId) && Objects.equals(productId, other.productId);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(brandId) + Objects.hashCode(productId);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceKey{" +
+                "brandId=" + brandId +
+                ", productId=" + productId +
+                '}';
+    }
+}
@@ -0,0 +1,39 @@
+package com.inditex.pricing.domain.model;
+
+import java.util.Optional;
+
+/**
+ * Outcome of one lookup within a batch: the query and the applicable price, if any.
+ * A missing price is a regular result here instead of a PriceNotFoundException,
+ * so one unknown product does not fail the whole batch.
+ * 
+ * Immutable value object following DDD principles.
+ */
+public final class PriceLookupResult {
+
+    private final PriceQuery query;
+    private final Price price;
+
+    /**
+     * Constructor for PriceLookupResult.
+     * 
+     * @param query Lookup criteria
+     * @param price Applicable price, or null if none applies
+     */
+    public PriceLookupResult(PriceQuery query, Price price) {
+        this.query = query;
+        this.price = price;
+    }
+
+    public PriceQuery getQuery() {
+        return query;
+    }
+
+    public Optional<Price> getPrice() {
+        return Optional.ofNullable(price);
+    }
+
+    public boolean isFound() {
+        return price != null;
+    }
+}
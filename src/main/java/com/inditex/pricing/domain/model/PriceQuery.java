@@ -0,0 +1,72 @@
+package com.inditex.pricing.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Criteria of a single price lookup: which product of which brand, at what date.
+ * 
+ * Immutable value object following DDD principles.
+ */
+public final class PriceQuery {
+
+    private final LocalDateTime applicationDate;
+    private final Long productId;
+    private final Long brandId;
+
+    /**
+     * Constructor for PriceQuery value object.
+     * 
+     * @param applicationDate Date and time to apply the price query
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     */
+    public PriceQuery(LocalDateTime applicationDate, Long productId, Long brandId) {
+        this.applicationDate = applicationDate;
+        this.productId = productId;
+        this.brandId = brandId;
+    }
+
+    public LocalDateTime getApplicationDate() {
+        return applicationDate;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Long getBrandId() {
+        return brandId;
+    }
+
+    public PriceKey getKey() {
+        return new PriceKey(brandId, productId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PriceQuery other)) {
+            return false;
+        }
+        return Objects.equals(applicationDate, other.applicationDate)
+                && Objects.equals(productId, other.productId)
+                && Objects.equals(brandId, other.brandId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceQuery{" +
+                "applicationDate=" + applicationDate +
+                ", productId=" + productId +
+                ", brandId=" + brandId +
+                '}';
+    }
+}
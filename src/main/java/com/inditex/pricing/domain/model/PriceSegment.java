@@ -0,0 +1,83 @@
+package com.inditex.pricing.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A period of time during which a single price is the applicable one.
+ * The period is half-open: it starts at {@code from} (inclusive) and ends at {@code until} (exclusive),
+ * so consecutive segments of a timeline share their boundary without overlapping.
+ * 
+ * A segment without price represents a gap of the timeline: a period in which no tariff applies.
+ * 
+ * Immutable value object following DDD principles.
+ */
+public final class PriceSegment {
+
+    private final LocalDateTime from;
+    private final LocalDateTime until;
+    private final Price price;
+
+    /**
+     * Constructor for PriceSegment value object.
+     * 
+     * @param from First instant of the segment (inclusive)
+     * @param until First instant after the segment (exclusive)
+     * @param price Price that wins during the whole segment, or null for a gap
+     */
+    public PriceSegment(LocalDateTime from, LocalDateTime until, Price price) {
+        this.from = from;
+        this.until = until;
+        this.price = price;
+    }
+
+    /**
+     * Builds a segment in which no price applies.
+     * 
+     * @param from First instant of the gap (inclusive)
+     * @param until First instant after the gap (exclusive)
+     * @return PriceSegment without price
+     */
+    public static PriceSegment gap(LocalDateTime from, LocalDateTime until) {
+        return new PriceSegment(from, until, null);
+    }
+
+    /**
+     * Checks whether a price applies during this segment.
+     * 
+     * @return false if this segment is a gap
+     */
+    public boolean hasPrice() {
+        return price != null;
+    }
+
+    /**
+     * Checks whether the given instant falls inside this segment.
+     * 
+     * @param date Date and time to check
+     * @return true if from &lt;= date &lt; until
+     */
+    public boolean contains(LocalDateTime date) {
+        return !date.isBefore(from) && date.isBefore(until);
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getUntil() {
+        return until;
+    }
+
+    public Price getPrice() {
+        return price;
+    }
+
+    @Override
+    public String toString() {
+        return "PriceSegment{" +
+                "from=" + from +
+                ", until=" + until +
+                ", price=" + price +
+                '}';
+    }
+}
@@ -0,0 +1,95 @@
+package com.inditex.pricing.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Effective price timeline of a single product and brand.
+ * Holds the sorted, non-overlapping segments produced by
+ * {@link com.inditex.pricing.domain.service.PriceTimelineResolver}, so the priority rule
+ * has already been applied and a lookup is a binary search over the segment start dates.
+ * 
+ * Immutable value object following DDD principles.
+ */
+public final class PriceTimeline {
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(List.of());
+
+    private final LocalDateTime[] starts;
+    private final PriceSegment[] segments;
+
+    /**
+     * Constructor for PriceTimeline.
+     * 
+     * @param segments Segments sorted by start date, without overlaps
+     */
+    public PriceTimeline(List<PriceSegment> segments) {
+        this.segments = segments.toArray(new PriceSegment[0]);
+        this.starts = new LocalDateTime[this.segments.length];
+        for (int i = 0; i < this.segments.length; i++) {
+            this.starts[i] = this.segments[i].getFrom();
+        }
+    }
+
+    /**
+     * Timeline without any segment.
+     * 
+     * @return shared empty timeline
+     */
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Finds the segment that contains the given date.
+     * 
+     * @param date Date and time to look up
+     * @return Optional containing the segment if the date is covered, empty otherwise
+     */
+    public Optional<PriceSegment> findSegment(LocalDateTime date) {
+        int index = Arrays.binarySearch(starts, date);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        if (index < 0) {
+            return Optional.empty();
+        }
+        PriceSegment segment = segments[index];
+        return segment.contains(date) ? Optional.of(segment) : Optional.empty();
+    }
+
+    /**
+     * Returns the segment that contains the given date, or the gap around it when no price applies.
+     * 
+     * @param date Date and time to look up
+     * @return PriceSegment covering the date, never null
+     */
+    public PriceSegment segmentAt(LocalDateTime date) {
+        int index = Arrays.binarySearch(starts, date);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        if (index >= 0 && segments[index].contains(date)) {
+            return segments[index];
+        }
+        LocalDateTime gapStart = index >= 0 ? segments[index].getUntil() : LocalDateTime.MIN;
+        LocalDateTime gapEnd = index + 1 < segments.length ? segments[index + 1].getFrom() : LocalDateTime.MAX;
+        return PriceSegment.gap(gapStart, gapEnd);
+    }
+
+    /**
+     * Returns the segments of this timeline.
+     * 
+     * @return unmodifiable list of segments sorted by start date
+     */
+    public List<PriceSegment> getSegments() {
+        return Collections.unmodifiableList(Arrays.asList(segments));
+    }
+
+    public int size() {
+        return segments.length;
+    }
+}
@@ -0,0 +1,27 @@
+package com.inditex.pricing.domain.port.input;
+
+import com.inditex.pricing.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Input port (use case interface) for exporting the prices of a whole brand.
+ * Replaces one {@link GetPriceUseCase} call per product for feeds and search indexes.
+ * 
+ * Part of hexagonal architecture - defines the API for the domain.
+ */
+public interface ExportBrandPricesUseCase {
+
+    /**
+     * Resolves the applicable price of every product of a brand at the given date, applying the
+     * priority rule. Prices are emitted as they are resolved, so the caller can write them out
+     * with a bounded amount of memory; products without applicable price are skipped.
+     * 
+     * @param applicationDate Date and time to apply the price query
+     * @param brandId Brand identifier
+     * @param sink Consumer receiving one price per product, in product order
+     * @return number of prices exported
+     */
+    long exportBrandPrices(LocalDateTime applicationDate, Long brandId, Consumer<Price> sink);
+}
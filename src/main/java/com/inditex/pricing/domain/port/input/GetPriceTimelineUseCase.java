@@ -0,0 +1,30 @@
+package com.inditex.pricing.domain.port.input;
+
+import com.inditex.pricing.domain.model.PriceSegment;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Input port (use case interface) for querying the price history of a product.
+ * This defines the contract for resolving every price of a date range in one call.
+ * 
+ * Part of hexagonal architecture - defines the API for the domain.
+ */
+public interface GetPriceTimelineUseCase {
+
+    /**
+     * Resolves the effective prices of a product over a date range, applying the priority rule.
+     * Segments are emitted in chronological order as they are resolved, so the caller can write
+     * them out without holding the whole timeline. Periods without price are skipped.
+     * 
+     * @param from First instant of the range, inclusive
+     * @param to Last instant of the range, inclusive
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @param sink Consumer receiving the segments, clipped to the range
+     * @throws com.inditex.pricing.domain.exception.InvalidDateRangeException if from is after to
+     */
+    void getPriceTimeline(LocalDateTime from, LocalDateTime to, Long productId, Long brandId,
+                          Consumer<PriceSegment> sink);
+}
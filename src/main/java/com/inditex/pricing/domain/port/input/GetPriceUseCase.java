@@ -1,6 +1,7 @@
 package com.inditex.pricing.domain.port.input;
 
 import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceSegment;
 
 import java.time.LocalDateTime;
 
@@ -23,4 +24,16 @@ public interface GetPriceUseCase {
      * @throws com.inditex.pricing.domain.exception.PriceNotFoundException if no price is found
      */
     Price getApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId);
+
+    /**
+     * Retrieves the applicable price for a product at a specific date together with the period
+     * during which it stays the applicable one, that is, until the next tariff boundary.
+     * 
+     * @param applicationDate Date and time to apply the price query
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @return The PriceSegment that contains the date, always with price
+     * @throws com.inditex.pricing.domain.exception.PriceNotFoundException if no price is found
+     */
+    PriceSegment getApplicablePriceSegment(LocalDateTime applicationDate, Long productId, Long brandId);
 }
@@ -0,0 +1,24 @@
+package com.inditex.pricing.domain.port.input;
+
+import com.inditex.pricing.domain.model.PriceLookupResult;
+import com.inditex.pricing.domain.model.PriceQuery;
+
+import java.util.List;
+
+/**
+ * Input port (use case interface) for querying many prices at once.
+ * This defines the contract for resolving a whole page of products in one call.
+ * 
+ * Part of hexagonal architecture - defines the API for the domain.
+ */
+public interface GetPricesBatchUseCase {
+
+    /**
+     * Retrieves the applicable price of every query.
+     * When multiple prices overlap, the one with highest priority is returned.
+     * 
+     * @param queries Lookup criteria
+     * @return One result per query, in the same order, marking the queries without applicable price
+     */
+    List<PriceLookupResult> getApplicablePrices(List<PriceQuery> queries);
+}
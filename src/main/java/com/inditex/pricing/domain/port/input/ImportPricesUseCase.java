@@ -0,0 +1,31 @@
+package com.inditex.pricing.domain.port.input;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceImportResult;
+
+import java.util.Iterator;
+
+/**
+ * Input port (use case interface) for importing tariffs.
+ * Write-side counterpart of {@link GetPriceUseCase}.
+ * 
+ * Part of hexagonal architecture - defines the API for the domain.
+ */
+public interface ImportPricesUseCase {
+
+    /**
+     * Inserts or updates the given tariffs, consuming them as a stream.
+     * 
+     * A tariff is identified by brand, product, price list and start date: importing it again
+     * updates its end date, priority, price and currency. Rows are committed in batches and the
+     * progress is checkpointed under {@code importId}: running the same import again with the same
+     * rows skips the ones already committed and resumes after them.
+     * 
+     * @param importId Identifier of the import, chosen by the caller
+     * @param prices Tariffs to import, in file order; their identifiers are ignored
+     * @return PriceImportResult with the rows skipped and written by this run
+     * @throws com.inditex.pricing.domain.exception.InvalidPriceException if a row is invalid;
+     *         the batches before it stay committed
+     */
+    PriceImportResult importPrices(String importId, Iterator<Price> prices);
+}
@@ -0,0 +1,47 @@
+package com.inditex.pricing.domain.port.output;
+
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceSegment;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Output port for caching resolved prices.
+ * This defines the contract that the infrastructure layer must implement.
+ * 
+ * Entries are stored per product and brand together with their validity period,
+ * so one entry answers every application date inside that period.
+ * A segment read before an invalidation of its product is not stored after it.
+ * 
+ * Part of hexagonal architecture - domain defines what it needs from infrastructure.
+ */
+public interface PriceCachePort {
+
+    /**
+     * Gets the cached segment of a product if it covers the given date.
+     * 
+     * @param key Brand and product of the lookup
+     * @param applicationDate Date and time to apply the price query
+     * @return Optional containing the cached PriceSegment, empty on a miss
+     */
+    Optional<PriceSegment> get(PriceKey key, LocalDateTime applicationDate);
+
+    /**
+     * Gets the invalidation generation of a product, to be read before querying the segment to cache.
+     * 
+     * @param key Brand and product of the lookup
+     * @return Token that changes whenever the product is invalidated
+     */
+    long generation(PriceKey key);
+
+    /**
+     * Stores the segment resolved for a product, replacing any previous one, unless the product
+     * was invalidated since the generation was read: the segment may predate the change then.
+     * 
+     * @param key Brand and product of the lookup
+     * @param segment Resolved price and its validity period
+     * @param generation Generation read before the segment was queried
+     */
+    void put(PriceKey key, PriceSegment segment, long generation);
+}
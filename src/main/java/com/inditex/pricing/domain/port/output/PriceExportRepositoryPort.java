@@ -0,0 +1,26 @@
+package com.inditex.pricing.domain.port.output;
+
+import com.inditex.pricing.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Output port for bulk price reads.
+ * Whole-brand counterpart of {@link PriceRepositoryPort}, which looks up one product at a time.
+ * 
+ * Part of hexagonal architecture - domain defines what it needs from infrastructure.
+ */
+public interface PriceExportRepositoryPort {
+
+    /**
+     * Finds the applicable price of every product of a brand at the given date, applying the
+     * priority rule. Prices are emitted as they are read, so the caller can write them out
+     * without holding the brand in memory.
+     * 
+     * @param applicationDate Date and time to apply the price query
+     * @param brandId Brand identifier
+     * @param sink Consumer receiving one price per product with an applicable price, in product order
+     */
+    void findApplicablePrices(LocalDateTime applicationDate, Long brandId, Consumer<Price> sink);
+}
@@ -0,0 +1,30 @@
+package com.inditex.pricing.domain.port.output;
+
+import com.inditex.pricing.domain.model.PriceKey;
+
+/**
+ * Output port for a fast membership check of the products that have tariffs.
+ * This defines the contract that the infrastructure layer must implement.
+ * 
+ * Implementations may answer false positives but never false negatives, so a
+ * {@code false} answer is enough to reject a lookup without querying the repository.
+ * 
+ * Part of hexagonal architecture - domain defines what it needs from infrastructure.
+ */
+public interface PriceKeyFilterPort {
+
+    /**
+     * Checks whether the product of a brand may have tariffs.
+     * 
+     * @param key Brand and product of the lookup
+     * @return false if the product certainly has no tariffs
+     */
+    boolean mightContain(PriceKey key);
+
+    /**
+     * Registers a product that has received tariffs.
+     * 
+     * @param key Brand and product with tariffs
+     */
+    void register(PriceKey key);
+}
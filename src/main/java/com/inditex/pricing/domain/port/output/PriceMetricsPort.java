@@ -0,0 +1,63 @@
+package com.inditex.pricing.domain.port.output;
+
+/**
+ * Output port for the measurements of price lookups.
+ * This defines the contract that the infrastructure layer must implement.
+ * 
+ * Called on every lookup, so implementations must not allocate or block.
+ * 
+ * Part of hexagonal architecture - domain defines what it needs from infrastructure.
+ */
+public interface PriceMetricsPort {
+
+    /**
+     * Records the time spent in the input adapter, including the service call and the response mapping.
+     * 
+     * @param nanos Elapsed time in nanoseconds
+     */
+    void recordControllerLookup(long nanos);
+
+    /**
+     * Records the time spent mapping the domain price to the response.
+     * 
+     * @param nanos Elapsed time in nanoseconds
+     */
+    void recordMapping(long nanos);
+
+    /**
+     * Records the time spent writing the response body.
+     * 
+     * @param nanos Elapsed time in nanoseconds
+     */
+    void recordSerialization(long nanos);
+
+    /**
+     * Records the time spent resolving a lookup in the application service.
+     * 
+     * @param nanos Elapsed time in nanoseconds
+     */
+    void recordServiceLookup(long nanos);
+
+    /**
+     * Records the time spent in a repository call of a lookup.
+     * 
+     * @param nanos Elapsed time in nanoseconds
+     */
+    void recordRepositoryLookup(long nanos);
+
+    /**
+     * Counts the outcome of a lookup.
+     * 
+     * @param brandId Brand of the lookup
+     * @param found Whether a price applied
+     */
+    void recordOutcome(Long brandId, boolean found);
+
+    /**
+     * Counts a lookup that found an identical repository call in flight and waited for it.
+     * 
+     * @param shared Whether the result of the call in flight was used; false when the lookup
+     *               had to query the repository itself
+     */
+    void recordCoalescedLookup(boolean shared);
+}
@@ -1,9 +1,15 @@
 package com.inditex.pricing.domain.port.output;
 
 import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.PriceSegment;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Output port (repository interface) for price persistence.
@@ -22,4 +28,80 @@ public interface PriceRepositoryPort {
      * @return Optional containing the Price if found, empty otherwise
      */
     Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId);
+
+    /**
+     * Finds the applicable price together with the period during which it stays applicable,
+     * that is, until the next START_DATE or END_DATE boundary of the product tariffs.
+     * Adapters may return a shorter segment inside that period, which is still valid but expires sooner.
+     * When no price applies, the gap in which the date falls is returned instead,
+     * so the absence of a price can be cached as well.
+     * 
+     * @param applicationDate Date and time to apply the price query
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @return PriceSegment that covers the date, without price if the date falls in a gap
+     */
+    PriceSegment findSegment(LocalDateTime applicationDate, Long productId, Long brandId);
+
+    /**
+     * Finds the applicable price of each of the given queries.
+     * 
+     * The default implementation performs one lookup per query; adapters backed by a remote
+     * store should override it with a set-based query.
+     * 
+     * @param queries Lookup criteria
+     * @return Map from each query to its Price; queries without applicable price are absent
+     */
+    default Map<PriceQuery, Price> findApplicablePrices(Collection<PriceQuery> queries) {
+        Map<PriceQuery, Price> prices = new HashMap<>();
+        for (PriceQuery query : queries) {
+            findApplicablePrice(query.getApplicationDate(), query.getProductId(), query.getBrandId())
+                    .ifPresent(price -> prices.put(query, price));
+        }
+        return prices;
+    }
+
+    /**
+     * Finds the segment that covers each of the given queries.
+     * 
+     * The default implementation performs one lookup per query; adapters backed by a remote
+     * store should override it with a set-based query.
+     * 
+     * @param queries Lookup criteria
+     * @return Map from each query to its PriceSegment, without price if the date falls in a gap
+     */
+    default Map<PriceQuery, PriceSegment> findSegments(Collection<PriceQuery> queries) {
+        Map<PriceQuery, PriceSegment> segments = new HashMap<>();
+        for (PriceQuery query : queries) {
+            segments.put(query, findSegment(query.getApplicationDate(), query.getProductId(), query.getBrandId()));
+        }
+        return segments;
+    }
+
+    /**
+     * Finds the effective price segments of a product that overlap a date range.
+     * 
+     * The default implementation walks the timeline with one findSegment call per segment or gap;
+     * adapters backed by a database should override it with a single range scan of the tariffs.
+     * 
+     * @param from First instant of the range, inclusive
+     * @param to Last instant of the range, inclusive
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @param sink Consumer receiving the segments with price in chronological order, not clipped to the range
+     */
+    default void findTimeline(LocalDateTime from, LocalDateTime to, Long productId, Long brandId,
+                              Consumer<PriceSegment> sink) {
+        LocalDateTime date = from;
+        while (!date.isAfter(to)) {
+            PriceSegment segment = findSegment(date, productId, brandId);
+            if (segment.hasPrice()) {
+                sink.accept(segment);
+            }
+            if (segment.getUntil().equals(LocalDateTime.MAX)) {
+                return;
+            }
+            date = segment.getUntil();
+        }
+    }
 }
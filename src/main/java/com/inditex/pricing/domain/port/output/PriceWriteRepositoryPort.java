@@ -0,0 +1,32 @@
+package com.inditex.pricing.domain.port.output;
+
+import com.inditex.pricing.domain.model.Price;
+
+import java.util.List;
+
+/**
+ * Output port for price write operations.
+ * Write-side counterpart of {@link PriceRepositoryPort}.
+ * 
+ * Part of hexagonal architecture - domain defines what it needs from infrastructure.
+ */
+public interface PriceWriteRepositoryPort {
+
+    /**
+     * Gets the number of rows already committed by an import.
+     * 
+     * @param importId Identifier of the import
+     * @return committed rows, 0 for a new import
+     */
+    long findCheckpoint(String importId);
+
+    /**
+     * Inserts or updates a batch of tariffs and advances the import checkpoint atomically:
+     * either both are committed or neither is.
+     * 
+     * @param importId Identifier of the import
+     * @param prices Tariffs of the batch
+     * @param checkpoint Rows of the import committed once this batch is
+     */
+    void saveBatch(String importId, List<Price> prices, long checkpoint);
+}
@@ -0,0 +1,137 @@
+package com.inditex.pricing.domain.service;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.model.PriceTimeline;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Domain service that applies the tariff priority rule over time.
+ * 
+ * Given the (possibly overlapping) prices of one product and brand, it produces the
+ * non-overlapping segments in which a single price is applicable:
+ * - A price applies from START_DATE to END_DATE, both inclusive
+ * - When several prices apply at the same instant, the highest priority wins
+ * - Ties are broken by the lowest identifier, so the result is deterministic
+ * 
+ * The resolution is a sweep over the start and end boundaries of the prices, O(n log n).
+ */
+public final class PriceTimelineResolver {
+
+    private static final Comparator<Price> BY_PRECEDENCE = Comparator
+            .comparing(Price::getPriority, Comparator.reverseOrder())
+            .thenComparing(Price::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final Comparator<Price> BY_START_DATE = Comparator.comparing(Price::getStartDate);
+
+    private static final Comparator<Price> BY_END_DATE = Comparator.comparing(Price::getEndDate);
+
+    private PriceTimelineResolver() {
+    }
+
+    /**
+     * Resolves the effective timeline of the given prices.
+     * All prices must belong to the same product and brand.
+     * 
+     * @param prices Prices in any order
+     * @return PriceTimeline with the winning price of every period
+     */
+    public static PriceTimeline resolve(Collection<Price> prices) {
+        List<Price> sorted = new ArrayList<>(prices);
+        sorted.sort(BY_START_DATE);
+        List<PriceSegment> segments = new ArrayList<>();
+        resolve(sorted.iterator(), segments::add);
+        return new PriceTimeline(segments);
+    }
+
+    /**
+     * Resolves the effective timeline of the given prices, emitting each segment as soon as it is closed.
+     * Only one price per overlapping tariff is kept in memory, so the prices can be streamed from a cursor.
+     * 
+     * @param pricesByStartDate Prices of one product and brand, ordered by start date
+     * @param sink Consumer receiving the segments in chronological order
+     * @throws IllegalArgumentException if the prices are not ordered by start date
+     */
+    public static void resolve(Iterator<Price> pricesByStartDate, Consumer<PriceSegment> sink) {
+        PriorityQueue<Price> active = new PriorityQueue<>(BY_PRECEDENCE);
+        PriorityQueue<Price> ending = new PriorityQueue<>(BY_END_DATE);
+        Price next = nextValid(pricesByStartDate);
+        LocalDateTime segmentStart = null;
+
+        while (next != null || !ending.isEmpty()) {
+            LocalDateTime boundary = next == null ? exclusiveEnd(ending.peek())
+                    : ending.isEmpty() ? next.getStartDate()
+                    : min(next.getStartDate(), exclusiveEnd(ending.peek()));
+            Price winnerBefore = active.peek();
+
+            while (!ending.isEmpty() && !exclusiveEnd(ending.peek()).isAfter(boundary)) {
+                active.remove(ending.poll());
+            }
+            while (next != null && next.getStartDate().equals(boundary)) {
+                active.add(next);
+                ending.add(next);
+                Price following = nextValid(pricesByStartDate);
+                if (following != null && following.getStartDate().isBefore(boundary)) {
+                    throw new IllegalArgumentException("Prices must be ordered by start date");
+                }
+                next = following;
+            }
+
+            Price winnerAfter = active.peek();
+            if (winnerAfter != winnerBefore) {
+                if (winnerBefore != null) {
+                    sink.accept(new PriceSegment(segmentStart, boundary, winnerBefore));
+                }
+                segmentStart = boundary;
+            }
+        }
+    }
+
+    /**
+     * Selects the price that applies at the given date among a set of candidates,
+     * using the same precedence as the timeline resolution.
+     * 
+     * @param candidates Prices of one product and brand
+     * @param date Date and time to check
+     * @return Optional containing the winning price, empty if no candidate covers the date
+     */
+    public static Optional<Price> applicableAt(Collection<Price> candidates, LocalDateTime date) {
+        return candidates.stream()
+                .filter(price -> !date.isBefore(price.getStartDate()) && !date.isAfter(price.getEndDate()))
+                .min(BY_PRECEDENCE);
+    }
+
+    /**
+     * Converts the inclusive END_DATE of a price into the first instant it no longer applies.
+     * 
+     * @param price Domain price
+     * @return END_DATE plus the smallest representable time unit
+     */
+    public static LocalDateTime exclusiveEnd(Price price) {
+        LocalDateTime endDate = price.getEndDate();
+        return endDate.equals(LocalDateTime.MAX) ? endDate : endDate.plusNanos(1);
+    }
+
+    private static Price nextValid(Iterator<Price> prices) {
+        while (prices.hasNext()) {
+            Price price = prices.next();
+            if (!price.getEndDate().isBefore(price.getStartDate())) {
+                return price;
+            }
+        }
+        return null;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? b : a;
+    }
+}
@@ -0,0 +1,88 @@
+package com.inditex.pricing.infrastructure.adapter.input.binary;
+
+import com.inditex.pricing.domain.model.PriceQuery;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Java client of the binary price protocol (see {@link BinaryPriceProtocol}), for internal callers
+ * and the transport benchmark.
+ * 
+ * Holds one connection and sends one request at a time; use one client per thread, or a pool.
+ */
+public class BinaryPriceClient implements Closeable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private long nextRequestId;
+
+    /**
+     * Opens a connection to a binary price server.
+     * 
+     * @param host Server host
+     * @param port Server port ({@code pricing.binary.port})
+     * @throws IOException if the connection cannot be opened
+     */
+    public BinaryPriceClient(String host, int port) throws IOException {
+        this.socket = new Socket(host, port);
+        this.socket.setTcpNoDelay(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE));
+    }
+
+    /**
+     * Looks up the applicable price of a product.
+     * 
+     * @param query Lookup criteria
+     * @return Response with status {@link BinaryPriceProtocol#FOUND} or {@link BinaryPriceProtocol#NOT_FOUND},
+     *         or {@link BinaryPriceProtocol#INVALID} / {@link BinaryPriceProtocol#ERROR} with a message
+     * @throws IOException if the connection fails
+     */
+    public synchronized BinaryPriceResponse lookup(PriceQuery query) throws IOException {
+        long requestId = nextRequestId++;
+        BinaryPriceProtocol.writeLookup(out, requestId, query);
+        out.flush();
+        return BinaryPriceProtocol.readResponse(in);
+    }
+
+    /**
+     * Looks up the applicable prices of many products, receiving them as the server streams them.
+     * 
+     * @param queries Lookup criteria
+     * @param sink Consumer receiving one response per query, in query order, with its position as index;
+     *             or a single {@link BinaryPriceProtocol#INVALID} / {@link BinaryPriceProtocol#ERROR}
+     *             response in place of the rest when the batch is refused or fails
+     * @throws IOException if the connection fails
+     */
+    public synchronized void lookupBatch(List<PriceQuery> queries, Consumer<BinaryPriceResponse> sink) throws IOException {
+        long requestId = nextRequestId++;
+        BinaryPriceProtocol.writeBatch(out, requestId, queries);
+        out.flush();
+        while (true) {
+            BinaryPriceResponse response = BinaryPriceProtocol.readResponse(in);
+            if (response.getStatus() == BinaryPriceProtocol.END) {
+                return;
+            }
+            sink.accept(response);
+            if (response.getStatus() == BinaryPriceProtocol.INVALID || response.getStatus() == BinaryPriceProtocol.ERROR) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,226 @@
+package com.inditex.pricing.infrastructure.adapter.input.binary;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wire format of the binary price protocol, shared by {@link BinaryPriceServer} and {@link BinaryPriceClient}.
+ * 
+ * Every message is a frame: a big-endian int32 with the length of the rest of the frame, then the payload.
+ * Integers are big-endian; dates are epoch milliseconds of the local date-time read at UTC, so
+ * 2020-06-14T10:00:00 is 1592128800000; prices are integers in minor units plus their number of
+ * fraction digits (35.50 EUR is 3550 with 2 digits: those of the currency, or more if the price needs them).
+ * 
+ * Requests: {@code type (int8), requestId (int64)}, then
+ * - {@link #LOOKUP}: {@code applicationDate (int64), productId (int64), brandId (int64)}
+ * - {@link #BATCH}: {@code count (int32)}, then count times the three fields of a lookup
+ * 
+ * Responses: {@code status (int8), requestId (int64), index (int32)}, then
+ * - {@link #FOUND}: {@code productId, brandId, priceList, startDate, endDate, price (int64 each),
+ *   fractionDigits (int8), currency (3 ASCII bytes)}
+ * - {@link #NOT_FOUND}: nothing
+ * - {@link #END}: nothing; closes a batch, whose index is the number of lookups
+ * - {@link #INVALID} and {@link #ERROR}: a message, as its UTF-8 length (int16) and bytes
+ * 
+ * A lookup gets a single response with index 0. A batch gets one response per lookup, in request
+ * order and with the position of the lookup as index, followed by {@link #END}; if it fails midway,
+ * an {@link #ERROR} takes the place of the remaining responses. Requests may be pipelined on a
+ * connection; responses come back in request order. A frame the server cannot decode gets an
+ * {@link #INVALID} response and the connection is closed.
+ */
+public final class BinaryPriceProtocol {
+
+    /** Request type of a single lookup. */
+    public static final byte LOOKUP = 1;
+    /** Request type of a batch of lookups. */
+    public static final byte BATCH = 2;
+
+    /** Response status of a lookup with applicable price. */
+    public static final byte FOUND = 0;
+    /** Response status of a lookup without applicable price. */
+    public static final byte NOT_FOUND = 1;
+    /** Response status closing a batch. */
+    public static final byte END = 2;
+    /** Response status of a malformed request, which is not processed. */
+    public static final byte INVALID = 3;
+    /** Response status of a request that failed on the server. */
+    public static final byte ERROR = 4;
+
+    static final int LOOKUP_BYTES = 3 * Long.BYTES;
+    static final int REQUEST_HEADER_BYTES = 1 + Long.BYTES;
+    static final int RESPONSE_HEADER_BYTES = 1 + Long.BYTES + Integer.BYTES;
+    static final int PRICE_BYTES = 6 * Long.BYTES + 1 + 3;
+
+    private static final int MAX_MESSAGE_CHARS = 256;
+
+    private static final Map<String, Integer> FRACTION_DIGITS = new ConcurrentHashMap<>();
+
+    private BinaryPriceProtocol() {
+    }
+
+    /**
+     * Converts a local date-time to the epoch milliseconds of the protocol.
+     * 
+     * @param dateTime Local date-time
+     * @return Epoch milliseconds of the date-time read at UTC
+     */
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * Converts the epoch milliseconds of the protocol to a local date-time.
+     * 
+     * @param epochMillis Epoch milliseconds
+     * @return Local date-time at UTC
+     */
+    public static LocalDateTime fromEpochMillis(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    static void writeLookup(DataOutputStream out, long requestId, PriceQuery query) throws IOException {
+        out.writeInt(REQUEST_HEADER_BYTES + LOOKUP_BYTES);
+        out.writeByte(LOOKUP);
+        out.writeLong(requestId);
+        writeQuery(out, query);
+    }
+
+    static void writeBatch(DataOutputStream out, long requestId, List<PriceQuery> queries) throws IOException {
+        out.writeInt(REQUEST_HEADER_BYTES + Integer.BYTES + queries.size() * LOOKUP_BYTES);
+        out.writeByte(BATCH);
+        out.writeLong(requestId);
+        out.writeInt(queries.size());
+        for (PriceQuery query : queries) {
+            writeQuery(out, query);
+        }
+    }
+
+    static PriceQuery readQuery(DataInputStream in) throws IOException {
+        LocalDateTime applicationDate = fromEpochMillis(in.readLong());
+        long productId = in.readLong();
+        long brandId = in.readLong();
+        return new PriceQuery(applicationDate, productId, brandId);
+    }
+
+    /**
+     * Writes a FOUND frame. The price is checked before the first byte is written, so when it cannot be
+     * encoded nothing is written and the caller can still answer with another frame.
+     * 
+     * @throws IllegalArgumentException if the currency is not 3 ASCII characters
+     * @throws ArithmeticException if the amount does not fit in minor units
+     */
+    static void writePrice(DataOutputStream out, long requestId, int index, Price price) throws IOException {
+        String code = price.getCurrency();
+        if (code.length() != 3 || !StandardCharsets.US_ASCII.newEncoder().canEncode(code)) {
+            throw new IllegalArgumentException("Currency must be a 3-letter code: " + code);
+        }
+        BigDecimal amount = price.getPrice();
+        int fractionDigits = Math.max(fractionDigits(code), amount.stripTrailingZeros().scale());
+        long minorUnits = amount.movePointRight(fractionDigits).longValueExact();
+        writeHeader(out, FOUND, requestId, index, PRICE_BYTES);
+        out.writeLong(price.getProductId());
+        out.writeLong(price.getBrandId());
+        out.writeLong(price.getPriceList());
+        out.writeLong(toEpochMillis(price.getStartDate()));
+        out.writeLong(toEpochMillis(price.getEndDate()));
+        out.writeLong(minorUnits);
+        out.writeByte(fractionDigits);
+        out.write(code.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static void writeStatus(DataOutputStream out, byte status, long requestId, int index) throws IOException {
+        writeHeader(out, status, requestId, index, 0);
+    }
+
+    static void writeMessage(DataOutputStream out, byte status, long requestId, String message) throws IOException {
+        byte[] text = (message.length() > MAX_MESSAGE_CHARS ? message.substring(0, MAX_MESSAGE_CHARS) : message)
+                .getBytes(StandardCharsets.UTF_8);
+        writeHeader(out, status, requestId, 0, Short.BYTES + text.length);
+        out.writeShort(text.length);
+        out.write(text);
+    }
+
+    static BinaryPriceResponse readResponse(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < RESPONSE_HEADER_BYTES) {
+            throw new IOException("Malformed response frame of " + length + " bytes");
+        }
+        byte status = in.readByte();
+        long requestId = in.readLong();
+        int index = in.readInt();
+        return switch (status) {
+            case FOUND -> {
+                long productId = in.readLong();
+                long brandId = in.readLong();
+                long priceList = in.readLong();
+                long startDate = in.readLong();
+                long endDate = in.readLong();
+                long price = in.readLong();
+                int fractionDigits = in.readByte();
+                byte[] currency = new byte[3];
+                in.readFully(currency);
+                yield BinaryPriceResponse.found(requestId, index, productId, brandId, priceList, startDate, endDate,
+                        price, fractionDigits, new String(currency, StandardCharsets.US_ASCII));
+            }
+            case NOT_FOUND, END -> BinaryPriceResponse.status(status, requestId, index, null);
+            case INVALID, ERROR -> {
+                byte[] message = new byte[in.readUnsignedShort()];
+                in.readFully(message);
+                yield BinaryPriceResponse.status(status, requestId, index, new String(message, StandardCharsets.UTF_8));
+            }
+            default -> throw new IOException("Unknown response status " + status);
+        };
+    }
+
+    /**
+     * Reads the length of the next frame, or returns -1 if the stream ended between frames.
+     */
+    static int readFrameLength(DataInputStream in) throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return -1;
+        }
+        return (first << 24) | (in.readUnsignedByte() << 16) | in.readUnsignedShort();
+    }
+
+    private static void writeQuery(DataOutputStream out, PriceQuery query) throws IOException {
+        out.writeLong(toEpochMillis(query.getApplicationDate()));
+        out.writeLong(query.getProductId());
+        out.writeLong(query.getBrandId());
+    }
+
+    private static void writeHeader(DataOutputStream out, byte status, long requestId, int index, int bodyBytes)
+            throws IOException {
+        out.writeInt(RESPONSE_HEADER_BYTES + bodyBytes);
+        out.writeByte(status);
+        out.writeLong(requestId);
+        out.writeInt(index);
+    }
+
+    /**
+     * Minor unit digits of a currency, 2 for codes unknown to the JDK.
+     */
+    private static int fractionDigits(String currency) {
+        return FRACTION_DIGITS.computeIfAbsent(currency, code -> {
+            try {
+                int digits = Currency.getInstance(code).getDefaultFractionDigits();
+                return digits < 0 ? 2 : digits;
+            } catch (IllegalArgumentException ex) {
+                return 2;
+            }
+        });
+    }
+}
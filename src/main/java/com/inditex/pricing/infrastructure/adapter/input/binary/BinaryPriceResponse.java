@@ -0,0 +1,126 @@
+package com.inditex.pricing.infrastructure.adapter.input.binary;
+
+import java.math.BigDecimal;
+
+/**
+ * Response of the binary price protocol, as decoded by {@link BinaryPriceClient}.
+ * Dates are epoch milliseconds and the price is in minor units (see {@link BinaryPriceProtocol}).
+ */
+public final class BinaryPriceResponse {
+
+    private final byte status;
+    private final long requestId;
+    private final int index;
+    private final long productId;
+    private final long brandId;
+    private final long priceList;
+    private final long startDate;
+    private final long endDate;
+    private final long price;
+    private final int fractionDigits;
+    private final String currency;
+    private final String message;
+
+    private BinaryPriceResponse(byte status, long requestId, int index, long productId, long brandId, long priceList,
+                                long startDate, long endDate, long price, int fractionDigits, String currency,
+                                String message) {
+        this.status = status;
+        this.requestId = requestId;
+        this.index = index;
+        this.productId = productId;
+        this.brandId = brandId;
+        this.priceList = priceList;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.price = price;
+        this.fractionDigits = fractionDigits;
+        this.currency = currency;
+        this.message = message;
+    }
+
+    static BinaryPriceResponse found(long requestId, int index, long productId, long brandId, long priceList,
+                                     long startDate, long endDate, long price, int fractionDigits, String currency) {
+        return new BinaryPriceResponse(BinaryPriceProtocol.FOUND, requestId, index, productId, brandId, priceList,
+                startDate, endDate, price, fractionDigits, currency, null);
+    }
+
+    static BinaryPriceResponse status(byte status, long requestId, int index, String message) {
+        return new BinaryPriceResponse(status, requestId, index, 0, 0, 0, 0, 0, 0, 0, null, message);
+    }
+
+    public boolean isFound() {
+        return status == BinaryPriceProtocol.FOUND;
+    }
+
+    /**
+     * Price as a decimal amount, rebuilt from the minor units and the fraction digits.
+     * 
+     * @return Price amount, or null if no price was found
+     */
+    public BigDecimal getPriceAmount() {
+        return isFound() ? BigDecimal.valueOf(price, fractionDigits) : null;
+    }
+
+    public byte getStatus() {
+        return status;
+    }
+
+    public long getRequestId() {
+        return requestId;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public long getProductId() {
+        return productId;
+    }
+
+    public long getBrandId() {
+        return brandId;
+    }
+
+    public long getPriceList() {
+        return priceList;
+    }
+
+    public long getStartDate() {
+        return startDate;
+    }
+
+    public long getEndDate() {
+        return endDate;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    public int getFractionDigits() {
+        return fractionDigits;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryPriceResponse{" +
+                "status=" + status +
+                ", requestId=" + requestId +
+                ", index=" + index +
+                ", productId=" + productId +
+                ", brandId=" + brandId +
+                ", priceList=" + priceList +
+                ", price=" + getPriceAmount() +
+                ", currency='" + currency + '\'' +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
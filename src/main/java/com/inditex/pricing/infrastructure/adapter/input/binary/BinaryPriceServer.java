@@ -0,0 +1,305 @@
+package com.inditex.pricing.infrastructure.adapter.input.binary;
+
+import com.inditex.pricing.domain.exception.PriceNotFoundException;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceLookupResult;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.port.input.GetPriceUseCase;
+import com.inditex.pricing.domain.port.input.GetPricesBatchUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TCP server of the binary price protocol (see {@link BinaryPriceProtocol}) for internal callers.
+ * 
+ * Serves the same use cases as the REST API without its per-request costs: no HTTP parsing, no
+ * query-string date parsing, no Bean Validation and no JSON encoding. A request is a fixed-size
+ * frame of integers decoded straight into a PriceQuery, and the answer is a fixed-size frame.
+ * - Single lookups call {@link GetPriceUseCase}
+ * - Batches are resolved in chunks of {@code chunkSize} lookups with {@link GetPricesBatchUseCase},
+ *   and each chunk is written and flushed as soon as it is resolved, so large batches stream back
+ *   without being held in memory
+ * 
+ * Each connection is served by a thread of its own, up to {@code maxConnections}; further connections
+ * are closed at once, and the open ones are tracked so that {@link #close()} can close them.
+ * Connections are long-lived and requests may be pipelined: responses are flushed only when no
+ * further request is already buffered, so a burst shares its packets.
+ * 
+ * Publishes {@code pricing.binary.lookups} (lookups served, tag {@code type=single|batch}).
+ * 
+ * Enabled with {@code pricing.binary.enabled=true}; listens on {@code pricing.binary.port}.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.binary.enabled", havingValue = "true")
+public class BinaryPriceServer {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryPriceServer.class);
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final GetPriceUseCase getPriceUseCase;
+    private final GetPricesBatchUseCase getPricesBatchUseCase;
+    private final int maxBatchSize;
+    private final int chunkSize;
+    private final ServerSocket serverSocket;
+    private final ThreadPoolExecutor connectionExecutor;
+    private final Thread acceptor;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final Counter singleLookups;
+    private final Counter batchLookups;
+
+    private volatile boolean running = true;
+
+    /**
+     * Constructor injection for dependencies and configuration.
+     * 
+     * @param getPriceUseCase Use case for price queries
+     * @param getPricesBatchUseCase Use case for batch price queries
+     * @param meterRegistry Registry where the binary protocol metrics are published
+     * @param port TCP port to listen on, 0 for any free port
+     * @param maxConnections Maximum connections served at the same time
+     * @param maxBatchSize Maximum lookups per batch request
+     * @param chunkSize Lookups resolved and written together within a batch
+     * @throws IOException if the port cannot be bound
+     */
+    public BinaryPriceServer(GetPriceUseCase getPriceUseCase, GetPricesBatchUseCase getPricesBatchUseCase,
+                             MeterRegistry meterRegistry,
+                             @Value("${pricing.binary.port:7070}") int port,
+                             @Value("${pricing.binary.max-connections:64}") int maxConnections,
+                             @Value("${pricing.binary.max-batch-size:10000}") int maxBatchSize,
+                             @Value("${pricing.binary.chunk-size:100}") int chunkSize) throws IOException {
+        this.getPriceUseCase = getPriceUseCase;
+        this.getPricesBatchUseCase = getPricesBatchUseCase;
+        this.maxBatchSize = maxBatchSize;
+        this.chunkSize = chunkSize;
+        this.singleLookups = lookupCounter(meterRegistry, "single");
+        this.batchLookups = lookupCounter(meterRegistry, "batch");
+        this.connectionExecutor = new ThreadPoolExecutor(0, maxConnections, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "price-binary-connection");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.setReuseAddress(true);
+        this.serverSocket.bind(new InetSocketAddress(port));
+        this.acceptor = new Thread(this::accept, "price-binary-acceptor");
+        this.acceptor.setDaemon(true);
+        this.acceptor.start();
+        log.info("Binary price protocol listening on port {}", getPort());
+    }
+
+    /**
+     * Gets the port the server listens on, useful when it was started on port 0.
+     * 
+     * @return Local TCP port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting connections and closes the open ones. Closing the sockets, rather than
+     * interrupting their threads, is what unblocks a connection waiting for its next request.
+     */
+    @PreDestroy
+    public void close() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException ex) {
+            log.debug("Error closing binary price server socket: {}", ex.getMessage());
+        }
+        connections.forEach(BinaryPriceServer::closeQuietly);
+        connectionExecutor.shutdownNow();
+    }
+
+    private void accept() {
+        while (running) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException ex) {
+                if (running) {
+                    log.warn("Binary price server stopped accepting connections: {}", ex.getMessage());
+                }
+                return;
+            }
+            connections.add(socket);
+            if (!running) {
+                // close() may have run between accept and add, and missed this socket
+                closeQuietly(socket);
+                return;
+            }
+            try {
+                connectionExecutor.execute(() -> serve(socket));
+            } catch (RejectedExecutionException ex) {
+                log.warn("Binary price connection from {} refused: too many connections", socket.getRemoteSocketAddress());
+                connections.remove(socket);
+                closeQuietly(socket);
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE));
+            int length;
+            while (running && (length = BinaryPriceProtocol.readFrameLength(in)) >= 0) {
+                if (!handle(in, out, length)) {
+                    out.flush();
+                    return;
+                }
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (IOException | UncheckedIOException ex) {
+            if (running) {
+                log.debug("Binary price connection from {} closed: {}", socket.getRemoteSocketAddress(), ex.getMessage());
+            }
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    /**
+     * Handles one request frame.
+     * 
+     * @return false if the frame is malformed and the connection must be closed, since the
+     *         start of the next frame is unknown
+     */
+    private boolean handle(DataInputStream in, DataOutputStream out, int length) throws IOException {
+        if (length < BinaryPriceProtocol.REQUEST_HEADER_BYTES) {
+            BinaryPriceProtocol.writeMessage(out, BinaryPriceProtocol.INVALID, 0, "Frame too short: " + length);
+            return false;
+        }
+        byte type = in.readByte();
+        long requestId = in.readLong();
+        int bodyLength = length - BinaryPriceProtocol.REQUEST_HEADER_BYTES;
+        if (type == BinaryPriceProtocol.LOOKUP && bodyLength == BinaryPriceProtocol.LOOKUP_BYTES) {
+            lookup(out, requestId, BinaryPriceProtocol.readQuery(in));
+            return true;
+        }
+        if (type == BinaryPriceProtocol.BATCH && bodyLength >= Integer.BYTES) {
+            int count = in.readInt();
+            if (count < 0 || bodyLength != Integer.BYTES + (long) count * BinaryPriceProtocol.LOOKUP_BYTES) {
+                BinaryPriceProtocol.writeMessage(out, BinaryPriceProtocol.INVALID, requestId,
+                        "Batch frame does not hold " + count + " lookups");
+                return false;
+            }
+            if (count > maxBatchSize) {
+                in.skipNBytes((long) count * BinaryPriceProtocol.LOOKUP_BYTES);
+                BinaryPriceProtocol.writeMessage(out, BinaryPriceProtocol.INVALID, requestId,
+                        "Batch must not contain more than " + maxBatchSize + " lookups");
+                return true;
+            }
+            batch(in, out, requestId, count);
+            return true;
+        }
+        BinaryPriceProtocol.writeMessage(out, BinaryPriceProtocol.INVALID, requestId,
+                "Unknown request type " + type + " of " + length + " bytes");
+        return false;
+    }
+
+    /**
+     * Resolves a single lookup. A price that cannot be encoded is answered with ERROR like a failed
+     * lookup, since {@link BinaryPriceProtocol#writePrice} writes nothing when it fails.
+     */
+    private void lookup(DataOutputStream out, long requestId, PriceQuery query) throws IOException {
+        singleLookups.increment();
+        try {
+            Price price = getPriceUseCase.getApplicablePrice(query.getApplicationDate(), query.getProductId(),
+                    query.getBrandId());
+            BinaryPriceProtocol.writePrice(out, requestId, 0, price);
+        } catch (PriceNotFoundException ex) {
+            BinaryPriceProtocol.writeStatus(out, BinaryPriceProtocol.NOT_FOUND, requestId, 0);
+        } catch (RuntimeException ex) {
+            log.error("Binary price lookup {} failed", query, ex);
+            BinaryPriceProtocol.writeMessage(out, BinaryPriceProtocol.ERROR, requestId, "Internal server error");
+        }
+    }
+
+    /**
+     * Resolves a batch chunk by chunk, reading each chunk of lookups only when the previous one is written.
+     */
+    private void batch(DataInputStream in, DataOutputStream out, long requestId, int count) throws IOException {
+        batchLookups.increment(count);
+        List<PriceQuery> chunk = new ArrayList<>(Math.min(count, chunkSize));
+        int index = 0;
+        boolean failed = false;
+        while (index < count) {
+            chunk.clear();
+            for (int i = Math.min(chunkSize, count - index); i > 0; i--) {
+                chunk.add(BinaryPriceProtocol.readQuery(in));
+            }
+            if (failed) {
+                index += chunk.size();
+                continue;
+            }
+            int chunkEnd = index + chunk.size();
+            try {
+                List<PriceLookupResult> results = getPricesBatchUseCase.getApplicablePrices(chunk);
+                for (PriceLookupResult result : results) {
+                    if (result.isFound()) {
+                        BinaryPriceProtocol.writePrice(out, requestId, index, result.getPrice().get());
+                    } else {
+                        BinaryPriceProtocol.writeStatus(out, BinaryPriceProtocol.NOT_FOUND, requestId, index);
+                    }
+                    index++;
+                }
+            } catch (RuntimeException ex) {
+                log.error("Binary price batch {} failed at lookup {}", requestId, index, ex);
+                BinaryPriceProtocol.writeMessage(out, BinaryPriceProtocol.ERROR, requestId, "Internal server error");
+                failed = true;
+                index = chunkEnd;
+                continue;
+            }
+            out.flush();
+        }
+        if (!failed) {
+            BinaryPriceProtocol.writeStatus(out, BinaryPriceProtocol.END, requestId, count);
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("pricing.binary.lookups")
+                .description("Lookups served over the binary price protocol")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ex) {
+            log.debug("Error closing binary price connection: {}", ex.getMessage());
+        }
+    }
+}
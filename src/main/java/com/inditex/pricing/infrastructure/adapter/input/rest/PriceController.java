@@ -1,20 +1,43 @@
 package com.inditex.pricing.infrastructure.adapter.input.rest;
 
 import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceLookupResult;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.PriceSegment;
 import com.inditex.pricing.domain.port.input.GetPriceUseCase;
+import com.inditex.pricing.domain.port.input.GetPricesBatchUseCase;
+import com.inditex.pricing.domain.port.output.PriceMetricsPort;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceBatchRequest;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceBatchResponse;
 import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceResponse;
+import com.inditex.pricing.infrastructure.adapter.input.rest.mapper.PriceQueryMapper;
 import com.inditex.pricing.infrastructure.adapter.input.rest.mapper.PriceResponseMapper;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * REST Controller for price queries.
- * Provides the GET endpoint to query applicable prices.
+ * Provides the GET endpoint to query applicable prices and the POST endpoint to query them in batch.
+ * 
+ * HTTP caching of the GET endpoint (enabled with {@code pricing.http-cache.enabled}):
+ * - {@code ETag}: strong validator derived from the tariff that answered (price list, validity,
+ *   price and currency), so it changes whenever an import changes the response
+ * - {@code Cache-Control: max-age}: seconds until the next tariff boundary after the application date,
+ *   capped at {@code pricing.http-cache.max-age} so that a tariff change is seen within that time
+ * - {@code If-None-Match}: a matching validator is answered 304 without mapping or serializing the price
  * 
  * Best practices:
  * - Uses GET method for query operations
@@ -29,17 +52,36 @@ import java.time.LocalDateTime;
 public class PriceController {
 
     private final GetPriceUseCase getPriceUseCase;
+    private final GetPricesBatchUseCase getPricesBatchUseCase;
     private final PriceResponseMapper priceResponseMapper;
+    private final PriceQueryMapper priceQueryMapper;
+    private final PriceMetricsPort metrics;
+    private final boolean httpCacheEnabled;
+    private final long maxAgeSeconds;
 
     /**
-     * Constructor injection for dependencies.
+     * Constructor injection for dependencies and configuration.
      * 
      * @param getPriceUseCase Use case for price queries
+     * @param getPricesBatchUseCase Use case for batch price queries
      * @param priceResponseMapper Mapper to convert domain to DTO
+     * @param priceQueryMapper Mapper to convert request DTO to domain
+     * @param metrics Lookup metrics, absent when metrics are disabled
+     * @param httpCacheEnabled Whether GET responses carry ETag and Cache-Control and honour If-None-Match
+     * @param maxAge Upper bound of the Cache-Control max-age
      */
-    public PriceController(GetPriceUseCase getPriceUseCase, PriceResponseMapper priceResponseMapper) {
+    public PriceController(GetPriceUseCase getPriceUseCase, GetPricesBatchUseCase getPricesBatchUseCase,
+                           PriceResponseMapper priceResponseMapper, PriceQueryMapper priceQueryMapper,
+                           Optional<PriceMetricsPort> metrics,
+                           @Value("${pricing.http-cache.enabled:true}") boolean httpCacheEnabled,
+                           @Value("${pricing.http-cache.max-age:PT5M}") Duration maxAge) {
         this.getPriceUseCase = getPriceUseCase;
+        this.getPricesBatchUseCase = getPricesBatchUseCase;
         this.priceResponseMapper = priceResponseMapper;
+        this.priceQueryMapper = priceQueryMapper;
+        this.metrics = metrics.orElse(null);
+        this.httpCacheEnabled = httpCacheEnabled;
+        this.maxAgeSeconds = maxAge.toSeconds();
     }
 
     /**
@@ -51,7 +93,8 @@ public class PriceController {
      * @param applicationDate Date and time for price application (ISO format)
      * @param productId Product identifier
      * @param brandId Brand identifier
-     * @return ResponseEntity with PriceResponse or error
+     * @param ifNoneMatch Entity tags the client already holds, if any
+     * @return ResponseEntity with PriceResponse, 304 without body when the client copy is current, or error
      */
     @GetMapping
     public ResponseEntity<PriceResponse> getApplicablePrice(
@@ -66,11 +109,106 @@ public class PriceController {
             
             @RequestParam("brandId")
             @NotNull(message = "brandId is required")
-            Long brandId) {
+            Long brandId,
 
-        Price price = getPriceUseCase.getApplicablePrice(applicationDate, productId, brandId);
-        PriceResponse response = priceResponseMapper.toResponse(price);
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch) {
+
+        if (metrics == null) {
+            return lookup(applicationDate, productId, brandId, ifNoneMatch);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return lookup(applicationDate, productId, brandId, ifNoneMatch);
+        } finally {
+            metrics.recordControllerLookup(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * POST endpoint to query the applicable prices of many products at once.
+     * All lookups are resolved with a single repository call; lookups without
+     * applicable price are returned with {@code found=false} instead of failing the request.
+     * 
+     * Example request:
+     * POST /api/prices/batch
+     * {"items": [{"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1}]}
+     * 
+     * @param request Lookups to resolve (at most {@value PriceBatchRequest#MAX_ITEMS})
+     * @return ResponseEntity with one result per lookup, in request order
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<PriceBatchResponse> getApplicablePrices(@Valid @RequestBody PriceBatchRequest request) {
+        List<PriceQuery> queries = priceQueryMapper.toQueries(request);
+        List<PriceLookupResult> results = getPricesBatchUseCase.getApplicablePrices(queries);
+        PriceBatchResponse response = priceResponseMapper.toBatchResponse(results);
 
         return ResponseEntity.ok(response);
     }
+
+    private ResponseEntity<PriceResponse> lookup(LocalDateTime applicationDate, Long productId, Long brandId,
+                                                 String ifNoneMatch) {
+        if (!httpCacheEnabled) {
+            return ResponseEntity.ok(toResponse(getPriceUseCase.getApplicablePrice(applicationDate, productId, brandId)));
+        }
+
+        PriceSegment segment = getPriceUseCase.getApplicablePriceSegment(applicationDate, productId, brandId);
+        String etag = etag(segment.getPrice());
+        CacheControl cacheControl = cacheControl(applicationDate, segment.getUntil());
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(toResponse(segment.getPrice()));
+    }
+
+    private PriceResponse toResponse(Price price) {
+        if (metrics == null) {
+            return priceResponseMapper.toResponse(price);
+        }
+        long mappingStart = System.nanoTime();
+        PriceResponse response = priceResponseMapper.toResponse(price);
+        metrics.recordMapping(System.nanoTime() - mappingStart);
+        return response;
+    }
+
+    /**
+     * Strong entity tag of the response body: the price list followed by a 64-bit hash of every
+     * field of the tariff that reaches the response.
+     */
+    private static String etag(Price price) {
+        long hash = price.getBrandId();
+        hash = 31 * hash + price.getProductId();
+        hash = 31 * hash + price.getPriceList();
+        hash = 31 * hash + price.getStartDate().hashCode();
+        hash = 31 * hash + price.getEndDate().hashCode();
+        hash = 31 * hash + price.getPrice().stripTrailingZeros().hashCode();
+        hash = 31 * hash + price.getCurrency().hashCode();
+        return "\"" + price.getPriceList() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * The answer for a date stays the same until the segment ends, unless tariffs change: max-age runs
+     * to the boundary and is capped so that changes are picked up.
+     */
+    private CacheControl cacheControl(LocalDateTime applicationDate, LocalDateTime until) {
+        long seconds = Math.min(Duration.between(applicationDate, until).toSeconds(), maxAgeSeconds);
+        return seconds > 0 ? CacheControl.maxAge(Duration.ofSeconds(seconds)) : CacheControl.noCache();
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
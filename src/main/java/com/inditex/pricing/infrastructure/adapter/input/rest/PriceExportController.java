@@ -0,0 +1,144 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.port.input.ExportBrandPricesUseCase;
+import com.inditex.pricing.infrastructure.adapter.input.rest.writer.PriceCsvWriter;
+import com.inditex.pricing.infrastructure.adapter.input.rest.writer.PriceNdjsonWriter;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+import static com.inditex.pricing.infrastructure.adapter.input.rest.PriceImportController.CSV;
+import static com.inditex.pricing.infrastructure.adapter.input.rest.PriceImportController.NDJSON;
+
+/**
+ * REST Controller for whole-brand price exports.
+ * Returns the applicable price of every product of a brand in one request, for feeds and search
+ * indexes that would otherwise call the single price endpoint once per product.
+ * 
+ * Prices are resolved by a single ordered scan of the brand tariffs and written to the response
+ * as they are read, through a buffer flushed when it fills: memory stays constant whatever the
+ * size of the brand. The format is chosen with the Accept header, NDJSON unless CSV is requested.
+ */
+@RestController
+@RequestMapping("/api/prices/exports")
+@Validated
+public class PriceExportController {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportBrandPricesUseCase exportBrandPricesUseCase;
+    private final PriceNdjsonWriter priceNdjsonWriter;
+    private final PriceCsvWriter priceCsvWriter;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param exportBrandPricesUseCase Use case for brand price exports
+     * @param priceNdjsonWriter Writer of NDJSON lines
+     * @param priceCsvWriter Writer of CSV lines
+     */
+    public PriceExportController(ExportBrandPricesUseCase exportBrandPricesUseCase,
+                                 PriceNdjsonWriter priceNdjsonWriter, PriceCsvWriter priceCsvWriter) {
+        this.exportBrandPricesUseCase = exportBrandPricesUseCase;
+        this.priceNdjsonWriter = priceNdjsonWriter;
+        this.priceCsvWriter = priceCsvWriter;
+    }
+
+    /**
+     * GET endpoint to export the applicable prices of a brand as newline-delimited JSON.
+     * 
+     * Example request:
+     * GET /api/prices/exports/1?applicationDate=2020-06-14T10:00:00
+     * Accept: application/x-ndjson
+     * 
+     * Each line has the fields of the single price endpoint:
+     * {"productId":35455,"brandId":1,"priceList":1,"startDate":"2020-06-14-00.00.00",...}
+     * 
+     * @param brandId Brand identifier
+     * @param applicationDate Date and time to apply the price query (ISO format)
+     * @return ResponseEntity streaming one price per product with an applicable price
+     */
+    @GetMapping(value = "/{brandId}", produces = {NDJSON, MediaType.ALL_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportNdjson(
+            @PathVariable("brandId") Long brandId,
+
+            @RequestParam("applicationDate")
+            @NotNull(message = "applicationDate is required")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime applicationDate) {
+
+        StreamingResponseBody body = out -> export(applicationDate, brandId, out, null, priceNdjsonWriter::write);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    /**
+     * GET endpoint to export the applicable prices of a brand as CSV.
+     * 
+     * Example request:
+     * GET /api/prices/exports/1?applicationDate=2020-06-14T10:00:00
+     * Accept: text/csv
+     * 
+     * BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR
+     * 1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,35455,0,35.50,EUR
+     * 
+     * The columns are those of the tariff import, so the file can be imported again.
+     * 
+     * @param brandId Brand identifier
+     * @param applicationDate Date and time to apply the price query (ISO format)
+     * @return ResponseEntity streaming the header and one price per product with an applicable price
+     */
+    @GetMapping(value = "/{brandId}", produces = CSV)
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            @PathVariable("brandId") Long brandId,
+
+            @RequestParam("applicationDate")
+            @NotNull(message = "applicationDate is required")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime applicationDate) {
+
+        StreamingResponseBody body = out -> export(applicationDate, brandId, out, priceCsvWriter::writeHeader,
+                priceCsvWriter::write);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(CSV)).body(body);
+    }
+
+    private void export(LocalDateTime applicationDate, Long brandId, OutputStream out, HeaderWriter header,
+                        PriceWriter writer) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        if (header != null) {
+            header.write(buffered);
+        }
+        exportBrandPricesUseCase.exportBrandPrices(applicationDate, brandId, price -> {
+            try {
+                writer.write(price, buffered);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        buffered.flush();
+    }
+
+    @FunctionalInterface
+    private interface HeaderWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface PriceWriter {
+        void write(Price price, OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,94 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.inditex.pricing.domain.model.PriceImportResult;
+import com.inditex.pricing.domain.port.input.ImportPricesUseCase;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceImportResponse;
+import com.inditex.pricing.infrastructure.adapter.input.rest.mapper.PriceResponseMapper;
+import com.inditex.pricing.infrastructure.adapter.input.rest.reader.PriceCsvReader;
+import com.inditex.pricing.infrastructure.adapter.input.rest.reader.PriceNdjsonReader;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * REST Controller for tariff ingestion.
+ * Streams the request body into the import use case, so files of any size are imported
+ * with a bounded amount of memory.
+ * 
+ * Posting again under the same import id resumes the import: rows committed by a previous
+ * run are skipped, and the remaining ones are upserted.
+ */
+@RestController
+@RequestMapping("/api/prices/imports")
+public class PriceImportController {
+
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String CSV = "text/csv";
+
+    private final ImportPricesUseCase importPricesUseCase;
+    private final PriceCsvReader priceCsvReader;
+    private final PriceNdjsonReader priceNdjsonReader;
+    private final PriceResponseMapper priceResponseMapper;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param importPricesUseCase Use case for tariff imports
+     * @param priceCsvReader Reader of CSV bodies
+     * @param priceNdjsonReader Reader of NDJSON bodies
+     * @param priceResponseMapper Mapper to convert domain to DTO
+     */
+    public PriceImportController(ImportPricesUseCase importPricesUseCase, PriceCsvReader priceCsvReader,
+                                 PriceNdjsonReader priceNdjsonReader, PriceResponseMapper priceResponseMapper) {
+        this.importPricesUseCase = importPricesUseCase;
+        this.priceCsvReader = priceCsvReader;
+        this.priceNdjsonReader = priceNdjsonReader;
+        this.priceResponseMapper = priceResponseMapper;
+    }
+
+    /**
+     * POST endpoint to import tariffs from a CSV file.
+     * 
+     * Example request:
+     * POST /api/prices/imports/summer-2020
+     * Content-Type: text/csv
+     * 
+     * BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR
+     * 1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,35455,0,35.50,EUR
+     * 
+     * @param importId Identifier of the import, used to resume it
+     * @param body CSV content
+     * @return ResponseEntity with the import outcome
+     */
+    @PostMapping(value = "/{importId}", consumes = CSV)
+    public ResponseEntity<PriceImportResponse> importCsv(@PathVariable("importId") String importId,
+                                                         InputStream body) {
+        PriceImportResult result = importPricesUseCase.importPrices(importId, priceCsvReader.read(body));
+        return ResponseEntity.ok(priceResponseMapper.toImportResponse(result));
+    }
+
+    /**
+     * POST endpoint to import tariffs from newline-delimited JSON.
+     * 
+     * Example request:
+     * POST /api/prices/imports/summer-2020
+     * Content-Type: application/x-ndjson
+     * 
+     * {"brandId": 1, "startDate": "2020-06-14T00:00:00", "endDate": "2020-12-31T23:59:59", "priceList": 1,
+     *  "productId": 35455, "priority": 0, "price": 35.50, "currency": "EUR"}
+     * 
+     * @param importId Identifier of the import, used to resume it
+     * @param body NDJSON content
+     * @return ResponseEntity with the import outcome
+     */
+    @PostMapping(value = "/{importId}", consumes = NDJSON)
+    public ResponseEntity<PriceImportResponse> importNdjson(@PathVariable("importId") String importId,
+                                                            InputStream body) {
+        PriceImportResult result = importPricesUseCase.importPrices(importId, priceNdjsonReader.read(body));
+        return ResponseEntity.ok(priceResponseMapper.toImportResponse(result));
+    }
+}
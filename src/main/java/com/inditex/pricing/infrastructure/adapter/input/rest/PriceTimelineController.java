@@ -0,0 +1,112 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inditex.pricing.domain.exception.InvalidDateRangeException;
+import com.inditex.pricing.domain.port.input.GetPriceTimelineUseCase;
+import com.inditex.pricing.infrastructure.adapter.input.rest.mapper.PriceResponseMapper;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * REST Controller for the price history of a product.
+ * Returns every effective price of a date range in one request, instead of one lookup per date.
+ * 
+ * The timeline is resolved with a single range scan of the product tariffs and written to the
+ * response as each segment is resolved, so neither the tariffs nor the segments are held in memory;
+ * the output is flushed whenever the Jackson buffer fills, not after every segment.
+ */
+@RestController
+@RequestMapping("/api/prices/timeline")
+@Validated
+public class PriceTimelineController {
+
+    private final GetPriceTimelineUseCase getPriceTimelineUseCase;
+    private final PriceResponseMapper priceResponseMapper;
+    private final ObjectWriter segmentWriter;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param getPriceTimelineUseCase Use case for price timeline queries
+     * @param priceResponseMapper Mapper to convert domain to DTO
+     * @param objectMapper Jackson mapper used to write the segments
+     */
+    public PriceTimelineController(GetPriceTimelineUseCase getPriceTimelineUseCase,
+                                   PriceResponseMapper priceResponseMapper, ObjectMapper objectMapper) {
+        this.getPriceTimelineUseCase = getPriceTimelineUseCase;
+        this.priceResponseMapper = priceResponseMapper;
+        this.segmentWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * GET endpoint to query the effective prices of a product over a date range.
+     * 
+     * Example request:
+     * GET /api/prices/timeline?from=2020-06-14T00:00:00&to=2020-06-16T23:59:59&productId=35455&brandId=1
+     * 
+     * The response is a JSON array of prices in chronological order, with the same fields as the
+     * single lookup. Their start and end dates delimit the period in which each price wins
+     * (clipped to the range, end inclusive); periods without price are left out.
+     * 
+     * @param from First instant of the range (ISO format, inclusive)
+     * @param to Last instant of the range (ISO format, inclusive)
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @return ResponseEntity streaming the timeline, or 400 if the range ends before it starts
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> getPriceTimeline(
+            @RequestParam("from")
+            @NotNull(message = "from is required")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime from,
+
+            @RequestParam("to")
+            @NotNull(message = "to is required")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime to,
+
+            @RequestParam("productId")
+            @NotNull(message = "productId is required")
+            Long productId,
+
+            @RequestParam("brandId")
+            @NotNull(message = "brandId is required")
+            Long brandId) {
+
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException(from, to);
+        }
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = segmentWriter.createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.writeStartArray();
+                getPriceTimelineUseCase.getPriceTimeline(from, to, productId, brandId, segment -> {
+                    try {
+                        segmentWriter.writeValue(generator, priceResponseMapper.toTimelineResponse(segment));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
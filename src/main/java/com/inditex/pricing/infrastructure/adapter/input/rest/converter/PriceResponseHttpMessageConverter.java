@@ -0,0 +1,220 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest.converter;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inditex.pricing.domain.port.output.PriceMetricsPort;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * HTTP message converter that writes PriceResponse as JSON without going through Jackson.
+ * 
+ * The single price endpoint is the hot path of the service, and the reflective ObjectMapper
+ * serialization of its response (generator, date formatter and intermediate strings) allocates
+ * more than the lookup itself. This converter writes the same bytes straight to the response stream:
+ * - Field names are pre-encoded
+ * - Numbers and dates (pattern {@code yyyy-MM-dd-HH.mm.ss}) are written digit by digit
+ * - Prices use BigDecimal.toString, which the instance caches
+ * 
+ * The output is byte-identical to Jackson's. Responses outside the fast path (non-ASCII or escaped
+ * currency, years beyond 9999) and ObjectMapper settings it does not reproduce (indentation,
+ * property inclusion, plain BigDecimal) are delegated to Jackson.
+ * 
+ * Spring Boot registers HttpMessageConverter beans ahead of the default ones.
+ */
+@Component
+public class PriceResponseHttpMessageConverter extends AbstractHttpMessageConverter<PriceResponse> {
+
+    private static final byte[] PRODUCT_ID = ascii("{\"productId\":");
+    private static final byte[] BRAND_ID = ascii(",\"brandId\":");
+    private static final byte[] PRICE_LIST = ascii(",\"priceList\":");
+    private static final byte[] START_DATE = ascii(",\"startDate\":");
+    private static final byte[] END_DATE = ascii(",\"endDate\":");
+    private static final byte[] PRICE = ascii(",\"price\":");
+    private static final byte[] CURRENCY = ascii(",\"currency\":");
+    private static final byte[] NULL = ascii("null");
+
+    private static final int MAX_FAST_YEAR = 9999;
+
+    private final ObjectMapper objectMapper;
+    private final PriceMetricsPort metrics;
+    private final boolean enabled;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param objectMapper Jackson mapper configured by Spring Boot, used for the responses outside the fast path
+     * @param metrics Lookup metrics, absent when metrics are disabled
+     */
+    public PriceResponseHttpMessageConverter(ObjectMapper objectMapper, Optional<PriceMetricsPort> metrics) {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+        this.metrics = metrics.orElse(null);
+        this.enabled = !objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)
+                && !objectMapper.getFactory().isEnabled(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN)
+                && isIncludeAlways(objectMapper.getSerializationConfig().getDefaultPropertyInclusion());
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return enabled && PriceResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PriceResponse readInternal(Class<? extends PriceResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("PriceResponse is write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(PriceResponse response, HttpOutputMessage outputMessage) throws IOException {
+        long start = System.nanoTime();
+        writeJson(response, outputMessage.getBody());
+        if (metrics != null) {
+            metrics.recordSerialization(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Writes a PriceResponse as JSON, with the same bytes as the ObjectMapper.
+     * 
+     * @param response Response to write
+     * @param out Stream to write to; it is not closed
+     * @throws IOException if the stream fails
+     */
+    public void writeJson(PriceResponse response, OutputStream out) throws IOException {
+        if (!isFastPath(response)) {
+            objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, response);
+            return;
+        }
+        out.write(PRODUCT_ID);
+        writeLong(response.getProductId(), out);
+        out.write(BRAND_ID);
+        writeLong(response.getBrandId(), out);
+        out.write(PRICE_LIST);
+        writeLong(response.getPriceList(), out);
+        out.write(START_DATE);
+        writeDate(response.getStartDate(), out);
+        out.write(END_DATE);
+        writeDate(response.getEndDate(), out);
+        out.write(PRICE);
+        if (response.getPrice() == null) {
+            out.write(NULL);
+        } else {
+            writeAscii(response.getPrice().toString(), out);
+        }
+        out.write(CURRENCY);
+        if (response.getCurrency() == null) {
+            out.write(NULL);
+        } else {
+            out.write('"');
+            writeAscii(response.getCurrency(), out);
+            out.write('"');
+        }
+        out.write('}');
+    }
+
+    private static boolean isFastPath(PriceResponse response) {
+        return isFastYear(response.getStartDate())
+                && isFastYear(response.getEndDate())
+                && isPlainAscii(response.getCurrency());
+    }
+
+    private static boolean isFastYear(LocalDateTime date) {
+        return date == null || (date.getYear() > 0 && date.getYear() <= MAX_FAST_YEAR);
+    }
+
+    private static boolean isPlainAscii(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c >= 0x80 || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIncludeAlways(JsonInclude.Value inclusion) {
+        JsonInclude.Include include = inclusion.getValueInclusion();
+        return include == JsonInclude.Include.ALWAYS || include == JsonInclude.Include.USE_DEFAULTS;
+    }
+
+    private static void writeLong(Long value, OutputStream out) throws IOException {
+        if (value == null) {
+            out.write(NULL);
+            return;
+        }
+        long v = value;
+        if (v < 0) {
+            if (v == Long.MIN_VALUE) {
+                writeAscii(Long.toString(v), out);
+                return;
+            }
+            out.write('-');
+            v = -v;
+        }
+        long divisor = 1;
+        while (divisor <= v / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.write((int) ('0' + (v / divisor) % 10));
+        }
+    }
+
+    private static void writeDate(LocalDateTime date, OutputStream out) throws IOException {
+        if (date == null) {
+            out.write(NULL);
+            return;
+        }
+        out.write('"');
+        writeDigits(date.getYear(), 4, out);
+        out.write('-');
+        writeDigits(date.getMonthValue(), 2, out);
+        out.write('-');
+        writeDigits(date.getDayOfMonth(), 2, out);
+        out.write('-');
+        writeDigits(date.getHour(), 2, out);
+        out.write('.');
+        writeDigits(date.getMinute(), 2, out);
+        out.write('.');
+        writeDigits(date.getSecond(), 2, out);
+        out.write('"');
+    }
+
+    private static void writeDigits(int value, int width, OutputStream out) throws IOException {
+        for (int divisor = width == 4 ? 1000 : 10; divisor > 0; divisor /= 10) {
+            out.write('0' + (value / divisor) % 10);
+        }
+    }
+
+    private static void writeAscii(String value, OutputStream out) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            out.write(value.charAt(i));
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,58 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one lookup of a batch price query.
+ * Mirrors the query parameters of the single price endpoint.
+ */
+public class PriceBatchItemRequest {
+
+    @JsonProperty("applicationDate")
+    @NotNull(message = "applicationDate is required")
+    private LocalDateTime applicationDate;
+
+    @JsonProperty("productId")
+    @NotNull(message = "productId is required")
+    private Long productId;
+
+    @JsonProperty("brandId")
+    @NotNull(message = "brandId is required")
+    private Long brandId;
+
+    public PriceBatchItemRequest() {
+    }
+
+    public PriceBatchItemRequest(LocalDateTime applicationDate, Long productId, Long brandId) {
+        this.applicationDate = applicationDate;
+        this.productId = productId;
+        this.brandId = brandId;
+    }
+
+    public LocalDateTime getApplicationDate() {
+        return applicationDate;
+    }
+
+    public void setApplicationDate(LocalDateTime applicationDate) {
+        this.applicationDate = applicationDate;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getBrandId() {
+        return brandId;
+    }
+
+    public void setBrandId(Long brandId) {
+        this.brandId = brandId;
+    }
+}
@@ -0,0 +1,80 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one result of a batch price query.
+ * Echoes the lookup criteria and carries either the price or a not-found marker.
+ */
+public class PriceBatchItemResponse {
+
+    @JsonProperty("applicationDate")
+    private LocalDateTime applicationDate;
+
+    @JsonProperty("productId")
+    private Long productId;
+
+    @JsonProperty("brandId")
+    private Long brandId;
+
+    @JsonProperty("found")
+    private boolean found;
+
+    @JsonProperty("price")
+    private PriceResponse price;
+
+    public PriceBatchItemResponse() {
+    }
+
+    public PriceBatchItemResponse(LocalDateTime applicationDate, Long productId, Long brandId,
+                                  boolean found, PriceResponse price) {
+        this.applicationDate = applicationDate;
+        this.productId = productId;
+        this.brandId = brandId;
+        this.found = found;
+        this.price = price;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getApplicationDate() {
+        return applicationDate;
+    }
+
+    public void setApplicationDate(LocalDateTime applicationDate) {
+        this.applicationDate = applicationDate;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getBrandId() {
+        return brandId;
+    }
+
+    public void setBrandId(Long brandId) {
+        this.brandId = brandId;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+
+    public PriceResponse getPrice() {
+        return price;
+    }
+
+    public void setPrice(PriceResponse price) {
+        this.price = price;
+    }
+}
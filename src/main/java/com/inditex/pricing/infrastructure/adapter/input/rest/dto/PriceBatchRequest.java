@@ -0,0 +1,40 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the batch price query request.
+ * Represents the body of the batch REST API endpoint.
+ */
+public class PriceBatchRequest {
+
+    /**
+     * Maximum number of lookups accepted in a single request.
+     */
+    public static final int MAX_ITEMS = 500;
+
+    @JsonProperty("items")
+    @NotEmpty(message = "items must not be empty")
+    @Size(max = MAX_ITEMS, message = "items must not contain more than " + MAX_ITEMS + " lookups")
+    private List<@Valid PriceBatchItemRequest> items;
+
+    public PriceBatchRequest() {
+    }
+
+    public PriceBatchRequest(List<PriceBatchItemRequest> items) {
+        this.items = items;
+    }
+
+    public List<PriceBatchItemRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<PriceBatchItemRequest> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,30 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the batch price query response.
+ * Contains one result per requested lookup, in request order.
+ */
+public class PriceBatchResponse {
+
+    @JsonProperty("results")
+    private List<PriceBatchItemResponse> results;
+
+    public PriceBatchResponse() {
+    }
+
+    public PriceBatchResponse(List<PriceBatchItemResponse> results) {
+        this.results = results;
+    }
+
+    public List<PriceBatchItemResponse> getResults() {
+        return results;
+    }
+
+    public void setResults(List<PriceBatchItemResponse> results) {
+        this.results = results;
+    }
+}
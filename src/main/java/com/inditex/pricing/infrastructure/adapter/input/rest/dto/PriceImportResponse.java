@@ -0,0 +1,90 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Data Transfer Object for the price import response.
+ * Reports the rows written by this run, the rows skipped because a previous run had committed them
+ * and the write throughput.
+ */
+public class PriceImportResponse {
+
+    @JsonProperty("importId")
+    private String importId;
+
+    @JsonProperty("skippedRows")
+    private long skippedRows;
+
+    @JsonProperty("importedRows")
+    private long importedRows;
+
+    @JsonProperty("committedRows")
+    private long committedRows;
+
+    @JsonProperty("elapsedMillis")
+    private long elapsedMillis;
+
+    @JsonProperty("rowsPerSecond")
+    private long rowsPerSecond;
+
+    public PriceImportResponse() {
+    }
+
+    public PriceImportResponse(String importId, long skippedRows, long importedRows, long committedRows,
+                               long elapsedMillis, long rowsPerSecond) {
+        this.importId = importId;
+        this.skippedRows = skippedRows;
+        this.importedRows = importedRows;
+        this.committedRows = committedRows;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public String getImportId() {
+        return importId;
+    }
+
+    public void setImportId(String importId) {
+        this.importId = importId;
+    }
+
+    public long getSkippedRows() {
+        return skippedRows;
+    }
+
+    public void setSkippedRows(long skippedRows) {
+        this.skippedRows = skippedRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public long getCommittedRows() {
+        return committedRows;
+    }
+
+    public void setCommittedRows(long committedRows) {
+        this.committedRows = committedRows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(long rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+}
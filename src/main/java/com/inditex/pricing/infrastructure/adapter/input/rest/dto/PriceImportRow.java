@@ -0,0 +1,104 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one tariff of an NDJSON price import.
+ * Mirrors the columns of the PRICES table.
+ */
+public class PriceImportRow {
+
+    @JsonProperty("brandId")
+    private Long brandId;
+
+    @JsonProperty("startDate")
+    private LocalDateTime startDate;
+
+    @JsonProperty("endDate")
+    private LocalDateTime endDate;
+
+    @JsonProperty("priceList")
+    private Long priceList;
+
+    @JsonProperty("productId")
+    private Long productId;
+
+    @JsonProperty("priority")
+    private Integer priority;
+
+    @JsonProperty("price")
+    private BigDecimal price;
+
+    @JsonProperty("currency")
+    private String currency;
+
+    public PriceImportRow() {
+    }
+
+    public Long getBrandId() {
+        return brandId;
+    }
+
+    public void setBrandId(Long brandId) {
+        this.brandId = brandId;
+    }
+
+    public LocalDateTime getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDateTime startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDateTime endDate) {
+        this.endDate = endDate;
+    }
+
+    public Long getPriceList() {
+        return priceList;
+    }
+
+    public void setPriceList(Long priceList) {
+        this.priceList = priceList;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+}
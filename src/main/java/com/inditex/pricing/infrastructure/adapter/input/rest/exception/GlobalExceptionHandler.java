@@ -1,10 +1,14 @@
 package com.inditex.pricing.infrastructure.adapter.input.rest.exception;
 
+import com.inditex.pricing.domain.exception.InvalidDateRangeException;
+import com.inditex.pricing.domain.exception.InvalidPriceException;
 import com.inditex.pricing.domain.exception.PriceNotFoundException;
 import com.inditex.pricing.infrastructure.adapter.input.rest.dto.ErrorResponse;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -41,6 +45,44 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    /**
+     * Handles InvalidPriceException.
+     * Returns 400 BAD REQUEST when an imported tariff is malformed; the message tells how many rows
+     * were committed, so the fixed file can be posted again under the same import id.
+     * 
+     * @param ex InvalidPriceException
+     * @return ResponseEntity with ErrorResponse and 400 status
+     */
+    @ExceptionHandler(InvalidPriceException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPriceException(InvalidPriceException ex) {
+        String message = ex.getCommittedRows() < 0
+                ? ex.getMessage()
+                : String.format("%s (%d rows committed)", ex.getMessage(), ex.getCommittedRows());
+        ErrorResponse error = new ErrorResponse(
+                "Invalid Price",
+                message,
+                LocalDateTime.now().format(TIMESTAMP_FORMATTER)
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    /**
+     * Handles InvalidDateRangeException.
+     * Returns 400 BAD REQUEST when a date range ends before it starts.
+     * 
+     * @param ex InvalidDateRangeException
+     * @return ResponseEntity with ErrorResponse and 400 status
+     */
+    @ExceptionHandler(InvalidDateRangeException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidDateRangeException(InvalidDateRangeException ex) {
+        ErrorResponse error = new ErrorResponse(
+                "Invalid Date Range",
+                ex.getMessage(),
+                LocalDateTime.now().format(TIMESTAMP_FORMATTER)
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     /**
      * Handles invalid request parameters.
      * Returns 400 BAD REQUEST for malformed parameters.
@@ -94,6 +136,44 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    /**
+     * Handles invalid request bodies.
+     * Returns 400 BAD REQUEST when a field of the body fails validation.
+     * 
+     * @param ex MethodArgumentNotValidException
+     * @return ResponseEntity with ErrorResponse and 400 status
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentNotValid(MethodArgumentNotValidException ex) {
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(fieldError -> fieldError.getField() + ": " + fieldError.getDefaultMessage())
+                .reduce((first, second) -> first + ", " + second)
+                .orElse("Invalid request body");
+        ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                message,
+                LocalDateTime.now().format(TIMESTAMP_FORMATTER)
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    /**
+     * Handles malformed request bodies.
+     * Returns 400 BAD REQUEST when the body cannot be parsed.
+     * 
+     * @param ex HttpMessageNotReadableException
+     * @return ResponseEntity with ErrorResponse and 400 status
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleHttpMessageNotReadable(HttpMessageNotReadableException ex) {
+        ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                "Malformed request body",
+                LocalDateTime.now().format(TIMESTAMP_FORMATTER)
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     /**
      * Handles unexpected exceptions.
      * Returns 500 INTERNAL SERVER ERROR for unhandled errors.
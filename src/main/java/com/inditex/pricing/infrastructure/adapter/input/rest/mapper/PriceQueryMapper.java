@@ -0,0 +1,32 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest.mapper;
+
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceBatchItemRequest;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceBatchRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Mapper to convert REST batch request DTOs to domain PriceQuery objects.
+ * Separates API representation from domain model.
+ */
+@Component
+public class PriceQueryMapper {
+
+    /**
+     * Converts a PriceBatchRequest DTO to domain queries.
+     * 
+     * @param request Batch request DTO
+     * @return PriceQuery list in request order
+     */
+    public List<PriceQuery> toQueries(PriceBatchRequest request) {
+        return request.getItems().stream()
+                .map(this::toQuery)
+                .toList();
+    }
+
+    private PriceQuery toQuery(PriceBatchItemRequest item) {
+        return new PriceQuery(item.getApplicationDate(), item.getProductId(), item.getBrandId());
+    }
+}
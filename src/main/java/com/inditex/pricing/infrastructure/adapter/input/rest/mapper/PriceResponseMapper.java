@@ -1,9 +1,19 @@
 package com.inditex.pricing.infrastructure.adapter.input.rest.mapper;
 
 import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceImportResult;
+import com.inditex.pricing.domain.model.PriceLookupResult;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceBatchItemResponse;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceBatchResponse;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceImportResponse;
 import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceResponse;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Mapper to convert domain Price to REST PriceResponse DTO.
  * Separates domain model from API representation.
@@ -32,4 +42,67 @@ public class PriceResponseMapper {
                 price.getCurrency()
         );
     }
+
+    /**
+     * Converts a segment of a price timeline to a PriceResponse DTO.
+     * The dates are those of the segment, not of the tariff: the end date is the last instant
+     * of the segment, so it stays inclusive like the END_DATE of a tariff.
+     * 
+     * @param segment Timeline segment with price
+     * @return PriceResponse DTO for REST API
+     */
+    public PriceResponse toTimelineResponse(PriceSegment segment) {
+        Price price = segment.getPrice();
+        LocalDateTime until = segment.getUntil();
+        return new PriceResponse(
+                price.getProductId(),
+                price.getBrandId(),
+                price.getPriceList(),
+                segment.getFrom(),
+                until.equals(LocalDateTime.MAX) ? until : until.minusNanos(1),
+                price.getPrice(),
+                price.getCurrency()
+        );
+    }
+
+    /**
+     * Converts the results of a batch lookup to a PriceBatchResponse DTO.
+     * 
+     * @param results Lookup results in request order
+     * @return PriceBatchResponse DTO for REST API
+     */
+    public PriceBatchResponse toBatchResponse(List<PriceLookupResult> results) {
+        List<PriceBatchItemResponse> items = results.stream()
+                .map(this::toBatchItemResponse)
+                .toList();
+        return new PriceBatchResponse(items);
+    }
+
+    /**
+     * Converts the outcome of a price import to a PriceImportResponse DTO.
+     * 
+     * @param result Outcome of the import
+     * @return PriceImportResponse DTO for REST API
+     */
+    public PriceImportResponse toImportResponse(PriceImportResult result) {
+        return new PriceImportResponse(
+                result.getImportId(),
+                result.getSkippedRows(),
+                result.getImportedRows(),
+                result.getCommittedRows(),
+                result.getElapsed().toMillis(),
+                Math.round(result.getRowsPerSecond())
+        );
+    }
+
+    private PriceBatchItemResponse toBatchItemResponse(PriceLookupResult result) {
+        PriceQuery query = result.getQuery();
+        return new PriceBatchItemResponse(
+                query.getApplicationDate(),
+                query.getProductId(),
+                query.getBrandId(),
+                result.isFound(),
+                result.getPrice().map(this::toResponse).orElse(null)
+        );
+    }
 }
@@ -0,0 +1,105 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest.reader;
+
+import com.inditex.pricing.domain.exception.InvalidPriceException;
+import com.inditex.pricing.domain.model.Price;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads tariffs from a CSV stream, one line at a time.
+ * 
+ * The first line is the header {@value #HEADER}; dates are ISO local date-times
+ * (e.g. 2020-06-14T00:00:00). Rows are parsed lazily while the import consumes them,
+ * so the file is never held in memory.
+ */
+@Component
+public class PriceCsvReader {
+
+    public static final String HEADER = "BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR";
+
+    private static final int COLUMNS = 8;
+
+    /**
+     * Returns the tariffs of a CSV stream.
+     * 
+     * @param inputStream CSV content, UTF-8 encoded
+     * @return Lazy iterator over the tariffs, in file order
+     * @throws InvalidPriceException if the header or a row is malformed, when it is reached
+     */
+    public Iterator<Price> read(InputStream inputStream) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String header = readLine(reader);
+        if (header == null || !HEADER.equals(header.strip())) {
+            throw new InvalidPriceException(0, "header must be " + HEADER);
+        }
+        return new Iterator<>() {
+
+            private long row;
+            private String next = nextLine();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Price next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Price price = parse(++row, next);
+                next = nextLine();
+                return price;
+            }
+
+            private String nextLine() {
+                String line = readLine(reader);
+                while (line != null && line.isBlank()) {
+                    line = readLine(reader);
+                }
+                return line;
+            }
+        };
+    }
+
+    private static Price parse(long row, String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != COLUMNS) {
+            throw new InvalidPriceException(row, "expected " + COLUMNS + " columns but found " + columns.length);
+        }
+        try {
+            return new Price(
+                    null,
+                    Long.valueOf(columns[0].strip()),
+                    LocalDateTime.parse(columns[1].strip()),
+                    LocalDateTime.parse(columns[2].strip()),
+                    Long.valueOf(columns[3].strip()),
+                    Long.valueOf(columns[4].strip()),
+                    Integer.valueOf(columns[5].strip()),
+                    new BigDecimal(columns[6].strip()),
+                    columns[7].strip()
+            );
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new InvalidPriceException(row, ex.getMessage());
+        }
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
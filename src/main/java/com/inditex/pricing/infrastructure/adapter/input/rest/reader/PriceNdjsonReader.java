@@ -0,0 +1,98 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest.reader;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.inditex.pricing.domain.exception.InvalidPriceException;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceImportRow;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads tariffs from a newline-delimited JSON stream, one {@link PriceImportRow} object per line.
+ * 
+ * Objects are bound lazily while the import consumes them, so the stream is never held in memory.
+ */
+@Component
+public class PriceNdjsonReader {
+
+    private final ObjectReader rowReader;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param objectMapper Jackson mapper configured by Spring Boot (ISO dates)
+     */
+    public PriceNdjsonReader(ObjectMapper objectMapper) {
+        this.rowReader = objectMapper.readerFor(PriceImportRow.class);
+    }
+
+    /**
+     * Returns the tariffs of an NDJSON stream.
+     * 
+     * @param inputStream NDJSON content
+     * @return Lazy iterator over the tariffs, in stream order
+     * @throws InvalidPriceException if an object is malformed or incomplete, when it is reached
+     */
+    public Iterator<Price> read(InputStream inputStream) {
+        MappingIterator<PriceImportRow> rows;
+        try {
+            rows = rowReader.readValues(inputStream);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return new Iterator<>() {
+
+            private long row;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    return rows.hasNextValue();
+                } catch (IOException ex) {
+                    throw new InvalidPriceException(row + 1, ex.getMessage());
+                }
+            }
+
+            @Override
+            public Price next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                row++;
+                try {
+                    return toPrice(row, rows.nextValue());
+                } catch (IOException | RuntimeJsonMappingException ex) {
+                    throw new InvalidPriceException(row, ex.getMessage());
+                }
+            }
+        };
+    }
+
+    private static Price toPrice(long row, PriceImportRow importRow) {
+        if (importRow.getBrandId() == null || importRow.getStartDate() == null || importRow.getEndDate() == null
+                || importRow.getPriceList() == null || importRow.getProductId() == null
+                || importRow.getPriority() == null || importRow.getPrice() == null
+                || importRow.getCurrency() == null) {
+            throw new InvalidPriceException(row, "all fields are required");
+        }
+        return new Price(
+                null,
+                importRow.getBrandId(),
+                importRow.getStartDate(),
+                importRow.getEndDate(),
+                importRow.getPriceList(),
+                importRow.getProductId(),
+                importRow.getPriority(),
+                importRow.getPrice(),
+                importRow.getCurrency()
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest.writer;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.infrastructure.adapter.input.rest.reader.PriceCsvReader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes tariffs as CSV, one line per price.
+ * 
+ * Uses the header and columns read by {@link PriceCsvReader} ({@value PriceCsvReader#HEADER}),
+ * so an export can be imported again as is. Dates are ISO local date-times.
+ */
+@Component
+public class PriceCsvWriter {
+
+    private static final byte[] HEADER = (PriceCsvReader.HEADER + "\n").getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Writes the header line.
+     * 
+     * @param out Stream to write to; it is neither flushed nor closed
+     * @throws IOException if the stream fails
+     */
+    public void writeHeader(OutputStream out) throws IOException {
+        out.write(HEADER);
+    }
+
+    /**
+     * Writes one tariff as a CSV line.
+     * 
+     * @param price Tariff to write
+     * @param out Stream to write to; it is neither flushed nor closed
+     * @throws IOException if the stream fails
+     */
+    public void write(Price price, OutputStream out) throws IOException {
+        String line = price.getBrandId() + "," +
+                DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(price.getStartDate()) + "," +
+                DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(price.getEndDate()) + "," +
+                price.getPriceList() + "," +
+                price.getProductId() + "," +
+                price.getPriority() + "," +
+                price.getPrice().toPlainString() + "," +
+                price.getCurrency() + "\n";
+        out.write(line.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,46 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest.writer;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.infrastructure.adapter.input.rest.converter.PriceResponseHttpMessageConverter;
+import com.inditex.pricing.infrastructure.adapter.input.rest.mapper.PriceResponseMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes prices as newline-delimited JSON, one line per price.
+ * 
+ * Each line is the JSON of the single price endpoint, written by
+ * {@link PriceResponseHttpMessageConverter} without going through the ObjectMapper.
+ */
+@Component
+public class PriceNdjsonWriter {
+
+    private final PriceResponseMapper priceResponseMapper;
+    private final PriceResponseHttpMessageConverter priceResponseConverter;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param priceResponseMapper Mapper to convert domain to DTO
+     * @param priceResponseConverter Writer of the price JSON
+     */
+    public PriceNdjsonWriter(PriceResponseMapper priceResponseMapper,
+                             PriceResponseHttpMessageConverter priceResponseConverter) {
+        this.priceResponseMapper = priceResponseMapper;
+        this.priceResponseConverter = priceResponseConverter;
+    }
+
+    /**
+     * Writes one price as a JSON line.
+     * 
+     * @param price Price to write
+     * @param out Stream to write to; it is neither flushed nor closed
+     * @throws IOException if the stream fails
+     */
+    public void write(Price price, OutputStream out) throws IOException {
+        priceResponseConverter.writeJson(priceResponseMapper.toResponse(price), out);
+        out.write('\n');
+    }
+}
@@ -0,0 +1,218 @@
+package com.inditex.pricing.infrastructure.adapter.output.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.port.output.PriceCachePort;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.PriceChangeListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Adapter that implements the PriceCachePort with a bounded Caffeine cache.
+ * 
+ * Cache strategy:
+ * - One entry per (brandId, productId), holding the resolved price and its validity period
+ * - Size-bounded with W-TinyLFU eviction
+ * - An entry whose period ends in the future expires exactly at that boundary,
+ *   other entries expire after the configured time to live
+ * - Expiry runs on the injected clock, the same one the boundaries are compared with,
+ *   so an entry expires at its boundary even if the system clock is adjusted
+ * - Entries of products whose tariffs change are invalidated, after the price stores are refreshed
+ * - Every invalidation bumps the generation of the product, and a segment queried before it is
+ *   not stored after it, so a lookup racing with a change cannot cache the old price
+ * - With read replicas, a miss right after a change may still read the old tariffs from a lagging
+ *   replica; entries stored within {@code pricing.read-replicas.max-lag} of the invalidation of
+ *   their product expire when that lag has passed, so a change is never hidden for longer
+ * 
+ * Generations and invalidation times are kept per stripe of products rather than per product, so
+ * they take fixed memory; products sharing a stripe only skip or shorten each other's entries.
+ * 
+ * Hit, miss and eviction counters are published to Actuator as the {@code cache.*} metrics
+ * with tag {@code cache=prices}. Hits and misses are recorded by the adapter: an entry whose
+ * period does not contain the date is a miss. Disabled with {@code pricing.cache.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.cache.enabled", havingValue = "true", matchIfMissing = true)
+@Order(PriceChangeListener.CACHE_ORDER)
+public class CaffeinePriceCacheAdapter implements PriceCachePort, PriceChangeListener {
+
+    private static final String CACHE_NAME = "prices";
+
+    private static final int STRIPES = 4096;
+
+    private final StatsCounter stats = new ConcurrentStatsCounter();
+    private final Cache<PriceKey, CachedSegment> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    private final AtomicLongArray invalidatedAt = new AtomicLongArray(STRIPES);
+    private final Ticker ticker;
+    private final BoundaryExpiry expiry;
+    private final long replicaLagNanos;
+
+    /**
+     * Constructor injection for dependencies and configuration.
+     * 
+     * @param meterRegistry Registry where the cache statistics are published
+     * @param maximumSize Maximum number of products kept in the cache
+     * @param timeToLive Maximum time an entry is kept
+     * @param clock Clock that tells the current date and drives expiry
+     * @param readReplicas Whether lookups may be served by read replicas
+     * @param maxReplicaLag Longest time a replica may lag behind the primary database
+     */
+    public CaffeinePriceCacheAdapter(MeterRegistry meterRegistry,
+                                     @Value("${pricing.cache.maximum-size:100000}") long maximumSize,
+                                     @Value("${pricing.cache.time-to-live:PT1H}") Duration timeToLive,
+                                     Clock clock,
+                                     @Value("${pricing.read-replicas.enabled:false}") boolean readReplicas,
+                                     @Value("${pricing.read-replicas.max-lag:PT5S}") Duration maxReplicaLag) {
+        this.ticker = ticker(clock);
+        this.expiry = new BoundaryExpiry(timeToLive, clock);
+        this.replicaLagNanos = readReplicas ? maxReplicaLag.toNanos() : 0;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new LifetimeExpiry())
+                .ticker(ticker)
+                .recordStats(() -> stats)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<PriceSegment> get(PriceKey key, LocalDateTime applicationDate) {
+        CachedSegment cached = cache.asMap().get(key);
+        if (cached != null && cached.segment.contains(applicationDate)) {
+            stats.recordHits(1);
+            return Optional.of(cached.segment);
+        }
+        stats.recordMisses(1);
+        return Optional.empty();
+    }
+
+    @Override
+    public long generation(PriceKey key) {
+        return generations.get(stripe(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * The generation is compared while the entry of the product is locked, and an invalidation
+     * bumps it before removing the entry, so either the put is skipped or its entry is removed.
+     */
+    @Override
+    public void put(PriceKey key, PriceSegment segment, long generation) {
+        int stripe = stripe(key);
+        cache.asMap().compute(key, (k, previous) -> {
+            if (generations.get(stripe) != generation) {
+                return previous;
+            }
+            long lifetime = expiry.lifetimeNanos(segment);
+            if (replicaLagNanos > 0) {
+                long lagLeft = invalidatedAt.get(stripe) + replicaLagNanos - ticker.read();
+                lifetime = lagLeft > 0 ? Math.min(lifetime, lagLeft) : lifetime;
+            }
+            return new CachedSegment(segment, lifetime);
+        });
+    }
+
+    @Override
+    public void onPricesChanged(Set<PriceKey> keys) {
+        long now = ticker.read();
+        for (PriceKey key : keys) {
+            int stripe = stripe(key);
+            generations.incrementAndGet(stripe);
+            invalidatedAt.set(stripe, now);
+        }
+        cache.invalidateAll(keys);
+    }
+
+    private static int stripe(PriceKey key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    /**
+     * Nanoseconds of the clock since the epoch (valid until 2262).
+     */
+    private static Ticker ticker(Clock clock) {
+        return () -> {
+            Instant now = clock.instant();
+            return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+        };
+    }
+
+    /**
+     * Cached segment and the time it may be kept.
+     */
+    private static final class CachedSegment {
+
+        private final PriceSegment segment;
+        private final long lifetimeNanos;
+
+        private CachedSegment(PriceSegment segment, long lifetimeNanos) {
+            this.segment = segment;
+            this.lifetimeNanos = lifetimeNanos;
+        }
+    }
+
+    /**
+     * Expires each entry after the lifetime decided when it was stored.
+     */
+    private static final class LifetimeExpiry implements Expiry<PriceKey, CachedSegment> {
+
+        @Override
+        public long expireAfterCreate(PriceKey key, CachedSegment cached, long currentTime) {
+            return cached.lifetimeNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(PriceKey key, CachedSegment cached, long currentTime, long currentDuration) {
+            return cached.lifetimeNanos;
+        }
+
+        @Override
+        public long expireAfterRead(PriceKey key, CachedSegment cached, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Lifetime of an entry: until the end of its validity period when it is in the near future.
+     */
+    private static final class BoundaryExpiry {
+
+        private final long timeToLiveNanos;
+        private final Clock clock;
+
+        private BoundaryExpiry(Duration timeToLive, Clock clock) {
+            this.timeToLiveNanos = timeToLive.toNanos();
+            this.clock = clock;
+        }
+
+        private long lifetimeNanos(PriceSegment segment) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            if (!segment.getUntil().isAfter(now)) {
+                return timeToLiveNanos;
+            }
+            Duration remaining = Duration.between(now, segment.getUntil());
+            return remaining.compareTo(Duration.ofNanos(timeToLiveNanos)) < 0 ? remaining.toNanos() : timeToLiveNanos;
+        }
+    }
+}
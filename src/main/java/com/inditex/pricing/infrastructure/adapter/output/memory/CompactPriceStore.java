@@ -0,0 +1,529 @@
+package com.inditex.pricing.infrastructure.adapter.output.memory;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.model.PriceTimeline;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Immutable, columnar encoding of resolved price timelines in primitive arrays.
+ * 
+ * Only the tariffs that win some period are kept, one row per tariff:
+ * - Start date as epoch seconds (UTC) and end date as seconds from the start; nanoseconds in
+ *   {@code int} columns that are only allocated when some date has a fractional second
+ * - Price as unscaled {@code long} (minor units) plus a {@code byte} scale
+ * - Currency as a {@code short} code into a dictionary
+ * 
+ * Each product is a run of {@code int} segment entries that reference the winning tariff.
+ * A segment starts either at the start date of its tariff or at the exclusive end of the previous
+ * tariff, which is encoded in the sign of the entry, so segments store no dates of their own.
+ * Products are found through an open-addressing hash table over the (brandId, productId) columns.
+ * Numeric columns take 4 bytes per value when all their values fit in an {@code int}, 8 otherwise.
+ * 
+ * The columns live either in heap arrays (built with {@link Builder}) or in a memory-mapped file
+ * (see {@link CompactPriceStoreFile}); lookups are the same in both cases.
+ * 
+ * {@link Price} and {@link PriceSegment} objects are only materialized for the looked-up date.
+ */
+public final class CompactPriceStore {
+
+    private static final CompactPriceStore EMPTY = new Builder().build();
+
+    /** Segment entry of a gap between two tariffs; it starts at the exclusive end of the previous tariff. */
+    private static final int GAP = -1;
+
+    private static final long NO_ID = Long.MIN_VALUE;
+    private static final long MAX_SECOND = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+    private static final int MAX_NANO = LocalDateTime.MAX.getNano();
+
+    private final PriceColumn brandIds;
+    private final PriceColumn productIds;
+    private final PriceColumn firstSegments;
+    private final PriceColumn slots;
+    private final PriceColumn segments;
+
+    private final PriceColumn ids;
+    private final PriceColumn startSeconds;
+    private final PriceColumn startNanos;
+    private final PriceColumn durationSeconds;
+    private final PriceColumn endNanos;
+    private final PriceColumn priceLists;
+    private final PriceColumn priorities;
+    private final PriceColumn amounts;
+    private final PriceColumn scales;
+    private final PriceColumn currencies;
+    private final String[] currencyDictionary;
+
+    private final int slotMask;
+
+    /**
+     * Constructor over already encoded columns, in the order of {@link #columns()}.
+     * The optional nanosecond columns may be null.
+     */
+    CompactPriceStore(PriceColumn[] columns, String[] currencyDictionary) {
+        this.brandIds = columns[0];
+        this.productIds = columns[1];
+        this.firstSegments = columns[2];
+        this.slots = columns[3];
+        this.segments = columns[4];
+        this.ids = columns[5];
+        this.startSeconds = columns[6];
+        this.startNanos = columns[7];
+        this.durationSeconds = columns[8];
+        this.endNanos = columns[9];
+        this.priceLists = columns[10];
+        this.priorities = columns[11];
+        this.amounts = columns[12];
+        this.scales = columns[13];
+        this.currencies = columns[14];
+        this.currencyDictionary = currencyDictionary;
+        this.slotMask = slots.length() - 1;
+    }
+
+    /**
+     * Store without any product.
+     * 
+     * @return shared empty store
+     */
+    public static CompactPriceStore empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Encodes the given timelines.
+     * 
+     * @param timelines Resolved timeline of each product
+     * @return CompactPriceStore holding the timelines
+     * @throws IllegalArgumentException if a price does not fit the encoding (more than 18 digits, or
+     *                                  a scale outside a byte)
+     */
+    public static CompactPriceStore of(Map<PriceKey, PriceTimeline> timelines) {
+        Builder builder = new Builder();
+        timelines.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Checks whether the store holds a product.
+     * 
+     * @param key Brand and product
+     * @return true if the product has at least one segment
+     */
+    public boolean contains(PriceKey key) {
+        return productOf(key) >= 0;
+    }
+
+    /**
+     * Returns the segment that contains the given date, or the gap around it when no price applies,
+     * with the same bounds as {@link PriceTimeline#segmentAt(LocalDateTime)}.
+     * 
+     * @param key Brand and product
+     * @param date Date and time to look up
+     * @return PriceSegment covering the date, never null
+     */
+    public PriceSegment segmentAt(PriceKey key, LocalDateTime date) {
+        int product = productOf(key);
+        if (product < 0) {
+            return PriceSegment.gap(LocalDateTime.MIN, LocalDateTime.MAX);
+        }
+        int first = (int) firstSegments.get(product);
+        int end = (int) firstSegments.get(product + 1);
+        long second = date.toEpochSecond(ZoneOffset.UTC);
+        int nano = date.getNano();
+
+        int found = locate(first, end, second, nano);
+        if (found < 0) {
+            return PriceSegment.gap(LocalDateTime.MIN, from(first));
+        }
+        LocalDateTime until = until(found, end);
+        if (compare(second, nano, until.toEpochSecond(ZoneOffset.UTC), until.getNano()) >= 0) {
+            return PriceSegment.gap(until, LocalDateTime.MAX);
+        }
+        int tariff = tariffOf((int) segments.get(found));
+        return (int) segments.get(found) == GAP
+                ? PriceSegment.gap(from(found), until)
+                : new PriceSegment(from(found), until, price(tariff, key));
+    }
+
+    /**
+     * Finds the segment that contains the given date.
+     * 
+     * @param key Brand and product
+     * @param date Date and time to look up
+     * @return Optional containing the segment if a price applies at the date, empty otherwise
+     */
+    public Optional<PriceSegment> findSegment(PriceKey key, LocalDateTime date) {
+        PriceSegment segment = segmentAt(key, date);
+        return segment.hasPrice() ? Optional.of(segment) : Optional.empty();
+    }
+
+    /**
+     * Finds the price that applies at the given date, without materializing its segment.
+     * 
+     * @param key Brand and product
+     * @param date Date and time to look up
+     * @return Optional containing the winning price, empty if no price applies
+     */
+    public Optional<Price> findPrice(PriceKey key, LocalDateTime date) {
+        int product = productOf(key);
+        if (product < 0) {
+            return Optional.empty();
+        }
+        int end = (int) firstSegments.get(product + 1);
+        long second = date.toEpochSecond(ZoneOffset.UTC);
+        int nano = date.getNano();
+        int found = locate((int) firstSegments.get(product), end, second, nano);
+        if (found < 0 || (int) segments.get(found) == GAP) {
+            return Optional.empty();
+        }
+        int tariff = tariffOf((int) segments.get(found));
+        if (found + 1 == end && compare(second, nano, exclusiveEndSecond(tariff), exclusiveEndNano(tariff)) >= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(price(tariff, key));
+    }
+
+    /**
+     * Materializes the whole timeline of a product.
+     * 
+     * @param key Brand and product
+     * @return PriceTimeline of the product, empty if it is not in the store
+     */
+    public PriceTimeline timelineOf(PriceKey key) {
+        int product = productOf(key);
+        if (product < 0) {
+            return PriceTimeline.empty();
+        }
+        int end = (int) firstSegments.get(product + 1);
+        Map<Integer, Price> prices = new HashMap<>();
+        List<PriceSegment> timeline = new ArrayList<>();
+        for (int segment = (int) firstSegments.get(product); segment < end; segment++) {
+            if ((int) segments.get(segment) != GAP) {
+                Price price = prices.computeIfAbsent(tariffOf((int) segments.get(segment)), tariff -> price(tariff, key));
+                timeline.add(new PriceSegment(from(segment), until(segment, end), price));
+            }
+        }
+        return new PriceTimeline(timeline);
+    }
+
+    /**
+     * Number of products in the store.
+     * 
+     * @return number of product timelines
+     */
+    public int size() {
+        return brandIds.length();
+    }
+
+    /**
+     * Number of tariffs kept in the store, i.e. the tariffs that win at least one period.
+     * 
+     * @return number of tariff rows
+     */
+    public int tariffCount() {
+        return ids.length();
+    }
+
+    /**
+     * Bytes held by the columns of the store, excluding object headers and the currency dictionary strings.
+     * 
+     * @return approximate footprint, on or off heap
+     */
+    public long footprintBytes() {
+        long bytes = 0;
+        for (PriceColumn column : columns()) {
+            bytes += column == null ? 0 : column.bytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Visits the brand and product of every product in the store, in storage order.
+     * 
+     * @param action Called once per product
+     */
+    void forEachKey(Consumer<PriceKey> action) {
+        for (int product = 0; product < size(); product++) {
+            action.accept(new PriceKey(brandIds.get(product), productIds.get(product)));
+        }
+    }
+
+    /**
+     * PriceColumns of the store, in the order expected by the constructor; absent optional columns are null.
+     * 
+     * @return the columns
+     */
+    PriceColumn[] columns() {
+        return new PriceColumn[]{brandIds, productIds, firstSegments, slots, segments, ids, startSeconds, startNanos,
+                durationSeconds, endNanos, priceLists, priorities, amounts, scales, currencies};
+    }
+
+    String[] currencyDictionary() {
+        return currencyDictionary.clone();
+    }
+
+    private int productOf(PriceKey key) {
+        long brandId = key.getBrandId();
+        long productId = key.getProductId();
+        int slot = slotOf(brandId, productId);
+        while (slots.get(slot) != 0) {
+            int product = (int) slots.get(slot) - 1;
+            if (brandIds.get(product) == brandId && productIds.get(product) == productId) {
+                return product;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return -1;
+    }
+
+    private int slotOf(long brandId, long productId) {
+        return hash(brandId, productId) & slotMask;
+    }
+
+    private static int hash(long brandId, long productId) {
+        long hash = (brandId * 0x9E3779B97F4A7C15L) ^ productId;
+        hash *= 0xBF58476D1CE4E5B9L;
+        return (int) (hash ^ (hash >>> 31));
+    }
+
+    /**
+     * Binary search of the last segment entry of a product starting at or before the given instant.
+     */
+    private int locate(int first, int end, long second, int nano) {
+        int low = first;
+        int high = end - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(fromSecond(mid), fromNano(mid), second, nano) <= 0) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private static int tariffOf(int entry) {
+        return entry >= 0 ? entry : -(entry + 2);
+    }
+
+    private long fromSecond(int segment) {
+        int entry = (int) segments.get(segment);
+        return entry >= 0 ? startSeconds.get(entry) : exclusiveEndSecond(tariffOf((int) segments.get(segment - 1)));
+    }
+
+    private int fromNano(int segment) {
+        int entry = (int) segments.get(segment);
+        return entry >= 0 ? nano(startNanos, entry) : exclusiveEndNano(tariffOf((int) segments.get(segment - 1)));
+    }
+
+    private LocalDateTime from(int segment) {
+        return LocalDateTime.ofEpochSecond(fromSecond(segment), fromNano(segment), ZoneOffset.UTC);
+    }
+
+    private LocalDateTime until(int segment, int end) {
+        if (segment + 1 < end) {
+            return from(segment + 1);
+        }
+        int tariff = tariffOf((int) segments.get(segment));
+        return LocalDateTime.ofEpochSecond(exclusiveEndSecond(tariff), exclusiveEndNano(tariff), ZoneOffset.UTC);
+    }
+
+    private long endSecond(int tariff) {
+        return startSeconds.get(tariff) + durationSeconds.get(tariff);
+    }
+
+    private long exclusiveEndSecond(int tariff) {
+        long endSecond = endSecond(tariff);
+        return nano(endNanos, tariff) == 999_999_999 && endSecond != MAX_SECOND ? endSecond + 1 : endSecond;
+    }
+
+    private int exclusiveEndNano(int tariff) {
+        int nano = nano(endNanos, tariff);
+        if (endSecond(tariff) == MAX_SECOND && nano == MAX_NANO) {
+            return nano;
+        }
+        return nano == 999_999_999 ? 0 : nano + 1;
+    }
+
+    private Price price(int tariff, PriceKey key) {
+        return new Price(
+                ids.get(tariff) == NO_ID ? null : ids.get(tariff),
+                key.getBrandId(),
+                LocalDateTime.ofEpochSecond(startSeconds.get(tariff), nano(startNanos, tariff), ZoneOffset.UTC),
+                LocalDateTime.ofEpochSecond(endSecond(tariff), nano(endNanos, tariff), ZoneOffset.UTC),
+                priceLists.get(tariff),
+                key.getProductId(),
+                (int) priorities.get(tariff),
+                BigDecimal.valueOf(amounts.get(tariff), (int) scales.get(tariff)),
+                currencyDictionary[(int) currencies.get(tariff)]
+        );
+    }
+
+    private static int nano(PriceColumn nanos, int tariff) {
+        return nanos == null ? 0 : (int) nanos.get(tariff);
+    }
+
+    private static int compare(long secondA, int nanoA, long secondB, int nanoB) {
+        int bySecond = Long.compare(secondA, secondB);
+        return bySecond != 0 ? bySecond : Integer.compare(nanoA, nanoB);
+    }
+
+    /**
+     * Appends product timelines to growable columns; {@link #build()} trims them into a store.
+     */
+    static final class Builder {
+
+        private long[] brandIds = new long[16];
+        private long[] productIds = new long[16];
+        private int[] firstSegments = new int[17];
+        private int products;
+
+        private int[] segments = new int[16];
+        private int segmentCount;
+
+        private long[] ids = new long[16];
+        private long[] startSeconds = new long[16];
+        private int[] startNanos = new int[16];
+        private long[] durationSeconds = new long[16];
+        private int[] endNanos = new int[16];
+        private long[] priceLists = new long[16];
+        private int[] priorities = new int[16];
+        private long[] amounts = new long[16];
+        private byte[] scales = new byte[16];
+        private short[] currencies = new short[16];
+        private int tariffs;
+        private final Map<String, Short> currencyCodes = new HashMap<>();
+
+        void add(PriceKey key, PriceTimeline timeline) {
+            List<PriceSegment> productSegments = timeline.getSegments();
+            if (productSegments.isEmpty()) {
+                return;
+            }
+            if (products + 1 == brandIds.length) {
+                int capacity = brandIds.length * 2;
+                brandIds = Arrays.copyOf(brandIds, capacity);
+                productIds = Arrays.copyOf(productIds, capacity);
+                firstSegments = Arrays.copyOf(firstSegments, capacity + 1);
+            }
+            brandIds[products] = key.getBrandId();
+            productIds[products] = key.getProductId();
+            firstSegments[products] = segmentCount;
+            products++;
+
+            Map<Price, Integer> tariffOfPrice = new IdentityHashMap<>();
+            PriceSegment previous = null;
+            for (PriceSegment segment : productSegments) {
+                int tariff = tariffOfPrice.computeIfAbsent(segment.getPrice(), this::addTariff);
+                if (previous != null && previous.getUntil().isBefore(segment.getFrom())) {
+                    addSegment(GAP);
+                }
+                if (segment.getFrom().equals(segment.getPrice().getStartDate())) {
+                    addSegment(tariff);
+                } else if (previous != null && previous.getUntil().equals(segment.getFrom())) {
+                    addSegment(-(tariff + 2));
+                } else {
+                    throw new IllegalArgumentException("Segment does not start at a tariff boundary: " + segment);
+                }
+                previous = segment;
+            }
+        }
+
+        CompactPriceStore build() {
+            firstSegments[products] = segmentCount;
+            int[] slots = new int[Integer.highestOneBit(Math.max(1, products) * 2) * 2];
+            for (int product = 0; product < products; product++) {
+                int slot = hash(brandIds[product], productIds[product]) & (slots.length - 1);
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & (slots.length - 1);
+                }
+                slots[slot] = product + 1;
+            }
+            String[] dictionary = new String[currencyCodes.size()];
+            currencyCodes.forEach((currency, code) -> dictionary[code] = currency);
+
+            return new CompactPriceStore(new PriceColumn[]{
+                    PriceColumn.ofLongs(brandIds, products),
+                    PriceColumn.ofLongs(productIds, products),
+                    PriceColumn.ofInts(firstSegments, products + 1),
+                    PriceColumn.ofInts(slots, slots.length),
+                    PriceColumn.ofInts(segments, segmentCount),
+                    PriceColumn.ofLongs(ids, tariffs),
+                    PriceColumn.ofLongs(startSeconds, tariffs),
+                    PriceColumn.ofNanos(startNanos, tariffs),
+                    PriceColumn.ofLongs(durationSeconds, tariffs),
+                    PriceColumn.ofNanos(endNanos, tariffs),
+                    PriceColumn.ofLongs(priceLists, tariffs),
+                    PriceColumn.ofInts(priorities, tariffs),
+                    PriceColumn.ofLongs(amounts, tariffs),
+                    PriceColumn.ofBytes(scales, tariffs),
+                    PriceColumn.ofShorts(currencies, tariffs)
+            }, dictionary);
+        }
+
+        private void addSegment(int entry) {
+            if (segmentCount == segments.length) {
+                segments = Arrays.copyOf(segments, segmentCount * 2);
+            }
+            segments[segmentCount++] = entry;
+        }
+
+        private int addTariff(Price price) {
+            if (tariffs == ids.length) {
+                int capacity = tariffs * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                startSeconds = Arrays.copyOf(startSeconds, capacity);
+                startNanos = Arrays.copyOf(startNanos, capacity);
+                durationSeconds = Arrays.copyOf(durationSeconds, capacity);
+                endNanos = Arrays.copyOf(endNanos, capacity);
+                priceLists = Arrays.copyOf(priceLists, capacity);
+                priorities = Arrays.copyOf(priorities, capacity);
+                amounts = Arrays.copyOf(amounts, capacity);
+                scales = Arrays.copyOf(scales, capacity);
+                currencies = Arrays.copyOf(currencies, capacity);
+            }
+            BigDecimal amount = price.getPrice();
+            if (amount.scale() < Byte.MIN_VALUE || amount.scale() > Byte.MAX_VALUE || amount.precision() > 18) {
+                throw new IllegalArgumentException("Price does not fit the compact encoding: " + amount);
+            }
+            int tariff = tariffs++;
+            ids[tariff] = price.getId() == null ? NO_ID : price.getId();
+            startSeconds[tariff] = price.getStartDate().toEpochSecond(ZoneOffset.UTC);
+            startNanos[tariff] = price.getStartDate().getNano();
+            durationSeconds[tariff] = price.getEndDate().toEpochSecond(ZoneOffset.UTC) - startSeconds[tariff];
+            endNanos[tariff] = price.getEndDate().getNano();
+            priceLists[tariff] = price.getPriceList();
+            priorities[tariff] = price.getPriority();
+            amounts[tariff] = amount.unscaledValue().longValueExact();
+            scales[tariff] = (byte) amount.scale();
+            currencies[tariff] = currencyCode(price.getCurrency());
+            return tariff;
+        }
+
+        private short currencyCode(String currency) {
+            Short code = currencyCodes.get(currency);
+            if (code == null) {
+                if (currencyCodes.size() > Short.MAX_VALUE) {
+                    throw new IllegalArgumentException("Too many distinct currencies for the compact encoding");
+                }
+                code = (short) currencyCodes.size();
+                currencyCodes.put(currency, code);
+            }
+            return code;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.inditex.pricing.infrastructure.adapter.output.memory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary file format of a {@link CompactPriceStore}, read through memory-mapped buffers.
+ * 
+ * The file holds the columns of the store exactly as they are queried, so opening it only maps
+ * each column and reads the few bytes of the header: no tariff is deserialized and the open time does not depend
+ * on the size of the catalogue. The pages are loaded lazily by the operating system and live in
+ * its page cache, outside the Java heap, so every JVM that maps the same file shares one copy.
+ * 
+ * Layout (little-endian):
+ * 1. Header: magic {@code PRCS}, format version, number of columns and the last PRICE_CHANGES
+ *    outbox row already reflected in the tariffs
+ * 2. Currency dictionary: number of codes, then each code as a length-prefixed UTF-8 string
+ * 3. Column directory: bytes per value (0 for an absent optional column) and number of values
+ * 4. Column data, each column aligned to 8 bytes
+ * 
+ * Files are replaced atomically, so a process that has the previous file mapped keeps reading it
+ * unchanged until it maps the new one.
+ */
+public final class CompactPriceStoreFile {
+
+    private static final int MAGIC = 0x50524353;
+    private static final int VERSION = 1;
+    private static final int ALIGNMENT = Long.BYTES;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES + Long.BYTES;
+    private static final int SCRATCH_BYTES = 64 * 1024;
+
+    private final CompactPriceStore store;
+    private final long changeId;
+
+    private CompactPriceStoreFile(CompactPriceStore store, long changeId) {
+        this.store = store;
+        this.changeId = changeId;
+    }
+
+    /**
+     * Writes the store to a file, replacing it atomically if it exists.
+     * 
+     * @param store Store to write, on or off heap
+     * @param changeId Last PRICE_CHANGES row reflected in the store, 0 if none
+     * @param file Destination file; its directory is created if needed
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(CompactPriceStore store, long changeId, Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = directory.resolve(file.getFileName() + "." + ProcessHandle.current().pid() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeTo(store, changeId, channel);
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Maps a file written by {@link #write(CompactPriceStore, long, Path)} into a read-only store.
+     * The mapping stays valid after the file is replaced or deleted.
+     * 
+     * @param file File to map
+     * @return CompactPriceStoreFile whose store is backed by the mapped file
+     * @throws IOException if the file cannot be read or is not a price store file
+     */
+    public static CompactPriceStoreFile map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a price store file: " + file);
+            }
+            ByteBuffer header = read(channel, 0, HEADER_BYTES, file);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a price store file: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported price store file version " + version + ": " + file);
+            }
+
+            PriceColumn[] columns = new PriceColumn[header.getInt()];
+            long changeId = header.getLong();
+            String[] dictionary = new String[header.getInt()];
+            long position = HEADER_BYTES;
+            for (int code = 0; code < dictionary.length; code++) {
+                int length = read(channel, position, Short.BYTES, file).getShort();
+                byte[] bytes = new byte[length];
+                read(channel, position + Short.BYTES, length, file).get(bytes);
+                dictionary[code] = new String(bytes, StandardCharsets.UTF_8);
+                position += Short.BYTES + length;
+            }
+            int[] widths = new int[columns.length];
+            int[] lengths = new int[columns.length];
+            ByteBuffer directory = read(channel, position, columns.length * (Byte.BYTES + Integer.BYTES), file);
+            for (int column = 0; column < columns.length; column++) {
+                widths[column] = directory.get();
+                lengths[column] = directory.getInt();
+            }
+
+            position = align(position + directory.capacity());
+            for (int column = 0; column < columns.length; column++) {
+                if (widths[column] == 0) {
+                    continue;
+                }
+                long bytes = (long) widths[column] * lengths[column];
+                if (position + bytes > channel.size()) {
+                    throw new IOException("Truncated price store file: " + file);
+                }
+                columns[column] = PriceColumn.ofBuffer(channel.map(FileChannel.MapMode.READ_ONLY, position, bytes),
+                        widths[column], lengths[column]);
+                position = align(position + bytes);
+            }
+            return new CompactPriceStoreFile(new CompactPriceStore(columns, dictionary), changeId);
+        }
+    }
+
+    /**
+     * Mapped store.
+     * 
+     * @return CompactPriceStore backed by the file
+     */
+    public CompactPriceStore getStore() {
+        return store;
+    }
+
+    /**
+     * Last PRICE_CHANGES row reflected in the store; later changes are not in the file.
+     * 
+     * @return outbox position of the file, 0 if none
+     */
+    public long getChangeId() {
+        return changeId;
+    }
+
+    private static void writeTo(CompactPriceStore store, long changeId, FileChannel channel) throws IOException {
+        PriceColumn[] columns = store.columns();
+        String[] dictionary = store.currencyDictionary();
+        ByteBuffer scratch = ByteBuffer.allocate(SCRATCH_BYTES).order(PriceColumn.BYTE_ORDER);
+
+        scratch.putInt(MAGIC).putInt(VERSION).putInt(columns.length).putLong(changeId).putInt(dictionary.length);
+        for (String currency : dictionary) {
+            byte[] bytes = currency.getBytes(StandardCharsets.UTF_8);
+            scratch.putShort((short) bytes.length).put(bytes);
+        }
+        for (PriceColumn column : columns) {
+            scratch.put((byte) (column == null ? 0 : column.width())).putInt(column == null ? 0 : column.length());
+        }
+        pad(scratch, scratch.position());
+        long position = scratch.position();
+
+        for (PriceColumn column : columns) {
+            if (column == null) {
+                continue;
+            }
+            column.writeTo(channel, scratch);
+            position += column.bytes();
+            pad(scratch, position);
+            position = align(position);
+        }
+        scratch.flip();
+        while (scratch.hasRemaining()) {
+            channel.write(scratch);
+        }
+    }
+
+    /**
+     * Reads a small part of the header with a plain read, so that only the columns are mapped.
+     */
+    private static ByteBuffer read(FileChannel channel, long position, int bytes, Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(bytes).order(PriceColumn.BYTE_ORDER);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Truncated price store file: " + file);
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void pad(ByteBuffer scratch, long position) {
+        for (long i = position; i < align(position); i++) {
+            scratch.put((byte) 0);
+        }
+    }
+
+    private static long align(long position) {
+        return (position + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+}
@@ -0,0 +1,172 @@
+package com.inditex.pricing.infrastructure.adapter.output.memory;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.model.PriceTimeline;
+import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.PriceChangeListener;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.mapper.PriceMapper;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.repository.JpaPriceRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Adapter that implements the PriceRepositoryPort from an in-memory interval index.
+ * 
+ * The PRICES table is loaded once at startup and resolved into one {@link PriceTimeline}
+ * per (brandId, productId), with the winning priority of every period already computed.
+ * A lookup is a hash probe plus a binary search, without any database access. The timelines are
+ * stored in primitive columns (see {@link CompactPriceStore}) and only the price of the looked-up
+ * period is materialized.
+ * 
+ * The index is an immutable snapshot published through an atomic reference: when tariffs change
+ * (see {@link PriceChangeListener}), only the timelines of the changed products are rebuilt into a
+ * new snapshot, which then replaces the current one in a single swap. Readers never block and
+ * always see a complete snapshot, either the previous or the new one. Once more than
+ * {@code pricing.snapshot.max-overlay} products have changed, their timelines are folded back into
+ * the columns ({@link PriceTimelineIndex#compacted()}), so the snapshot does not grow as objects.
+ * 
+ * Publishes {@code pricing.snapshot.age} (seconds since the current snapshot was published),
+ * {@code pricing.snapshot.products} and the {@code pricing.snapshot.rebuild} timer
+ * (tag {@code type=full|incremental}).
+ * 
+ * Enabled with {@code pricing.repository.type=in-memory}.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "in-memory")
+@Order(PriceChangeListener.STORE_ORDER)
+public class InMemoryPriceRepositoryAdapter implements PriceRepositoryPort, PriceChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryPriceRepositoryAdapter.class);
+
+    private final JpaPriceRepository jpaPriceRepository;
+    private final PriceMapper priceMapper;
+    private final int maxOverlay;
+    private final AtomicReference<PriceTimelineIndex> snapshot = new AtomicReference<>(PriceTimelineIndex.empty());
+    private final Timer fullRebuild;
+    private final Timer incrementalRebuild;
+
+    private volatile long publishedAtMillis = System.currentTimeMillis();
+
+    /**
+     * Constructor injection for dependencies and configuration.
+     * 
+     * @param jpaPriceRepository JPA repository used to load the PRICES table
+     * @param priceMapper Mapper to convert between entity and domain model
+     * @param meterRegistry Registry where the snapshot metrics are published
+     * @param maxOverlay Changed products kept as objects before they are folded into the columns
+     */
+    public InMemoryPriceRepositoryAdapter(JpaPriceRepository jpaPriceRepository, PriceMapper priceMapper,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${pricing.snapshot.max-overlay:10000}") int maxOverlay) {
+        this.jpaPriceRepository = jpaPriceRepository;
+        this.priceMapper = priceMapper;
+        this.maxOverlay = maxOverlay;
+        this.fullRebuild = rebuildTimer(meterRegistry, "full");
+        this.incrementalRebuild = rebuildTimer(meterRegistry, "incremental");
+        Gauge.builder("pricing.snapshot.age", this, adapter -> (System.currentTimeMillis() - adapter.publishedAtMillis) / 1000.0)
+                .description("Seconds since the in-memory price snapshot was published")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("pricing.snapshot.products", snapshot, current -> current.get().size())
+                .description("Products in the in-memory price snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the PRICES table and publishes the first snapshot.
+     */
+    @PostConstruct
+    public void load() {
+        PriceTimelineIndex index = fullRebuild.record(() -> PriceTimelineIndex.of(jpaPriceRepository.findAll().stream()
+                .map(priceMapper::toDomain)
+                .toList()));
+        publish(index);
+
+        log.info("Loaded in-memory price index with {} product timelines", index.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Reloads the prices of the changed products, rebuilds only their timelines and swaps the snapshot,
+     * compacting it when the changed timelines exceed {@code maxOverlay}.
+     */
+    @Override
+    public void onPricesChanged(Set<PriceKey> keys) {
+        PriceTimelineIndex index = incrementalRebuild.record(() -> {
+            Map<PriceKey, List<Price>> pricesByKey = new HashMap<>(keys.size() * 2);
+            for (PriceKey key : keys) {
+                pricesByKey.put(key, jpaPriceRepository
+                        .findByBrandIdAndProductIdOrderByStartDate(key.getBrandId(), key.getProductId()).stream()
+                        .map(priceMapper::toDomain)
+                        .toList());
+            }
+            return snapshot.get().withTimelines(pricesByKey);
+        });
+        if (index.overlaySize() > maxOverlay) {
+            index = compact(index);
+        }
+        publish(index);
+
+        log.debug("Rebuilt in-memory price index for {} products", keys.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Resolves the price from the in-memory timeline of the product.
+     */
+    @Override
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return snapshot.get().findPrice(new PriceKey(brandId, productId), applicationDate);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * The segments of the in-memory timeline already carry their validity period.
+     */
+    @Override
+    public PriceSegment findSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return snapshot.get().segmentAt(new PriceKey(brandId, productId), applicationDate);
+    }
+
+    private PriceTimelineIndex compact(PriceTimelineIndex index) {
+        int changed = index.overlaySize();
+        PriceTimelineIndex compacted = fullRebuild.record(index::compacted);
+        CompactPriceStore store = compacted.getStore();
+        log.info("Merged {} changed timelines into the in-memory price index: {} products, {} tariffs, {} bytes",
+                changed, store.size(), store.tariffCount(), store.footprintBytes());
+        return compacted;
+    }
+
+    private void publish(PriceTimelineIndex index) {
+        snapshot.set(index);
+        publishedAtMillis = System.currentTimeMillis();
+    }
+
+    private static Timer rebuildTimer(MeterRegistry meterRegistry, String type) {
+        return Timer.builder("pricing.snapshot.rebuild")
+                .description("Time to build a new in-memory price snapshot")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
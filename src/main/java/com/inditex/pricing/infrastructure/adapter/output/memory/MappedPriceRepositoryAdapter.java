@@ -0,0 +1,211 @@
+package com.inditex.pricing.infrastructure.adapter.output.memory;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.PriceChangeListener;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.mapper.PriceMapper;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.repository.JpaPriceRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Adapter that implements the PriceRepositoryPort from a memory-mapped tariff file.
+ * 
+ * The resolved timelines are read from a {@link CompactPriceStoreFile} written by the
+ * {@link PriceTariffFileExporter}: opening it maps the file and reads its header, whatever the size
+ * of the catalogue, so the service is ready almost immediately and the timelines stay off the Java
+ * heap. Several instances on the same host map the same file and share its pages.
+ * 
+ * The file is a snapshot of the PRICES table. The changes written to the PRICE_CHANGES outbox after
+ * the export are replayed at startup, and later ones are applied as they are polled
+ * (see {@link PriceChangeListener}), as timelines kept in the heap overlay of the {@link PriceTimelineIndex}.
+ * Once more than {@code pricing.snapshot.max-overlay} products have changed, they are folded into new
+ * columns that replace the file, which is mapped again, so the overlay does not grow without bound.
+ * The rewritten file keeps the outbox position of the export, so the next start replays the same changes.
+ * 
+ * Publishes {@code pricing.snapshot.products}.
+ * 
+ * Enabled with {@code pricing.repository.type=mapped}.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "mapped")
+@Order(PriceChangeListener.STORE_ORDER)
+public class MappedPriceRepositoryAdapter implements PriceRepositoryPort, PriceChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedPriceRepositoryAdapter.class);
+
+    private static final String CHANGED_KEYS_QUERY =
+            "SELECT BRAND_ID, PRODUCT_ID FROM PRICE_CHANGES WHERE CHANGE_ID > ? ORDER BY CHANGE_ID";
+
+    private static final String LATE_CHANGED_KEYS_QUERY =
+            "SELECT BRAND_ID, PRODUCT_ID FROM PRICE_CHANGES WHERE CHANGED_AT >= ? AND CHANGE_ID <= ?";
+
+    private static final String CHANGED_AT_QUERY =
+            "SELECT CHANGED_AT FROM PRICE_CHANGES WHERE CHANGE_ID = ?";
+
+    private final JpaPriceRepository jpaPriceRepository;
+    private final PriceMapper priceMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceTariffFileExporter exporter;
+    private final Path file;
+    private final boolean exportIfMissing;
+    private final Duration gapTimeout;
+    private final int maxOverlay;
+    private long changeId;
+    private final AtomicReference<PriceTimelineIndex> snapshot = new AtomicReference<>(PriceTimelineIndex.empty());
+
+    /**
+     * Constructor injection for dependencies and configuration.
+     * 
+     * @param jpaPriceRepository JPA repository used to reload changed products
+     * @param priceMapper Mapper to convert between entity and domain model
+     * @param jdbcTemplate JDBC template used to read the outbox
+     * @param exporter Export job that writes the tariff file
+     * @param meterRegistry Registry where the snapshot metrics are published
+     * @param file Tariff file to map
+     * @param exportIfMissing Whether to export the file at startup when it does not exist
+     * @param gapTimeout Longest writer transaction, see {@code PriceChangeOutboxPoller}
+     * @param maxOverlay Changed products kept as objects before they are folded into the file
+     */
+    public MappedPriceRepositoryAdapter(JpaPriceRepository jpaPriceRepository, PriceMapper priceMapper,
+                                        JdbcTemplate jdbcTemplate, PriceTariffFileExporter exporter,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${pricing.mapped.file}") Path file,
+                                        @Value("${pricing.mapped.export-if-missing:true}") boolean exportIfMissing,
+                                        @Value("${pricing.changes.gap-timeout:PT1M}") Duration gapTimeout,
+                                        @Value("${pricing.snapshot.max-overlay:10000}") int maxOverlay) {
+        this.jpaPriceRepository = jpaPriceRepository;
+        this.priceMapper = priceMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.exporter = exporter;
+        this.file = file;
+        this.exportIfMissing = exportIfMissing;
+        this.gapTimeout = gapTimeout;
+        this.maxOverlay = maxOverlay;
+        Gauge.builder("pricing.snapshot.products", snapshot, current -> current.get().size())
+                .description("Products in the in-memory price snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Maps the tariff file, exporting it first if it is missing, and replays the changes written since the export.
+     * 
+     * CHANGE_IDs are assigned at insert, so a change below the last one in the file may have been committed
+     * after the export: the changes written up to {@code gapTimeout} before that one are replayed too.
+     */
+    @PostConstruct
+    public void open() {
+        if (exportIfMissing && !Files.exists(file)) {
+            exporter.export(file);
+        }
+
+        long start = System.nanoTime();
+        CompactPriceStoreFile mapped;
+        try {
+            mapped = CompactPriceStoreFile.map(file);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot map price store file " + file, ex);
+        }
+        snapshot.set(PriceTimelineIndex.of(mapped.getStore()));
+        changeId = mapped.getChangeId();
+        log.info("Mapped {} product timelines from {} in {} ms", mapped.getStore().size(), file,
+                (System.nanoTime() - start) / 1_000_000);
+
+        Set<PriceKey> changed = new LinkedHashSet<>();
+        jdbcTemplate.query(CHANGED_KEYS_QUERY, rs -> {
+            changed.add(new PriceKey(rs.getLong(1), rs.getLong(2)));
+        }, mapped.getChangeId());
+        List<Timestamp> exportedUpTo = jdbcTemplate.queryForList(CHANGED_AT_QUERY, Timestamp.class, mapped.getChangeId());
+        if (!exportedUpTo.isEmpty()) {
+            Timestamp since = Timestamp.from(exportedUpTo.get(0).toInstant().minus(gapTimeout));
+            jdbcTemplate.query(LATE_CHANGED_KEYS_QUERY, rs -> {
+                changed.add(new PriceKey(rs.getLong(1), rs.getLong(2)));
+            }, since, mapped.getChangeId());
+        }
+        if (!changed.isEmpty()) {
+            onPricesChanged(changed);
+            log.info("Replayed {} products changed since the export of {}", changed.size(), file);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Reloads the prices of the changed products into the overlay and swaps the snapshot,
+     * folding the overlay into the file when it exceeds {@code maxOverlay}.
+     */
+    @Override
+    public void onPricesChanged(Set<PriceKey> keys) {
+        Map<PriceKey, List<Price>> pricesByKey = new HashMap<>(keys.size() * 2);
+        for (PriceKey key : keys) {
+            pricesByKey.put(key, jpaPriceRepository
+                    .findByBrandIdAndProductIdOrderByStartDate(key.getBrandId(), key.getProductId()).stream()
+                    .map(priceMapper::toDomain)
+                    .toList());
+        }
+        PriceTimelineIndex index = snapshot.get().withTimelines(pricesByKey);
+        snapshot.set(index.overlaySize() > maxOverlay ? compact(index) : index);
+    }
+
+    private PriceTimelineIndex compact(PriceTimelineIndex index) {
+        long start = System.nanoTime();
+        CompactPriceStore store;
+        try {
+            CompactPriceStoreFile.write(index.compacted().getStore(), changeId, file);
+            store = CompactPriceStoreFile.map(file).getStore();
+        } catch (IOException ex) {
+            log.warn("Cannot rewrite price store file {}, keeping {} changed timelines in the heap",
+                    file, index.overlaySize(), ex);
+            return index;
+        }
+        log.info("Merged {} changed timelines into {}: {} products, {} tariffs, {} bytes in {} ms",
+                index.overlaySize(), file, store.size(), store.tariffCount(), store.footprintBytes(),
+                (System.nanoTime() - start) / 1_000_000);
+        return PriceTimelineIndex.of(store);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Resolves the price from the mapped timeline of the product.
+     */
+    @Override
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return snapshot.get().findPrice(new PriceKey(brandId, productId), applicationDate);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * The segments of the mapped timeline already carry their validity period.
+     */
+    @Override
+    public PriceSegment findSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return snapshot.get().segmentAt(new PriceKey(brandId, productId), applicationDate);
+    }
+}
@@ -0,0 +1,136 @@
+package com.inditex.pricing.infrastructure.adapter.output.memory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Read-only column of integer values of a {@link CompactPriceStore}.
+ * 
+ * Values are held either in a heap array or in a little-endian buffer, such as a region of a
+ * memory-mapped file, with 1, 2, 4 or 8 bytes per value. {@code long} columns are narrowed to
+ * {@code int} when all their values fit, which is the usual case for identifiers, price lists,
+ * amounts in minor units, dates before 2038 and tariff durations.
+ */
+final class PriceColumn {
+
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private final int[] ints;
+    private final long[] longs;
+    private final ByteBuffer buffer;
+    private final int width;
+    private final int length;
+
+    private PriceColumn(int[] ints, long[] longs, ByteBuffer buffer, int width, int length) {
+        this.ints = ints;
+        this.longs = longs;
+        this.buffer = buffer;
+        this.width = width;
+        this.length = length;
+    }
+
+    static PriceColumn ofLongs(long[] values, int length) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] != (int) values[i]) {
+                return new PriceColumn(null, Arrays.copyOf(values, length), null, Long.BYTES, length);
+            }
+        }
+        int[] narrow = new int[length];
+        for (int i = 0; i < length; i++) {
+            narrow[i] = (int) values[i];
+        }
+        return ofInts(narrow, length);
+    }
+
+    static PriceColumn ofInts(int[] values, int length) {
+        return new PriceColumn(values.length == length ? values : Arrays.copyOf(values, length),
+                null, null, Integer.BYTES, length);
+    }
+
+    /**
+     * Column of nanoseconds, or null when all of them are zero.
+     */
+    static PriceColumn ofNanos(int[] values, int length) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] != 0) {
+                return ofInts(values, length);
+            }
+        }
+        return null;
+    }
+
+    static PriceColumn ofShorts(short[] values, int length) {
+        ByteBuffer buffer = ByteBuffer.allocate(length * Short.BYTES).order(BYTE_ORDER);
+        for (int i = 0; i < length; i++) {
+            buffer.putShort(values[i]);
+        }
+        return new PriceColumn(null, null, buffer, Short.BYTES, length);
+    }
+
+    static PriceColumn ofBytes(byte[] values, int length) {
+        return new PriceColumn(null, null, ByteBuffer.wrap(Arrays.copyOf(values, length)), Byte.BYTES, length);
+    }
+
+    /**
+     * Column over a buffer that already holds the encoded values, e.g. a mapped file region.
+     */
+    static PriceColumn ofBuffer(ByteBuffer buffer, int width, int length) {
+        return new PriceColumn(null, null, buffer.order(BYTE_ORDER), width, length);
+    }
+
+    long get(int index) {
+        if (ints != null) {
+            return ints[index];
+        }
+        if (longs != null) {
+            return longs[index];
+        }
+        return switch (width) {
+            case Byte.BYTES -> buffer.get(index);
+            case Short.BYTES -> buffer.getShort(index * Short.BYTES);
+            case Integer.BYTES -> buffer.getInt(index * Integer.BYTES);
+            default -> buffer.getLong(index * Long.BYTES);
+        };
+    }
+
+    int width() {
+        return width;
+    }
+
+    int length() {
+        return length;
+    }
+
+    long bytes() {
+        return (long) width * length;
+    }
+
+    /**
+     * Writes the encoded values, flushing the scratch buffer to the channel whenever it fills up.
+     */
+    void writeTo(WritableByteChannel channel, ByteBuffer scratch) throws IOException {
+        for (int i = 0; i < length; i++) {
+            if (scratch.remaining() < width) {
+                flush(channel, scratch);
+            }
+            switch (width) {
+                case Byte.BYTES -> scratch.put((byte) get(i));
+                case Short.BYTES -> scratch.putShort((short) get(i));
+                case Integer.BYTES -> scratch.putInt((int) get(i));
+                default -> scratch.putLong(get(i));
+            }
+        }
+        flush(channel, scratch);
+    }
+
+    private static void flush(WritableByteChannel channel, ByteBuffer scratch) throws IOException {
+        scratch.flip();
+        while (scratch.hasRemaining()) {
+            channel.write(scratch);
+        }
+        scratch.clear();
+    }
+}
@@ -0,0 +1,58 @@
+package com.inditex.pricing.infrastructure.adapter.output.memory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Runs the {@link PriceTariffFileExporter} once at startup.
+ * 
+ * Meant to be launched as a batch job after the tariffs are loaded, e.g.
+ * {@code java -jar pricing-1.0.0.jar --pricing.mapped.export-job=true --spring.main.web-application-type=none},
+ * so the serving instances map an up-to-date file when they start. The application's {@code main}
+ * stops the application when the job is present, with the exit code given by this
+ * {@link ExitCodeGenerator}; a failed export fails the startup instead.
+ * 
+ * Enabled with {@code pricing.mapped.export-job=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.mapped.export-job", havingValue = "true")
+public class PriceTariffFileExportJob implements ApplicationRunner, ExitCodeGenerator {
+
+    private final PriceTariffFileExporter exporter;
+    private final Path file;
+
+    private volatile int exitCode = 1;
+
+    /**
+     * Constructor injection for dependencies and configuration.
+     * 
+     * @param exporter Export job that writes the tariff file
+     * @param file Tariff file to write
+     */
+    public PriceTariffFileExportJob(PriceTariffFileExporter exporter, @Value("${pricing.mapped.file}") Path file) {
+        this.exporter = exporter;
+        this.file = file;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        exporter.export(file);
+        exitCode = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * 0 once the file has been exported, 1 otherwise.
+     */
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
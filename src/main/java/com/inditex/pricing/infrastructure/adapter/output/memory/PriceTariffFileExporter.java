@@ -0,0 +1,90 @@
+package com.inditex.pricing.infrastructure.adapter.output.memory;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.service.PriceTimelineResolver;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.mapper.PriceRowMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Export job that writes the PRICES table to a {@link CompactPriceStoreFile}.
+ * 
+ * Prices are streamed ordered by (BRAND_ID, PRODUCT_ID, START_DATE), so only the tariffs of one
+ * product are held as objects at a time; each product is resolved with {@link PriceTimelineResolver}
+ * straight into the columns of the file. The file records the latest PRICE_CHANGES row read before
+ * the export, so a process that maps it can replay the changes written since.
+ */
+@Component
+public class PriceTariffFileExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceTariffFileExporter.class);
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String SELECT_ALL_PRICES =
+            "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES ORDER BY BRAND_ID, PRODUCT_ID, START_DATE";
+
+    private static final String LATEST_CHANGE_QUERY =
+            "SELECT COALESCE(MAX(CHANGE_ID), 0) FROM PRICE_CHANGES";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceRowMapper priceRowMapper;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param jdbcTemplate JDBC template used to stream the PRICES table
+     * @param priceRowMapper RowMapper from PRICES rows to domain prices
+     */
+    public PriceTariffFileExporter(JdbcTemplate jdbcTemplate, PriceRowMapper priceRowMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.priceRowMapper = priceRowMapper;
+    }
+
+    /**
+     * Exports the current tariffs, replacing the file atomically.
+     * 
+     * @param file Destination file
+     * @return number of product timelines written
+     */
+    public int export(Path file) {
+        long start = System.nanoTime();
+        Long changeId = jdbcTemplate.queryForObject(LATEST_CHANGE_QUERY, Long.class);
+
+        CompactPriceStore.Builder builder = new CompactPriceStore.Builder();
+        List<Price> productPrices = new ArrayList<>();
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(FETCH_SIZE);
+        streaming.query(SELECT_ALL_PRICES, rs -> {
+            Price price = priceRowMapper.mapRow(rs, rs.getRow());
+            if (!productPrices.isEmpty() && !PriceKey.of(productPrices.get(0)).equals(PriceKey.of(price))) {
+                builder.add(PriceKey.of(productPrices.get(0)), PriceTimelineResolver.resolve(productPrices));
+                productPrices.clear();
+            }
+            productPrices.add(price);
+        });
+        if (!productPrices.isEmpty()) {
+            builder.add(PriceKey.of(productPrices.get(0)), PriceTimelineResolver.resolve(productPrices));
+        }
+
+        CompactPriceStore store = builder.build();
+        try {
+            CompactPriceStoreFile.write(store, changeId == null ? 0 : changeId, file);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot write price store file " + file, ex);
+        }
+
+        log.info("Exported {} product timelines ({} tariffs, {} bytes) to {} in {} ms", store.size(),
+                store.tariffCount(), store.footprintBytes(), file, (System.nanoTime() - start) / 1_000_000);
+        return store.size();
+    }
+}
@@ -0,0 +1,198 @@
+package com.inditex.pricing.infrastructure.adapter.output.memory;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.model.PriceTimeline;
+import com.inditex.pricing.domain.service.PriceTimelineResolver;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable interval index of prices: one resolved {@link PriceTimeline} per (brandId, productId).
+ * Built once from a set of prices and safe to share between threads.
+ * 
+ * The timelines are held in a {@link CompactPriceStore}, so a large catalogue costs primitive
+ * arrays instead of objects. Timelines changed after the build are kept as objects in an overlay
+ * that shadows the store, until {@link #compacted()} folds them into a new store or the index is
+ * built again from the full set of prices. Every change copies the overlay, so its owner compacts
+ * the index once the overlay grows past a bound.
+ */
+public final class PriceTimelineIndex {
+
+    private static final PriceTimelineIndex EMPTY = new PriceTimelineIndex(CompactPriceStore.empty(), Map.of(), 0);
+
+    private final CompactPriceStore store;
+    private final Map<PriceKey, PriceTimeline> overlay;
+    private final int size;
+
+    private PriceTimelineIndex(CompactPriceStore store, Map<PriceKey, PriceTimeline> overlay, int size) {
+        this.store = store;
+        this.overlay = overlay;
+        this.size = size;
+    }
+
+    /**
+     * Index without any product.
+     * 
+     * @return shared empty index
+     */
+    public static PriceTimelineIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Groups the prices by product and resolves the timeline of each product.
+     * 
+     * @param prices Prices of any products, in any order
+     * @return PriceTimelineIndex over the given prices
+     */
+    public static PriceTimelineIndex of(Iterable<Price> prices) {
+        Map<PriceKey, List<Price>> pricesByKey = new HashMap<>();
+        for (Price price : prices) {
+            pricesByKey.computeIfAbsent(PriceKey.of(price), key -> new ArrayList<>()).add(price);
+        }
+
+        CompactPriceStore.Builder builder = new CompactPriceStore.Builder();
+        pricesByKey.forEach((key, productPrices) -> builder.add(key, PriceTimelineResolver.resolve(productPrices)));
+        return of(builder.build());
+    }
+
+    /**
+     * Index over an already built store, such as a memory-mapped {@link CompactPriceStoreFile}.
+     * 
+     * @param store Store holding the timelines
+     * @return PriceTimelineIndex over the store, without changed timelines
+     */
+    public static PriceTimelineIndex of(CompactPriceStore store) {
+        return new PriceTimelineIndex(store, Map.of(), store.size());
+    }
+
+    /**
+     * Returns a copy of this index where the timelines of the given products are rebuilt from
+     * their current prices; the timelines of every other product are shared, not resolved again.
+     * A product without prices is removed from the copy.
+     * 
+     * @param pricesByKey Complete set of prices of each changed product
+     * @return New PriceTimelineIndex; this index is left unchanged
+     */
+    public PriceTimelineIndex withTimelines(Map<PriceKey, ? extends Collection<Price>> pricesByKey) {
+        Map<PriceKey, PriceTimeline> updated = new HashMap<>(overlay);
+        int updatedSize = size;
+        for (Map.Entry<PriceKey, ? extends Collection<Price>> entry : pricesByKey.entrySet()) {
+            PriceKey key = entry.getKey();
+            boolean present = contains(key);
+            PriceTimeline timeline = entry.getValue().isEmpty()
+                    ? PriceTimeline.empty()
+                    : PriceTimelineResolver.resolve(entry.getValue());
+            updated.put(key, timeline);
+            updatedSize += (timeline.size() > 0 ? 1 : 0) - (present ? 1 : 0);
+        }
+        return new PriceTimelineIndex(store, Collections.unmodifiableMap(updated), updatedSize);
+    }
+
+    /**
+     * Returns a copy of this index whose store holds every timeline, the changed ones included,
+     * and whose overlay is empty. The unchanged timelines are copied from the current store.
+     * 
+     * @return New PriceTimelineIndex with the same timelines; this index is left unchanged
+     */
+    public PriceTimelineIndex compacted() {
+        CompactPriceStore.Builder builder = new CompactPriceStore.Builder();
+        store.forEachKey(key -> {
+            if (!overlay.containsKey(key)) {
+                builder.add(key, store.timelineOf(key));
+            }
+        });
+        overlay.forEach(builder::add);
+        return of(builder.build());
+    }
+
+    /**
+     * Number of timelines changed since the store was built.
+     * 
+     * @return number of products in the overlay, including the ones left without prices
+     */
+    public int overlaySize() {
+        return overlay.size();
+    }
+
+    /**
+     * Returns the timeline of a product.
+     * 
+     * @param key Brand and product
+     * @return PriceTimeline of the product, empty if it has no prices
+     */
+    public PriceTimeline timelineOf(PriceKey key) {
+        PriceTimeline changed = overlay.get(key);
+        return changed != null ? changed : store.timelineOf(key);
+    }
+
+    /**
+     * Returns the segment of a product that contains the given date, or the gap around it.
+     * Only the prices of that segment are materialized.
+     * 
+     * @param key Brand and product
+     * @param date Date and time to look up
+     * @return PriceSegment covering the date, never null
+     */
+    public PriceSegment segmentAt(PriceKey key, LocalDateTime date) {
+        PriceTimeline changed = overlay.get(key);
+        return changed != null ? changed.segmentAt(date) : store.segmentAt(key, date);
+    }
+
+    /**
+     * Finds the segment of a product that contains the given date.
+     * 
+     * @param key Brand and product
+     * @param date Date and time to look up
+     * @return Optional containing the segment if a price applies at the date, empty otherwise
+     */
+    public Optional<PriceSegment> findSegment(PriceKey key, LocalDateTime date) {
+        PriceTimeline changed = overlay.get(key);
+        return changed != null ? changed.findSegment(date) : store.findSegment(key, date);
+    }
+
+    /**
+     * Finds the price of a product that applies at the given date.
+     * Only that price is materialized.
+     * 
+     * @param key Brand and product
+     * @param date Date and time to look up
+     * @return Optional containing the winning price, empty if no price applies
+     */
+    public Optional<Price> findPrice(PriceKey key, LocalDateTime date) {
+        PriceTimeline changed = overlay.get(key);
+        return changed != null ? changed.findSegment(date).map(PriceSegment::getPrice) : store.findPrice(key, date);
+    }
+
+    /**
+     * Number of products in the index.
+     * 
+     * @return number of product timelines
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Columnar store holding the timelines of the last full build.
+     * 
+     * @return CompactPriceStore of this index
+     */
+    public CompactPriceStore getStore() {
+        return store;
+    }
+
+    private boolean contains(PriceKey key) {
+        PriceTimeline changed = overlay.get(key);
+        return changed != null ? changed.size() > 0 : store.contains(key);
+    }
+}
@@ -0,0 +1,148 @@
+package com.inditex.pricing.infrastructure.adapter.output.metrics;
+
+import com.inditex.pricing.domain.port.output.PriceMetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapter that implements the PriceMetricsPort with Micrometer.
+ * 
+ * Publishes:
+ * - {@code pricing.lookup}: timer with percentile histogram per stage of a single price lookup,
+ *   tag {@code layer=controller|service|repository|mapping|serialization}
+ * - {@code pricing.lookup.coalesced}: counter of lookups that joined an identical repository call in flight,
+ *   tag {@code result=shared|fallback} (fallback when the lookup had to query the repository itself)
+ * - {@code pricing.lookup.result}: counter of lookups, tags {@code outcome=found|not_found} and {@code brand}
+ * 
+ * Every meter is registered up front or on the first lookup of a brand, so recording is a map read
+ * plus an atomic update and allocates nothing. Brand is the only tag taken from the request; it is
+ * capped at {@code pricing.metrics.max-brands} distinct values, after which lookups are counted
+ * under {@code brand=other}, so unknown brands cannot grow the number of time series.
+ * 
+ * Disabled with {@code pricing.metrics.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MicrometerPriceMetricsAdapter implements PriceMetricsPort {
+
+    private static final String LOOKUP_TIMER = "pricing.lookup";
+    private static final String RESULT_COUNTER = "pricing.lookup.result";
+    private static final String COALESCED_COUNTER = "pricing.lookup.coalesced";
+    private static final Duration MINIMUM_EXPECTED = Duration.ofNanos(1_000);
+    private static final Duration MAXIMUM_EXPECTED = Duration.ofSeconds(1);
+    private static final String OTHER_BRAND = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer controllerTimer;
+    private final Timer serviceTimer;
+    private final Timer repositoryTimer;
+    private final Timer mappingTimer;
+    private final Timer serializationTimer;
+    private final Counter sharedCounter;
+    private final Counter fallbackCounter;
+    private final Map<Long, Counter[]> outcomeCounters = new ConcurrentHashMap<>();
+    private final Counter[] otherBrandCounters;
+    private final int maxBrands;
+
+    /**
+     * Constructor injection for dependencies and configuration.
+     * 
+     * @param meterRegistry Registry where the lookup metrics are published
+     * @param maxBrands Maximum number of distinct brand tags
+     */
+    public MicrometerPriceMetricsAdapter(MeterRegistry meterRegistry,
+                                         @Value("${pricing.metrics.max-brands:100}") int maxBrands) {
+        this.meterRegistry = meterRegistry;
+        this.controllerTimer = lookupTimer("controller");
+        this.serviceTimer = lookupTimer("service");
+        this.repositoryTimer = lookupTimer("repository");
+        this.mappingTimer = lookupTimer("mapping");
+        this.serializationTimer = lookupTimer("serialization");
+        this.sharedCounter = coalescedCounter("shared");
+        this.fallbackCounter = coalescedCounter("fallback");
+        this.otherBrandCounters = outcomeCounters(OTHER_BRAND);
+        this.maxBrands = maxBrands;
+    }
+
+    @Override
+    public void recordControllerLookup(long nanos) {
+        controllerTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordMapping(long nanos) {
+        mappingTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordSerialization(long nanos) {
+        serializationTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordServiceLookup(long nanos) {
+        serviceTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRepositoryLookup(long nanos) {
+        repositoryTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordOutcome(Long brandId, boolean found) {
+        Counter[] counters = outcomeCounters.get(brandId);
+        if (counters == null) {
+            counters = outcomeCounters.size() < maxBrands
+                    ? outcomeCounters.computeIfAbsent(brandId, brand -> outcomeCounters(String.valueOf(brand)))
+                    : otherBrandCounters;
+        }
+        counters[found ? 0 : 1].increment();
+    }
+
+    @Override
+    public void recordCoalescedLookup(boolean shared) {
+        (shared ? sharedCounter : fallbackCounter).increment();
+    }
+
+    /**
+     * Timer of a lookup stage, with a percentile histogram between 1 µs and 1 s.
+     */
+    private Timer lookupTimer(String layer) {
+        return Timer.builder(LOOKUP_TIMER)
+                .description("Time spent in each stage of a single price lookup")
+                .tag("layer", layer)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MINIMUM_EXPECTED)
+                .maximumExpectedValue(MAXIMUM_EXPECTED)
+                .register(meterRegistry);
+    }
+
+    private Counter coalescedCounter(String result) {
+        return Counter.builder(COALESCED_COUNTER)
+                .description("Lookups that joined an identical repository call in flight")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter[] outcomeCounters(String brand) {
+        return new Counter[]{outcomeCounter(brand, "found"), outcomeCounter(brand, "not_found")};
+    }
+
+    private Counter outcomeCounter(String brand, String outcome) {
+        return Counter.builder(RESULT_COUNTER)
+                .description("Single price lookups by outcome and brand")
+                .tag("brand", brand)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,118 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.port.output.PriceKeyFilterPort;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Adapter that implements the PriceKeyFilterPort with a Bloom filter of the products in PRICES.
+ * 
+ * The filter is loaded at startup from the distinct (BRAND_ID, PRODUCT_ID) pairs, sized with
+ * headroom for products registered afterwards. Lookups for products that were never priced
+ * (crawlers, stale links) are rejected without touching the database or the price cache.
+ * Products that get their first tariff later are registered from the PRICE_CHANGES outbox, so the
+ * filter requires the outbox poller: it is only created with {@code pricing.changes.enabled=true}, and
+ * a new product is rejected for at most one poll interval after its tariffs are committed.
+ * When more products have been registered than the filter was sized for, it is rebuilt from the
+ * database with new headroom, so the false positive probability stays at the target as the catalogue grows.
+ * When the archive is enabled the products of PRICES_ARCHIVE are loaded too, so products whose
+ * tariffs have all been archived are still looked up at historical dates.
+ * 
+ * Disabled with {@code pricing.key-filter.enabled=false} or {@code pricing.changes.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = {"pricing.key-filter.enabled", "pricing.changes.enabled"},
+                       havingValue = "true", matchIfMissing = true)
+@Order(PriceChangeListener.STORE_ORDER)
+public class BloomFilterPriceKeyAdapter implements PriceKeyFilterPort, PriceChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(BloomFilterPriceKeyAdapter.class);
+
+    private static final int CAPACITY_HEADROOM = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String keysQuery;
+    private final long minimumCapacity;
+    private final double falsePositiveProbability;
+
+    private volatile PriceKeyBloomFilter filter;
+
+    /**
+     * Constructor injection for dependencies and configuration.
+     * 
+     * @param jdbcTemplate JDBC template used to read the distinct keys
+     * @param minimumCapacity Minimum number of keys the filter is sized for
+     * @param falsePositiveProbability Target false positive probability
+     * @param priceArchive Archive of expired tariffs, absent when archiving is disabled
+     */
+    public BloomFilterPriceKeyAdapter(JdbcTemplate jdbcTemplate,
+                                      @Value("${pricing.key-filter.minimum-capacity:100000}") long minimumCapacity,
+                                      @Value("${pricing.key-filter.false-positive-probability:0.01}")
+                                      double falsePositiveProbability,
+                                      Optional<PriceArchive> priceArchive) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.keysQuery = priceArchive.isPresent()
+                ? "SELECT BRAND_ID, PRODUCT_ID FROM PRICES UNION SELECT BRAND_ID, PRODUCT_ID FROM PRICES_ARCHIVE"
+                : "SELECT DISTINCT BRAND_ID, PRODUCT_ID FROM PRICES";
+        this.minimumCapacity = minimumCapacity;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    /**
+     * Builds the filter from the keys currently present in PRICES (and PRICES_ARCHIVE).
+     * Also used to rebuild a saturated filter; lookups keep using the previous one until it is replaced.
+     */
+    @PostConstruct
+    public void load() {
+        Long keyCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + keysQuery + ")", Long.class);
+        long capacity = Math.max(minimumCapacity, (keyCount == null ? 0 : keyCount) * CAPACITY_HEADROOM);
+
+        PriceKeyBloomFilter loaded = new PriceKeyBloomFilter(capacity, falsePositiveProbability);
+        jdbcTemplate.query(keysQuery,
+                rs -> {
+                    loaded.add(new PriceKey(rs.getLong(1), rs.getLong(2)));
+                });
+        this.filter = loaded;
+
+        log.info("Loaded price key filter with {} products (capacity {})", keyCount, capacity);
+    }
+
+    @Override
+    public boolean mightContain(PriceKey key) {
+        return filter.mightContain(key);
+    }
+
+    @Override
+    public void register(PriceKey key) {
+        filter.add(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Registers the changed products; a Bloom filter cannot forget the ones left without tariffs.
+     */
+    @Override
+    public void onPricesChanged(Set<PriceKey> keys) {
+        keys.forEach(this::register);
+        if (filter.isSaturated()) {
+            log.info("Price key filter holds {} products over its capacity {}, rebuilding",
+                    filter.insertedKeys(), filter.capacity());
+            load();
+        }
+    }
+
+    long capacity() {
+        return filter.capacity();
+    }
+}
@@ -0,0 +1,145 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.service.PriceTimelineResolver;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.mapper.PriceRowMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pipeline stage that flattens the PRICES table into the EFFECTIVE_PRICES timeline.
+ * 
+ * Prices are streamed ordered by (BRAND_ID, PRODUCT_ID, START_DATE), so only the tariffs of one
+ * product are held in memory at a time. Each product is resolved with {@link PriceTimelineResolver}
+ * and its segments are written with JDBC batch inserts.
+ * 
+ * Must be run whenever prices are loaded or changed: the whole table at startup, or a single
+ * product after its tariffs have been modified.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "effective-timeline")
+public class EffectivePriceMaterializer {
+
+    private static final Logger log = LoggerFactory.getLogger(EffectivePriceMaterializer.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String SELECT_ALL_PRICES =
+            "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES ORDER BY BRAND_ID, PRODUCT_ID, START_DATE";
+
+    private static final String SELECT_PRICES_BY_KEY =
+            "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES WHERE BRAND_ID = ? AND PRODUCT_ID = ? ORDER BY START_DATE";
+
+    private static final String INSERT_SEGMENT =
+            "INSERT INTO EFFECTIVE_PRICES (BRAND_ID, PRODUCT_ID, VALID_FROM, VALID_UNTIL, PRICE_ID, " +
+            "START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceRowMapper priceRowMapper;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param jdbcTemplate JDBC template for bulk reads and writes
+     * @param priceRowMapper RowMapper from PRICES rows to domain prices
+     */
+    public EffectivePriceMaterializer(JdbcTemplate jdbcTemplate, PriceRowMapper priceRowMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.priceRowMapper = priceRowMapper;
+    }
+
+    /**
+     * Rebuilds the whole EFFECTIVE_PRICES table from PRICES in a single transaction,
+     * so concurrent readers see either the previous or the new timeline.
+     * 
+     * @return number of segments written
+     */
+    @Transactional
+    public int materializeAll() {
+        long start = System.nanoTime();
+        jdbcTemplate.update("DELETE FROM EFFECTIVE_PRICES");
+
+        SegmentWriter writer = new SegmentWriter();
+        List<Price> productPrices = new ArrayList<>();
+        jdbcTemplate.query(SELECT_ALL_PRICES, rs -> {
+            Price price = priceRowMapper.mapRow(rs, rs.getRow());
+            if (!productPrices.isEmpty() && !PriceKey.of(productPrices.get(0)).equals(PriceKey.of(price))) {
+                PriceTimelineResolver.resolve(productPrices.iterator(), writer::add);
+                productPrices.clear();
+            }
+            productPrices.add(price);
+        });
+        PriceTimelineResolver.resolve(productPrices.iterator(), writer::add);
+        writer.flush();
+
+        log.info("Materialized {} effective price segments in {} ms",
+                writer.written, (System.nanoTime() - start) / 1_000_000);
+        return writer.written;
+    }
+
+    /**
+     * Rebuilds the timeline of a single product after its tariffs have changed.
+     * 
+     * @param key Brand and product whose timeline must be recomputed
+     * @return number of segments written
+     */
+    @Transactional
+    public int materialize(PriceKey key) {
+        jdbcTemplate.update("DELETE FROM EFFECTIVE_PRICES WHERE BRAND_ID = ? AND PRODUCT_ID = ?",
+                key.getBrandId(), key.getProductId());
+
+        List<Price> prices = jdbcTemplate.query(SELECT_PRICES_BY_KEY, priceRowMapper,
+                key.getBrandId(), key.getProductId());
+        SegmentWriter writer = new SegmentWriter();
+        PriceTimelineResolver.resolve(prices.iterator(), writer::add);
+        writer.flush();
+        return writer.written;
+    }
+
+    /**
+     * Accumulates segments and writes them in JDBC batches.
+     */
+    private class SegmentWriter {
+
+        private final List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        private int written;
+
+        void add(PriceSegment segment) {
+            Price price = segment.getPrice();
+            batch.add(new Object[]{
+                    price.getBrandId(),
+                    price.getProductId(),
+                    Timestamp.valueOf(segment.getFrom()),
+                    Timestamp.valueOf(segment.getUntil()),
+                    price.getId(),
+                    Timestamp.valueOf(price.getStartDate()),
+                    Timestamp.valueOf(price.getEndDate()),
+                    price.getPriceList(),
+                    price.getPriority(),
+                    price.getPrice(),
+                    price.getCurrency()
+            });
+            if (batch.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SEGMENT, batch);
+                written += batch.size();
+                batch.clear();
+            }
+        }
+    }
+}
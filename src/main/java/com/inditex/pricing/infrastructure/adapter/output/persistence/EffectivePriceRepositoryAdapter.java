@@ -0,0 +1,126 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.entity.EffectivePriceEntity;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.mapper.EffectivePriceMapper;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.repository.JpaEffectivePriceRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Adapter that implements the PriceRepositoryPort on top of the materialized EFFECTIVE_PRICES timeline.
+ * 
+ * Priorities are resolved once by the {@link EffectivePriceMaterializer}, so the lookup is a single
+ * index seek with no sort, and its cost does not depend on how many tariffs overlap.
+ * The timeline of a product is materialized again when its tariffs change.
+ * Lookups run in read-only transactions, so they are served by a read replica when replicas are enabled.
+ * 
+ * Enabled with {@code pricing.repository.type=effective-timeline}.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "effective-timeline")
+@Order(PriceChangeListener.STORE_ORDER)
+public class EffectivePriceRepositoryAdapter implements PriceRepositoryPort, PriceChangeListener {
+
+    private final JpaEffectivePriceRepository jpaEffectivePriceRepository;
+    private final EffectivePriceMapper effectivePriceMapper;
+    private final EffectivePriceMaterializer effectivePriceMaterializer;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param jpaEffectivePriceRepository JPA repository for the effective timeline
+     * @param effectivePriceMapper Mapper to convert timeline rows to domain segments
+     * @param effectivePriceMaterializer Pipeline stage that builds the timeline
+     */
+    public EffectivePriceRepositoryAdapter(JpaEffectivePriceRepository jpaEffectivePriceRepository,
+                                           EffectivePriceMapper effectivePriceMapper,
+                                           EffectivePriceMaterializer effectivePriceMaterializer) {
+        this.jpaEffectivePriceRepository = jpaEffectivePriceRepository;
+        this.effectivePriceMapper = effectivePriceMapper;
+        this.effectivePriceMaterializer = effectivePriceMaterializer;
+    }
+
+    /**
+     * Materializes the timeline for the prices loaded at startup.
+     */
+    @PostConstruct
+    public void materialize() {
+        effectivePriceMaterializer.materializeAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Rebuilds the EFFECTIVE_PRICES rows of each changed product.
+     */
+    @Override
+    public void onPricesChanged(Set<PriceKey> keys) {
+        keys.forEach(effectivePriceMaterializer::materialize);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Reads the only segment that can contain the date and checks it is not a gap.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return jpaEffectivePriceRepository.findSegmentStartingAtOrBefore(applicationDate, productId, brandId)
+                .map(effectivePriceMapper::toSegment)
+                .filter(segment -> segment.contains(applicationDate))
+                .map(PriceSegment::getPrice);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Each EFFECTIVE_PRICES row is already a segment with its validity period. When the date
+     * falls in a gap, the next segment is read to find where the gap ends.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PriceSegment findSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        Optional<PriceSegment> previous = jpaEffectivePriceRepository
+                .findSegmentStartingAtOrBefore(applicationDate, productId, brandId)
+                .map(effectivePriceMapper::toSegment);
+        if (previous.isPresent() && previous.get().contains(applicationDate)) {
+            return previous.get();
+        }
+
+        LocalDateTime gapStart = previous.map(PriceSegment::getUntil).orElse(LocalDateTime.MIN);
+        LocalDateTime gapEnd = jpaEffectivePriceRepository
+                .findSegmentStartingAfter(applicationDate, productId, brandId)
+                .map(EffectivePriceEntity::getValidFrom)
+                .orElse(LocalDateTime.MAX);
+        return PriceSegment.gap(gapStart, gapEnd);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * The EFFECTIVE_PRICES rows of the range are already the resolved segments, read in order from a cursor.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void findTimeline(LocalDateTime from, LocalDateTime to, Long productId, Long brandId,
+                             Consumer<PriceSegment> sink) {
+        try (Stream<EffectivePriceEntity> segments =
+                     jpaEffectivePriceRepository.streamSegments(brandId, productId, from, to)) {
+            segments.map(effectivePriceMapper::toSegment).forEach(sink);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.Price;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes prices into the PRICES table with JDBC batch inserts.
+ * 
+ * Rows are buffered and sent every {@code batchSize} prices; {@link #flush()} must be called
+ * once at the end to write the remainder. Not thread-safe: use one writer per loading thread.
+ */
+public class JdbcPriceBatchWriter {
+
+    private static final String INSERT_PRICE =
+            "INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final List<Object[]> batch;
+    private long written;
+
+    /**
+     * Constructor for JdbcPriceBatchWriter.
+     * 
+     * @param jdbcTemplate JDBC template of the target database
+     * @param batchSize Number of rows per JDBC batch
+     */
+    public JdbcPriceBatchWriter(JdbcTemplate jdbcTemplate, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Buffers a price, sending the batch when it is full.
+     * 
+     * @param price Price to insert; its identifier is ignored and assigned by the database
+     */
+    public void add(Price price) {
+        batch.add(new Object[]{
+                price.getBrandId(),
+                Timestamp.valueOf(price.getStartDate()),
+                Timestamp.valueOf(price.getEndDate()),
+                price.getPriceList(),
+                price.getProductId(),
+                price.getPriority(),
+                price.getPrice(),
+                price.getCurrency()
+        });
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends the buffered prices.
+     */
+    public void flush() {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PRICE, batch);
+            written += batch.size();
+            batch.clear();
+        }
+    }
+
+    /**
+     * Number of prices sent to the database so far.
+     * 
+     * @return written rows
+     */
+    public long getWritten() {
+        return written;
+    }
+}
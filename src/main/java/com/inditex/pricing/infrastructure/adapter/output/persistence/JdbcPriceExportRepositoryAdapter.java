@@ -0,0 +1,102 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.port.output.PriceExportRepositoryPort;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.mapper.PriceRowMapper;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.repository.JpaPriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Adapter that implements the PriceExportRepositoryPort with a single JDBC range scan.
+ * 
+ * The query reads the tariffs of the brand that apply at the date in the order of the
+ * idx_price_lookup index (product, then priority descending, then ID), so the database walks one
+ * index range without sorting and the first row of each product is its winning price: the rows are
+ * merged on the fly, keeping only the previous product identifier. Rows are fetched from an open
+ * cursor {@code fetchSize} at a time, so memory stays constant whatever the size of the brand.
+ * 
+ * Always reads PRICES, whatever {@code pricing.repository.type} selects for single lookups, together
+ * with PRICES_ARCHIVE when the archive is enabled, read only before its horizon (see {@link PriceArchive}). The scan
+ * runs in a read-only JDBC transaction, so it is served by a read replica when replicas are enabled.
+ * 
+ * Publishes the {@code pricing.export.rows} counter, whose rate gives the export throughput.
+ */
+@Component
+public class JdbcPriceExportRepositoryAdapter implements PriceExportRepositoryPort {
+
+    private static final String APPLICABLE_BRAND_PRICES_QUERY =
+            "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES " +
+            "WHERE BRAND_ID = :brandId " +
+            "AND START_DATE <= :applicationDate " +
+            "AND END_DATE >= :applicationDate " +
+            "ORDER BY BRAND_ID, PRODUCT_ID, PRIORITY DESC, ID";
+
+    private static final String ARCHIVED_APPLICABLE_BRAND_PRICES_QUERY =
+            JpaPriceRepository.includingArchive(APPLICABLE_BRAND_PRICES_QUERY);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final PriceRowMapper priceRowMapper;
+    private final Counter exportedRows;
+    private final boolean readsArchive;
+
+    /**
+     * Constructor injection for dependencies and configuration.
+     * 
+     * @param dataSource Pricing database
+     * @param priceRowMapper Mapper from PRICES rows to domain prices
+     * @param meterRegistry Registry where the export metrics are published
+     * @param fetchSize Rows fetched from the cursor per round trip
+     * @param priceArchive Archive of expired tariffs, absent when archiving is disabled
+     */
+    public JdbcPriceExportRepositoryAdapter(DataSource dataSource, PriceRowMapper priceRowMapper,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${pricing.export.fetch-size:10000}") int fetchSize,
+                                            Optional<PriceArchive> priceArchive) {
+        JdbcTemplate streaming = new JdbcTemplate(dataSource);
+        streaming.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(streaming);
+        this.readOnlyTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.readOnlyTransaction.setReadOnly(true);
+        this.priceRowMapper = priceRowMapper;
+        this.exportedRows = Counter.builder("pricing.export.rows")
+                .description("Prices written by brand exports")
+                .register(meterRegistry);
+        this.readsArchive = priceArchive.isPresent();
+    }
+
+    @Override
+    public void findApplicablePrices(LocalDateTime applicationDate, Long brandId, Consumer<Price> sink) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("brandId", brandId)
+                .addValue("applicationDate", applicationDate)
+                .addValue("archiveDate", applicationDate);
+        String query = readsArchive
+                ? ARCHIVED_APPLICABLE_BRAND_PRICES_QUERY
+                : APPLICABLE_BRAND_PRICES_QUERY;
+        readOnlyTransaction.executeWithoutResult(status -> {
+            long[] previousProduct = {Long.MIN_VALUE};
+            jdbcTemplate.query(query, parameters, rs -> {
+                long productId = rs.getLong(6);
+                if (productId != previousProduct[0]) {
+                    previousProduct[0] = productId;
+                    sink.accept(priceRowMapper.mapRow(rs, rs.getRow()));
+                    exportedRows.increment();
+                }
+            });
+        });
+    }
+}
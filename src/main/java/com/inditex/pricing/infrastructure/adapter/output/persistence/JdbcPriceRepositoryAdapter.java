@@ -0,0 +1,221 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.model.PriceTimeline;
+import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import com.inditex.pricing.domain.service.PriceTimelineResolver;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.mapper.PriceRowMapper;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.repository.JpaPriceRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Adapter that implements the PriceRepositoryPort with plain JDBC.
+ * 
+ * Reads the needed columns straight into the domain Price through {@link PriceRowMapper}:
+ * no managed entity, no persistence context and no dirty-checking snapshot, so a hit allocates
+ * a single Price. Runs the same single lookup SQL as the JPA adapter.
+ * 
+ * Queries run in read-only JDBC transactions of their own, managed by a DataSourceTransactionManager
+ * rather than the application JPA transaction manager, which would open an EntityManager per call.
+ * 
+ * When the archive is enabled, lookups run the same queries on the union of PRICES and PRICES_ARCHIVE,
+ * whose archive branch the database only reads before the shared archive horizon (see {@link PriceArchive}).
+ * 
+ * Follows the Adapter pattern from hexagonal architecture.
+ * Selected when {@code pricing.repository.type} is {@code jdbc} (see the {@code performance} profile).
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "jdbc")
+public class JdbcPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    /**
+     * Tariffs of a product that overlap a date range, read by the segment and timeline lookups.
+     * Package-private so its execution plan can be checked.
+     */
+    static final String TIMELINE_PRICES_QUERY =
+            "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES " +
+            "WHERE BRAND_ID = :brandId AND PRODUCT_ID = :productId " +
+            "AND START_DATE <= :to AND END_DATE >= :from " +
+            "ORDER BY START_DATE";
+
+    private static final String ARCHIVED_APPLICABLE_PRICE_QUERY =
+            JpaPriceRepository.includingArchive(JpaPriceRepository.APPLICABLE_PRICE_QUERY);
+    private static final String ARCHIVED_TIMELINE_PRICES_QUERY =
+            JpaPriceRepository.includingArchive(TIMELINE_PRICES_QUERY);
+    private static final String ARCHIVED_CANDIDATE_PRICES_QUERY =
+            JpaPriceRepository.includingArchive(JpaPriceRepository.CANDIDATE_PRICES_QUERY);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final PriceRowMapper priceRowMapper;
+    private final boolean readsArchive;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param dataSource Pricing database
+     * @param priceRowMapper Mapper from PRICES rows to domain prices
+     * @param priceArchive Archive of expired tariffs, absent when archiving is disabled
+     */
+    public JdbcPriceRepositoryAdapter(DataSource dataSource, PriceRowMapper priceRowMapper,
+                                      Optional<PriceArchive> priceArchive) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.readOnlyTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.readOnlyTransaction.setReadOnly(true);
+        this.priceRowMapper = priceRowMapper;
+        this.readsArchive = priceArchive.isPresent();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Runs {@link JpaPriceRepository#APPLICABLE_PRICE_QUERY}, resolved by the covering index.
+     */
+    @Override
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("brandId", brandId)
+                .addValue("productId", productId)
+                .addValue("applicationDate", applicationDate)
+                .addValue("archiveDate", applicationDate);
+        List<Price> prices = readOnlyTransaction.execute(status ->
+                jdbcTemplate.query(readsArchive
+                        ? ARCHIVED_APPLICABLE_PRICE_QUERY
+                        : JpaPriceRepository.APPLICABLE_PRICE_QUERY, parameters, priceRowMapper));
+        return prices.stream().findFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Loads the tariffs of the product that overlap the {@link SegmentWindow} around the date with
+     * {@code TIMELINE_PRICES_QUERY}, an index range seek, and resolves the segment inside the window.
+     */
+    @Override
+    public PriceSegment findSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        SegmentWindow window = SegmentWindow.around(applicationDate);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("brandId", brandId)
+                .addValue("productId", productId)
+                .addValue("from", window.getFrom())
+                .addValue("to", window.getUntil())
+                .addValue("archiveDate", window.getFrom());
+        String query = readsArchive ? ARCHIVED_TIMELINE_PRICES_QUERY : TIMELINE_PRICES_QUERY;
+        List<Price> prices = readOnlyTransaction.execute(status ->
+                jdbcTemplate.query(query, parameters, priceRowMapper));
+        return window.clip(PriceTimelineResolver.resolve(prices).segmentAt(applicationDate));
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Reads the tariffs of the product that overlap the range in start date order from a cursor
+     * and resolves them with a single sweep, emitting each segment as soon as it is closed.
+     */
+    @Override
+    public void findTimeline(LocalDateTime from, LocalDateTime to, Long productId, Long brandId,
+                             Consumer<PriceSegment> sink) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("brandId", brandId)
+                .addValue("productId", productId)
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("archiveDate", from);
+        String query = readsArchive ? ARCHIVED_TIMELINE_PRICES_QUERY : TIMELINE_PRICES_QUERY;
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Price> prices = jdbcTemplate.queryForStream(query, parameters, priceRowMapper)) {
+                PriceTimelineResolver.resolve(prices.iterator(), sink);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Fetches the candidate prices of all queries with one set-based query, each product over the
+     * span of its own dates, and applies the priority rule in memory for each query.
+     */
+    @Override
+    public Map<PriceQuery, Price> findApplicablePrices(Collection<PriceQuery> queries) {
+        if (queries.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<PriceKey, List<Price>> candidates = findCandidates(SegmentWindow.aroundEach(queries, Duration.ZERO));
+
+        Map<PriceQuery, Price> prices = new HashMap<>();
+        for (PriceQuery query : queries) {
+            List<Price> productCandidates = candidates.getOrDefault(query.getKey(), List.of());
+            PriceTimelineResolver.applicableAt(productCandidates, query.getApplicationDate())
+                    .ifPresent(price -> prices.put(query, price));
+        }
+        return prices;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Fetches the tariffs of all queried products that overlap the {@link SegmentWindow} of each
+     * product with one set-based query and resolves the timeline of each product once.
+     */
+    @Override
+    public Map<PriceQuery, PriceSegment> findSegments(Collection<PriceQuery> queries) {
+        if (queries.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<PriceKey, SegmentWindow> windows = SegmentWindow.aroundEach(queries, SegmentWindow.REACH);
+        Map<PriceKey, List<Price>> candidates = findCandidates(windows);
+
+        Map<PriceKey, PriceTimeline> timelines = new HashMap<>();
+        Map<PriceQuery, PriceSegment> segments = new HashMap<>();
+        for (PriceQuery query : queries) {
+            PriceTimeline timeline = timelines.computeIfAbsent(query.getKey(), key ->
+                    PriceTimelineResolver.resolve(candidates.getOrDefault(key, List.of())));
+            segments.put(query, windows.get(query.getKey()).clip(timeline.segmentAt(query.getApplicationDate())));
+        }
+        return segments;
+    }
+
+    private Map<PriceKey, List<Price>> findCandidates(Map<PriceKey, SegmentWindow> windows) {
+        List<Object[]> keys = new ArrayList<>(windows.size());
+        LocalDateTime archiveDate = LocalDateTime.MAX;
+        for (Map.Entry<PriceKey, SegmentWindow> entry : windows.entrySet()) {
+            SegmentWindow window = entry.getValue();
+            keys.add(new Object[]{entry.getKey().getBrandId(), entry.getKey().getProductId(),
+                    window.getFrom(), window.getUntil()});
+            archiveDate = window.getFrom().isBefore(archiveDate) ? window.getFrom() : archiveDate;
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("keys", keys)
+                .addValue("archiveDate", archiveDate);
+        String candidatesQuery = readsArchive ? ARCHIVED_CANDIDATE_PRICES_QUERY : JpaPriceRepository.CANDIDATE_PRICES_QUERY;
+        Map<PriceKey, List<Price>> candidates = new HashMap<>();
+        readOnlyTransaction.executeWithoutResult(status ->
+                jdbcTemplate.query(candidatesQuery, parameters, resultSet -> {
+                    Price price = priceRowMapper.mapRow(resultSet, 0);
+                    candidates.computeIfAbsent(PriceKey.of(price), key -> new ArrayList<>()).add(price);
+                }));
+        return candidates;
+    }
+}
@@ -0,0 +1,115 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.port.output.PriceWriteRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Adapter that implements the PriceWriteRepositoryPort with JDBC batch statements.
+ * 
+ * Each batch is one short transaction that:
+ * 1. Upserts the tariffs with a single batched MERGE keyed by brand, product, price list and start date,
+ *    and deletes the archived tariffs with the same keys, so a tariff imported again after being
+ *    archived is not read twice (see {@link PriceArchive})
+ * 2. Writes one PRICE_CHANGES outbox row per changed product, so every instance refreshes its in-memory state
+ * 3. Advances the import checkpoint in PRICE_IMPORTS
+ * 
+ * Short transactions on an MVCC database keep concurrent price lookups from waiting on the import.
+ * 
+ * Publishes the {@code pricing.import.rows} counter and the {@code pricing.import.batch} timer,
+ * whose rate gives the import throughput.
+ */
+@Component
+public class JdbcPriceWriteRepositoryAdapter implements PriceWriteRepositoryPort {
+
+    private static final String MERGE_PRICE =
+            "MERGE INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) " +
+            "KEY (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_ARCHIVED_PRICE =
+            "DELETE FROM PRICES_ARCHIVE " +
+            "WHERE BRAND_ID = ? AND PRODUCT_ID = ? AND PRICE_LIST = ? AND START_DATE = ?";
+
+    private static final String INSERT_CHANGE =
+            "INSERT INTO PRICE_CHANGES (BRAND_ID, PRODUCT_ID) VALUES (?, ?)";
+
+    private static final String MERGE_CHECKPOINT =
+            "MERGE INTO PRICE_IMPORTS (IMPORT_ID, COMMITTED_ROWS, UPDATED_AT) KEY (IMPORT_ID) " +
+            "VALUES (?, ?, CURRENT_TIMESTAMP)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter importedRows;
+    private final Timer batchTimer;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param jdbcTemplate JDBC template of the pricing database
+     * @param meterRegistry Registry where the import metrics are published
+     */
+    public JdbcPriceWriteRepositoryAdapter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.importedRows = Counter.builder("pricing.import.rows")
+                .description("Tariffs written by imports")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("pricing.import.batch")
+                .description("Time to write and commit one import batch")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long findCheckpoint(String importId) {
+        List<Long> committed = jdbcTemplate.queryForList(
+                "SELECT COMMITTED_ROWS FROM PRICE_IMPORTS WHERE IMPORT_ID = ?", Long.class, importId);
+        return committed.isEmpty() ? 0 : committed.get(0);
+    }
+
+    @Override
+    @Transactional
+    public void saveBatch(String importId, List<Price> prices, long checkpoint) {
+        batchTimer.record(() -> {
+            List<Object[]> rows = new ArrayList<>(prices.size());
+            List<Object[]> archivedKeys = new ArrayList<>(prices.size());
+            Set<PriceKey> keys = new LinkedHashSet<>();
+            for (Price price : prices) {
+                rows.add(new Object[]{
+                        price.getBrandId(),
+                        Timestamp.valueOf(price.getStartDate()),
+                        Timestamp.valueOf(price.getEndDate()),
+                        price.getPriceList(),
+                        price.getProductId(),
+                        price.getPriority(),
+                        price.getPrice(),
+                        price.getCurrency()
+                });
+                archivedKeys.add(new Object[]{
+                        price.getBrandId(),
+                        price.getProductId(),
+                        price.getPriceList(),
+                        Timestamp.valueOf(price.getStartDate())
+                });
+                keys.add(PriceKey.of(price));
+            }
+            jdbcTemplate.batchUpdate(MERGE_PRICE, rows);
+            jdbcTemplate.batchUpdate(DELETE_ARCHIVED_PRICE, archivedKeys);
+            jdbcTemplate.batchUpdate(INSERT_CHANGE, keys.stream()
+                    .map(key -> new Object[]{key.getBrandId(), key.getProductId()})
+                    .toList());
+            jdbcTemplate.update(MERGE_CHECKPOINT, importId, checkpoint);
+        });
+        importedRows.increment(prices.size());
+    }
+}
@@ -0,0 +1,272 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Adapter that groups concurrent single price lookups into set-based queries (micro-batching).
+ * 
+ * Wraps the selected PriceRepositoryPort. Each {@link #findApplicablePrice} and {@link #findSegment}
+ * call is queued and its caller waits; a dispatcher thread takes the first queued lookup, keeps
+ * collecting lookups for up to {@code window} or until {@code maxBatchSize} are gathered, and resolves
+ * them with one call to {@link PriceRepositoryPort#findApplicablePrices} for the prices and one to
+ * {@link PriceRepositoryPort#findSegments} for the segments, whose results are handed back to every caller.
+ * Segment lookups are the ones the REST API makes when the HTTP cache is enabled, so both are batched.
+ * 
+ * At most {@code maxConcurrentBatches} batches run at the same time. While they are all running the
+ * dispatcher stops collecting, so under load the lookups keep queueing and the next batch is larger:
+ * the number of queries, and of connections in use, stays bounded however many requests arrive.
+ * The price is up to one window of added latency per lookup when traffic is low.
+ * 
+ * Batch and timeline lookups go straight to the wrapped adapter.
+ * 
+ * Publishes {@code pricing.batching.size} (lookups per set-based query; its count is the number of queries).
+ * 
+ * Enabled with {@code pricing.batching.enabled=true}; only useful with the database adapters
+ * ({@code jpa}, {@code jdbc}), whose batch lookup is a single query.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "pricing.batching.enabled", havingValue = "true")
+public class MicroBatchingPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(MicroBatchingPriceRepositoryAdapter.class);
+
+    private final PriceRepositoryPort delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Semaphore batchPermits;
+    private final BlockingQueue<PendingLookup> pending = new LinkedBlockingQueue<>();
+    private final ExecutorService batchExecutor;
+    private final Thread dispatcher;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running = true;
+
+    /**
+     * Constructor injection for dependencies and configuration.
+     * 
+     * @param delegate Repository adapter selected by {@code pricing.repository.type}
+     * @param meterRegistry Registry where the batching metrics are published
+     * @param window Maximum time a batch waits for more lookups after its first one
+     * @param maxBatchSize Maximum lookups per set-based query
+     * @param maxConcurrentBatches Maximum set-based queries running at the same time
+     */
+    public MicroBatchingPriceRepositoryAdapter(PriceRepositoryPort delegate, MeterRegistry meterRegistry,
+                                              @Value("${pricing.batching.window:PT0.002S}") Duration window,
+                                              @Value("${pricing.batching.max-batch-size:100}") int maxBatchSize,
+                                              @Value("${pricing.batching.max-concurrent-batches:4}") int maxConcurrentBatches) {
+        this.delegate = delegate;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchPermits = new Semaphore(maxConcurrentBatches);
+        this.batchExecutor = Executors.newFixedThreadPool(maxConcurrentBatches, runnable -> {
+            Thread thread = new Thread(runnable, "price-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSizes = DistributionSummary.builder("pricing.batching.size")
+                .description("Single price lookups resolved per set-based query")
+                .register(meterRegistry);
+        this.dispatcher = new Thread(this::dispatch, "price-batch-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Queues the lookup and waits for the batch that resolves it.
+     */
+    @Override
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        PendingLookup lookup = new PendingLookup(new PriceQuery(applicationDate, productId, brandId), false);
+        return Optional.ofNullable((Price) await(lookup));
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Queues the lookup and waits for the batch that resolves it.
+     */
+    @Override
+    public PriceSegment findSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        PendingLookup lookup = new PendingLookup(new PriceQuery(applicationDate, productId, brandId), true);
+        return (PriceSegment) await(lookup);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Already a set-based query: delegates to the wrapped adapter.
+     */
+    @Override
+    public Map<PriceQuery, Price> findApplicablePrices(Collection<PriceQuery> queries) {
+        return delegate.findApplicablePrices(queries);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Already a set-based query: delegates to the wrapped adapter.
+     */
+    @Override
+    public Map<PriceQuery, PriceSegment> findSegments(Collection<PriceQuery> queries) {
+        return delegate.findSegments(queries);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Not batched: delegates to the wrapped adapter.
+     */
+    @Override
+    public void findTimeline(LocalDateTime from, LocalDateTime to, Long productId, Long brandId,
+                             Consumer<PriceSegment> sink) {
+        delegate.findTimeline(from, to, productId, brandId, sink);
+    }
+
+    /**
+     * Stops the dispatcher and fails the lookups still queued.
+     */
+    @PreDestroy
+    public void close() {
+        running = false;
+        dispatcher.interrupt();
+        batchExecutor.shutdown();
+        List<PendingLookup> abandoned = new ArrayList<>();
+        pending.drainTo(abandoned);
+        abandoned.forEach(lookup -> lookup.result.completeExceptionally(stopped()));
+    }
+
+    /**
+     * Queues a lookup and waits for the batch that resolves it.
+     */
+    private Object await(PendingLookup lookup) {
+        pending.add(lookup);
+        if (!running && pending.remove(lookup)) {
+            throw stopped();
+        }
+        try {
+            return lookup.result.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    private void dispatch() {
+        try {
+            while (running) {
+                batchPermits.acquire();
+                List<PendingLookup> batch = collect();
+                try {
+                    batchExecutor.execute(() -> resolve(batch));
+                } catch (RejectedExecutionException ex) {
+                    batch.forEach(lookup -> lookup.result.completeExceptionally(stopped()));
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for a lookup, then gathers the following ones until the window closes or the batch is full.
+     */
+    private List<PendingLookup> collect() throws InterruptedException {
+        List<PendingLookup> batch = new ArrayList<>(maxBatchSize);
+        batch.add(pending.take());
+        long deadline = System.nanoTime() + windowNanos;
+        try {
+            while (batch.size() < maxBatchSize) {
+                long remaining = deadline - System.nanoTime();
+                PendingLookup next = remaining > 0 ? pending.poll(remaining, TimeUnit.NANOSECONDS) : pending.poll();
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+        } catch (InterruptedException ex) {
+            batch.forEach(lookup -> lookup.result.completeExceptionally(stopped()));
+            throw ex;
+        }
+        return batch;
+    }
+
+    private void resolve(List<PendingLookup> batch) {
+        try {
+            List<PriceQuery> priceQueries = new ArrayList<>(batch.size());
+            List<PriceQuery> segmentQueries = new ArrayList<>(batch.size());
+            for (PendingLookup lookup : batch) {
+                (lookup.segment ? segmentQueries : priceQueries).add(lookup.query);
+            }
+            Map<PriceQuery, Price> prices = Map.of();
+            if (!priceQueries.isEmpty()) {
+                prices = delegate.findApplicablePrices(priceQueries);
+                batchSizes.record(priceQueries.size());
+            }
+            Map<PriceQuery, PriceSegment> segments = Map.of();
+            if (!segmentQueries.isEmpty()) {
+                segments = delegate.findSegments(segmentQueries);
+                batchSizes.record(segmentQueries.size());
+            }
+            for (PendingLookup lookup : batch) {
+                lookup.result.complete(lookup.segment ? segments.get(lookup.query) : prices.get(lookup.query));
+            }
+        } catch (RuntimeException | Error ex) {
+            log.warn("Batch of {} price lookups failed: {}", batch.size(), ex.getMessage());
+            batch.forEach(lookup -> lookup.result.completeExceptionally(ex));
+        } finally {
+            batchPermits.release();
+        }
+    }
+
+    private static IllegalStateException stopped() {
+        return new IllegalStateException("Price lookup batching is stopped");
+    }
+
+    /**
+     * A queued lookup and the future its caller waits on, completed with
+     * a PriceSegment for segment lookups and a Price, or null, otherwise.
+     */
+    private static final class PendingLookup {
+
+        private final PriceQuery query;
+        private final boolean segment;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        PendingLookup(PriceQuery query, boolean segment) {
+            this.query = query;
+            this.segment = segment;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+
+/**
+ * Archive of expired tariffs.
+ * 
+ * PRICES_ARCHIVE holds the tariffs that ended before the archive horizon, moved out of PRICES by the
+ * {@link PriceArchiveJob}, so the hot table and its lookup index only keep current and recent tariffs.
+ * Each job run archives the tariffs that ended before the start of the day {@code retention} ago, read
+ * once from the clock, and first advances the horizon in PRICE_ARCHIVE_HORIZON, a single row shared by
+ * every instance, committing it before its first move. The horizon never moves back, so every archived
+ * tariff ended before it, whichever instance archived it.
+ * 
+ * Lookups read the union of both tables ({@code JpaPriceRepository.ALL_PRICES}), whose archive branch
+ * only returns rows when the lookup starts before the shared horizon. The horizon is read by the same
+ * statement as the tariffs, so a lookup that sees a moved tariff also sees the horizon advanced before
+ * the move: it gets the same answer as if nothing had been archived, without any instance keeping a copy
+ * of the horizon or the job waiting for lookups in flight. The database pushes the lookup conditions into
+ * both branches, so each one is still an index seek.
+ * 
+ * Enabled with {@code pricing.archive.enabled=true}. Read by the database adapters ({@code jpa},
+ * {@code jdbc}) and the brand export; the in-memory adapters, the effective timeline and the tariff
+ * file are loaded from PRICES only, so they are not meant to be used with the archive.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.archive.enabled", havingValue = "true")
+public class PriceArchive {
+
+    private static final String HORIZON_QUERY =
+            "SELECT HORIZON FROM PRICE_ARCHIVE_HORIZON";
+
+    private static final String ADVANCE_HORIZON =
+            "UPDATE PRICE_ARCHIVE_HORIZON SET HORIZON = ? WHERE HORIZON < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Period retention;
+    private final Clock clock;
+
+    /**
+     * Constructor injection for dependencies and configuration.
+     * 
+     * @param dataSource Pricing database, holding the shared horizon
+     * @param retention How long expired tariffs stay in PRICES after they end
+     * @param clock Clock that dates the archive runs
+     */
+    public PriceArchive(DataSource dataSource,
+                        @Value("${pricing.archive.retention:P1Y}") Period retention, Clock clock) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    /**
+     * Horizon of an archive run starting now.
+     * 
+     * @return Start of the day {@code retention} ago
+     */
+    public LocalDateTime nextHorizon() {
+        return LocalDate.now(clock).minus(retention).atStartOfDay();
+    }
+
+    /**
+     * First instant where no archived tariff applies.
+     * 
+     * @return Shared horizon, advanced by the last archive run of any instance
+     */
+    public LocalDateTime horizon() {
+        return jdbcTemplate.queryForObject(HORIZON_QUERY, LocalDateTime.class);
+    }
+
+    /**
+     * Advances the shared horizon to the one of an archive run. Must be called, outside any transaction,
+     * before the run moves any tariff: the update commits on its own, so no lookup can see a moved tariff
+     * without the horizon that covers it.
+     * 
+     * @param runHorizon Horizon of the run
+     * @return true if the horizon moved forward; it never moves back
+     */
+    public boolean advance(LocalDateTime runHorizon) {
+        Timestamp horizon = Timestamp.valueOf(runHorizon);
+        return jdbcTemplate.update(ADVANCE_HORIZON, horizon, horizon) > 0;
+    }
+}
@@ -0,0 +1,151 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.infrastructure.adapter.output.persistence.mapper.PriceRowMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves the tariffs that ended before the archive horizon from PRICES to PRICES_ARCHIVE.
+ * 
+ * Each run walks PRICES once in ID order. Every batch is one short transaction that:
+ * 1. Locks the next {@code batchSize} expired tariffs after the last ID moved
+ * 2. Copies them to PRICES_ARCHIVE with a MERGE keyed like the import (brand, product, price list
+ *    and start date), so an archived tariff imported again replaces its archived copy
+ * 3. Deletes them from PRICES
+ * 
+ * The horizon is read from the clock once per run and the shared horizon of {@link PriceArchive} is
+ * advanced to it, in a transaction of its own, before the first batch. Lookups are never blocked: they
+ * read committed versions on the MVCC database together with the shared horizon, so they see every moved
+ * tariff in one of the two tables whichever instance moves it, and there is nothing to wait for before
+ * moving. Runs of several instances may overlap: each moves only tariffs that ended before its own
+ * horizon, which the shared one never falls behind. The job pauses {@code pause} between batches, which
+ * caps the write load it adds at {@code batchSize} tariffs per pause.
+ * The answers do not change, so no PRICE_CHANGES rows are written.
+ * 
+ * Publishes the {@code pricing.archive.moved} counter and the {@code pricing.archive.batch} timer.
+ * 
+ * Enabled with {@code pricing.archive.enabled=true}; runs every {@code pricing.archive.interval}.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.archive.enabled", havingValue = "true")
+public class PriceArchiveJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceArchiveJob.class);
+
+    private static final String LOCK_EXPIRED =
+            "SELECT ID FROM PRICES WHERE ID > :lastId AND END_DATE < :horizon " +
+            "ORDER BY ID FETCH FIRST :batchSize ROWS ONLY FOR UPDATE";
+
+    private static final String ARCHIVE_PRICES =
+            "MERGE INTO PRICES_ARCHIVE (" + PriceRowMapper.COLUMNS + ") " +
+            "KEY (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE) " +
+            "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES WHERE ID IN (:ids)";
+
+    private static final String DELETE_PRICES =
+            "DELETE FROM PRICES WHERE ID IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final PriceArchive priceArchive;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final Counter movedPrices;
+    private final Timer batchTimer;
+
+    /**
+     * Constructor injection for dependencies and configuration.
+     * 
+     * @param dataSource Pricing database
+     * @param priceArchive Archive holding the shared horizon
+     * @param meterRegistry Registry where the archive metrics are published
+     * @param batchSize Tariffs moved per transaction
+     * @param pause Time to wait between batches
+     */
+    public PriceArchiveJob(DataSource dataSource, PriceArchive priceArchive, MeterRegistry meterRegistry,
+                           @Value("${pricing.archive.batch-size:1000}") int batchSize,
+                           @Value("${pricing.archive.pause:PT0.1S}") Duration pause) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.priceArchive = priceArchive;
+        this.batchSize = batchSize;
+        this.pauseMillis = pause.toMillis();
+        this.movedPrices = Counter.builder("pricing.archive.moved")
+                .description("Expired tariffs moved from PRICES to PRICES_ARCHIVE")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("pricing.archive.batch")
+                .description("Time to move and commit one batch of expired tariffs")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Moves every tariff that ended before the horizon of this run.
+     * 
+     * @return Number of tariffs moved
+     */
+    @Scheduled(fixedDelayString = "${pricing.archive.interval:PT1H}",
+               initialDelayString = "${pricing.archive.initial-delay:PT1M}")
+    public synchronized long archive() {
+        LocalDateTime horizon = priceArchive.nextHorizon();
+        priceArchive.advance(horizon);
+        long lastId = 0;
+        long moved = 0;
+        while (true) {
+            List<Long> ids = moveBatch(lastId, horizon);
+            moved += ids.size();
+            if (ids.size() < batchSize) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+            if (!pause()) {
+                break;
+            }
+        }
+        if (moved > 0) {
+            log.info("Archived {} tariffs that ended before {}", moved, horizon);
+        }
+        return moved;
+    }
+
+    private List<Long> moveBatch(long lastId, LocalDateTime horizon) {
+        return batchTimer.record(() -> transaction.execute(status -> {
+            MapSqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("lastId", lastId)
+                    .addValue("horizon", horizon)
+                    .addValue("batchSize", batchSize);
+            List<Long> ids = jdbcTemplate.queryForList(LOCK_EXPIRED, parameters, Long.class);
+            if (!ids.isEmpty()) {
+                MapSqlParameterSource batch = new MapSqlParameterSource("ids", ids);
+                jdbcTemplate.update(ARCHIVE_PRICES, batch);
+                jdbcTemplate.update(DELETE_PRICES, batch);
+                movedPrices.increment(ids.size());
+            }
+            return ids;
+        }));
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
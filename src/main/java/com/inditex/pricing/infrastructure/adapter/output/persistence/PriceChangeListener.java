@@ -0,0 +1,34 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.PriceKey;
+
+import java.util.Set;
+
+/**
+ * Receives the products whose tariffs changed in PRICES, as read from the PRICE_CHANGES outbox
+ * by {@link PriceChangeOutboxPoller}.
+ * 
+ * Listeners are notified in {@link org.springframework.core.annotation.Order} order: the stores
+ * that prices are read from ({@link #STORE_ORDER}) before the caches in front of them
+ * ({@link #CACHE_ORDER}), so an invalidated entry is never reloaded from stale data.
+ */
+public interface PriceChangeListener {
+
+    /**
+     * Order of the price stores: in-memory snapshot, materialized timeline, key filter.
+     */
+    int STORE_ORDER = 0;
+
+    /**
+     * Order of the caches of resolved prices.
+     */
+    int CACHE_ORDER = 100;
+
+    /**
+     * Brings the listener up to date with the current tariffs of the given products.
+     * Must be idempotent: the same product can be notified again.
+     * 
+     * @param keys Brand and product of each changed product
+     */
+    void onPricesChanged(Set<PriceKey> keys);
+}
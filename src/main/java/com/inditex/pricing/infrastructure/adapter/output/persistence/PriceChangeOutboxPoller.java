@@ -0,0 +1,234 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.PriceKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Polls the PRICE_CHANGES outbox and notifies the {@link PriceChangeListener}s of the changed products.
+ * 
+ * The poller remembers the last CHANGE_ID it applied and reads the following rows in batches;
+ * the position only advances once every listener has processed a batch, so a failed poll is
+ * retried on the next run. The listeners load the full current state when they are created, before
+ * the poller starts, so a change committed in between already has an ID below the latest one at startup:
+ * the first poll replays the changes written since the process started, minus {@code gap-timeout} for
+ * writers still open at that time and for clock drift with the database. Reloading is idempotent, so
+ * replaying changes the listeners had already loaded is harmless.
+ * 
+ * CHANGE_ID is assigned when a row is inserted, not when it is committed: while one writer is still
+ * open, another one can commit a higher ID, and moving past it would skip the first writer's row
+ * forever. So the IDs skipped by each read are kept as gaps, and every poll looks them up again by
+ * primary key until they show up or {@code gap-timeout} passes (a rolled back insert leaves a
+ * permanent gap). The timeout must exceed the longest writer transaction. At startup the IDs missing
+ * among the latest {@code batch-size} changes are kept as gaps too, since their writers may still be open.
+ * 
+ * Each poll runs in a read-write transaction, so the products reloaded by the listeners are read
+ * from the primary database even when read replicas are enabled, never from a replica that may
+ * not have received the change yet.
+ * 
+ * Publishes {@code pricing.changes.applied} (outbox rows processed) and {@code pricing.changes.poll.age}
+ * (seconds since the last successful poll, i.e. how stale the in-memory state may be).
+ * 
+ * Disabled with {@code pricing.changes.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.changes.enabled", havingValue = "true", matchIfMissing = true)
+public class PriceChangeOutboxPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceChangeOutboxPoller.class);
+
+    private static final String CHANGES_QUERY =
+            "SELECT CHANGE_ID, BRAND_ID, PRODUCT_ID FROM PRICE_CHANGES " +
+            "WHERE CHANGE_ID > ? ORDER BY CHANGE_ID FETCH FIRST ? ROWS ONLY";
+
+    private static final String GAP_QUERY =
+            "SELECT CHANGE_ID, BRAND_ID, PRODUCT_ID FROM PRICE_CHANGES " +
+            "WHERE CHANGE_ID BETWEEN ? AND ? ORDER BY CHANGE_ID";
+
+    private static final String RECENT_IDS_QUERY =
+            "SELECT CHANGE_ID FROM PRICE_CHANGES WHERE CHANGE_ID > ? AND CHANGE_ID <= ? ORDER BY CHANGE_ID";
+
+    private static final String FIRST_CHANGE_SINCE_QUERY =
+            "SELECT MIN(CHANGE_ID) FROM PRICE_CHANGES WHERE CHANGED_AT >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<PriceChangeListener> listeners;
+    private final Clock clock;
+    private final int batchSize;
+    private final long gapTimeoutMillis;
+    private final Counter appliedChanges;
+
+    private long lastChangeId;
+    private List<ChangeGap> gaps = new ArrayList<>();
+    private volatile long lastPollMillis = System.currentTimeMillis();
+
+    /**
+     * Constructor injection for dependencies and configuration.
+     * 
+     * @param jdbcTemplate JDBC template used to read the outbox
+     * @param listeners Listeners to notify, in order
+     * @param clock Clock of the zone in which CHANGED_AT is written
+     * @param meterRegistry Registry where the poller metrics are published
+     * @param batchSize Maximum number of outbox rows read per query
+     * @param gapTimeout How long a skipped CHANGE_ID is waited for
+     */
+    public PriceChangeOutboxPoller(JdbcTemplate jdbcTemplate, List<PriceChangeListener> listeners,
+                                   Clock clock, MeterRegistry meterRegistry,
+                                   @Value("${pricing.changes.batch-size:1000}") int batchSize,
+                                   @Value("${pricing.changes.gap-timeout:PT1M}") Duration gapTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.listeners = listeners;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.gapTimeoutMillis = gapTimeout.toMillis();
+        this.appliedChanges = Counter.builder("pricing.changes.applied")
+                .description("PRICE_CHANGES rows applied to the in-memory state")
+                .register(meterRegistry);
+        Gauge.builder("pricing.changes.poll.age", this, poller -> (System.currentTimeMillis() - poller.lastPollMillis) / 1000.0)
+                .description("Seconds since the last successful poll of PRICE_CHANGES")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("pricing.changes.gaps", this, poller -> poller.gaps.size())
+                .description("Ranges of skipped CHANGE_IDs still waited for")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts before the first change written since the process started, so the first poll replays the
+     * changes the listeners may have missed while loading, waiting for the IDs missing before it.
+     */
+    @PostConstruct
+    public synchronized void init() {
+        Long latest = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(CHANGE_ID), 0) FROM PRICE_CHANGES", Long.class);
+        LocalDateTime since = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime() - gapTimeoutMillis),
+                clock.getZone());
+        Long firstSince = jdbcTemplate.queryForObject(FIRST_CHANGE_SINCE_QUERY, Long.class, since);
+        long replayFrom = firstSince == null ? (latest == null ? 0 : latest) : firstSince - 1;
+
+        long start = Math.max(0, replayFrom - batchSize);
+        long deadline = System.currentTimeMillis() + gapTimeoutMillis;
+        long[] previous = {start};
+        jdbcTemplate.query(RECENT_IDS_QUERY, rs -> {
+            long changeId = rs.getLong(1);
+            addGap(gaps, previous[0], changeId, deadline);
+            previous[0] = changeId;
+        }, start, replayFrom);
+        addGap(gaps, previous[0], replayFrom + 1, deadline);
+        this.lastChangeId = replayFrom;
+    }
+
+    /**
+     * Applies the skipped changes committed since the previous poll, then the changes written after it.
+     */
+    @Scheduled(fixedDelayString = "${pricing.changes.poll-interval:PT1S}")
+    @Transactional
+    public synchronized void poll() {
+        long now = System.currentTimeMillis();
+        pollGaps(now);
+
+        long deadline = now + gapTimeoutMillis;
+        int read;
+        do {
+            Set<PriceKey> keys = new LinkedHashSet<>();
+            long[] lastRead = {lastChangeId, 0};
+            List<ChangeGap> skipped = new ArrayList<>();
+            jdbcTemplate.query(CHANGES_QUERY, rs -> {
+                long changeId = rs.getLong(1);
+                addGap(skipped, lastRead[0], changeId, deadline);
+                lastRead[0] = changeId;
+                lastRead[1]++;
+                keys.add(new PriceKey(rs.getLong(2), rs.getLong(3)));
+            }, lastChangeId, batchSize);
+            read = (int) lastRead[1];
+
+            if (read > 0) {
+                listeners.forEach(listener -> listener.onPricesChanged(keys));
+                lastChangeId = lastRead[0];
+                gaps.addAll(skipped);
+                appliedChanges.increment(read);
+                log.debug("Applied price changes up to {} for {} products", lastChangeId, keys.size());
+            }
+        } while (read == batchSize);
+        lastPollMillis = System.currentTimeMillis();
+    }
+
+    private void pollGaps(long now) {
+        if (gaps.isEmpty()) {
+            return;
+        }
+        Set<PriceKey> keys = new LinkedHashSet<>();
+        List<ChangeGap> remaining = new ArrayList<>();
+        long[] read = {0};
+        for (ChangeGap gap : gaps) {
+            long[] previous = {gap.from - 1};
+            jdbcTemplate.query(GAP_QUERY, rs -> {
+                long changeId = rs.getLong(1);
+                addGap(remaining, previous[0], changeId, gap.deadline);
+                previous[0] = changeId;
+                read[0]++;
+                keys.add(new PriceKey(rs.getLong(2), rs.getLong(3)));
+            }, gap.from, gap.to);
+            addGap(remaining, previous[0], gap.to + 1, gap.deadline);
+        }
+
+        if (read[0] > 0) {
+            listeners.forEach(listener -> listener.onPricesChanged(keys));
+            appliedChanges.increment(read[0]);
+            log.debug("Applied late price changes for {} products", keys.size());
+        }
+        remaining.removeIf(gap -> {
+            if (gap.deadline > now) {
+                return false;
+            }
+            log.warn("Stopped waiting for price changes {} to {}", gap.from, gap.to);
+            return true;
+        });
+        gaps = remaining;
+    }
+
+    /**
+     * Adds the IDs between two consecutive changes, if any, as a gap.
+     */
+    private static void addGap(List<ChangeGap> gaps, long previousId, long changeId, long deadline) {
+        if (changeId > previousId + 1) {
+            gaps.add(new ChangeGap(previousId + 1, changeId - 1, deadline));
+        }
+    }
+
+    /**
+     * Range of skipped CHANGE_IDs, from and to included, waited for until the deadline.
+     */
+    private static final class ChangeGap {
+
+        private final long from;
+        private final long to;
+        private final long deadline;
+
+        private ChangeGap(long from, long to, long deadline) {
+            this.from = from;
+            this.to = to;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.PriceKey;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of (brandId, productId) keys.
+ * 
+ * Sized for an expected number of keys and false positive probability. Bits are kept in an
+ * AtomicLongArray so keys can be added while other threads are reading, without locking.
+ * Positions are derived with double hashing over two 64-bit mixes of the key.
+ * 
+ * Counts the keys that set at least one new bit, a slight underestimate of the distinct keys added,
+ * so the owner can tell when the filter holds more keys than it was sized for.
+ */
+class PriceKeyBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long capacity;
+    private final AtomicLong insertedKeys = new AtomicLong();
+
+    /**
+     * Constructor for PriceKeyBloomFilter.
+     * 
+     * @param expectedKeys Number of keys the filter is sized for
+     * @param falsePositiveProbability Target false positive probability, between 0 and 1
+     */
+    PriceKeyBloomFilter(long expectedKeys, double falsePositiveProbability) {
+        long keys = Math.max(expectedKeys, 1);
+        this.capacity = keys;
+        long optimalBits = (long) Math.ceil(-keys * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, Math.min((optimalBits + 63) / 64, Integer.MAX_VALUE));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / keys * Math.log(2)));
+    }
+
+    void add(PriceKey key) {
+        long hash1 = mix(key.getBrandId() * 0x9E3779B97F4A7C15L + key.getProductId());
+        long hash2 = mix(hash1 ^ key.getProductId());
+        boolean added = false;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0) {
+                if (bits.compareAndSet(word, current, current | mask)) {
+                    added = true;
+                    break;
+                }
+                current = bits.get(word);
+            }
+        }
+        if (added) {
+            insertedKeys.incrementAndGet();
+        }
+    }
+
+    boolean mightContain(PriceKey key) {
+        long hash1 = mix(key.getBrandId() * 0x9E3779B97F4A7C15L + key.getProductId());
+        long hash2 = mix(hash1 ^ key.getProductId());
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether more keys have been added than the filter was sized for, so its false positive
+     * probability is above the target.
+     */
+    boolean isSaturated() {
+        return insertedKeys.get() > capacity;
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    long insertedKeys() {
+        return insertedKeys.get();
+    }
+
+    /**
+     * 64-bit finalizer from MurmurHash3.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
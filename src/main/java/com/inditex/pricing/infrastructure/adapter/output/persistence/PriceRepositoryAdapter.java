@@ -1,35 +1,65 @@
 package com.inditex.pricing.infrastructure.adapter.output.persistence;
 
 import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.model.PriceTimeline;
 import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import com.inditex.pricing.domain.service.PriceTimelineResolver;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.entity.PriceEntity;
 import com.inditex.pricing.infrastructure.adapter.output.persistence.mapper.PriceMapper;
 import com.inditex.pricing.infrastructure.adapter.output.persistence.repository.JpaPriceRepository;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.repository.PriceKeyRange;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adapter that implements the PriceRepositoryPort using JPA.
  * This is the bridge between domain (port) and infrastructure (JPA repository).
  * 
+ * Lookups run in read-only transactions, so they are served by a read replica when replicas are
+ * enabled (see {@code ReadReplicaRoutingDataSource}).
+ * 
+ * When the archive is enabled, lookups also read the archived tariffs, which the database only
+ * returns before the shared archive horizon (see {@link PriceArchive}).
+ * 
  * Follows the Adapter pattern from hexagonal architecture.
+ * Default implementation, selected when {@code pricing.repository.type} is {@code jpa} or not set.
  */
 @Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "jpa", matchIfMissing = true)
+@Transactional(readOnly = true)
 public class PriceRepositoryAdapter implements PriceRepositoryPort {
 
     private final JpaPriceRepository jpaPriceRepository;
     private final PriceMapper priceMapper;
+    private final boolean readsArchive;
 
     /**
      * Constructor injection for dependencies.
      * 
      * @param jpaPriceRepository JPA repository for database access
      * @param priceMapper Mapper to convert between entity and domain model
+     * @param priceArchive Archive of expired tariffs, absent when archiving is disabled
      */
-    public PriceRepositoryAdapter(JpaPriceRepository jpaPriceRepository, PriceMapper priceMapper) {
+    public PriceRepositoryAdapter(JpaPriceRepository jpaPriceRepository, PriceMapper priceMapper,
+                                  Optional<PriceArchive> priceArchive) {
         this.jpaPriceRepository = jpaPriceRepository;
         this.priceMapper = priceMapper;
+        this.readsArchive = priceArchive.isPresent();
     }
 
     /**
@@ -39,7 +69,108 @@ public class PriceRepositoryAdapter implements PriceRepositoryPort {
      */
     @Override
     public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
-        return jpaPriceRepository.findApplicablePrice(applicationDate, productId, brandId)
-                .map(priceMapper::toDomain);
+        Optional<PriceEntity> entity = readsArchive
+                ? jpaPriceRepository.findArchivedApplicablePrice(applicationDate, productId, brandId, applicationDate)
+                : jpaPriceRepository.findApplicablePrice(applicationDate, productId, brandId);
+        return entity.map(priceMapper::toDomain);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Loads the tariffs of the product that overlap the {@link SegmentWindow} around the date,
+     * an index range seek, and resolves the segment inside the window.
+     */
+    @Override
+    public PriceSegment findSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        SegmentWindow window = SegmentWindow.around(applicationDate);
+        List<Price> prices;
+        try (Stream<PriceEntity> entities = readsArchive
+                ? jpaPriceRepository.streamArchivedOverlappingPrices(brandId, productId, window.getFrom(), window.getUntil(),
+                                                                     window.getFrom())
+                : jpaPriceRepository.streamOverlappingPrices(brandId, productId, window.getFrom(), window.getUntil())) {
+            prices = entities.map(priceMapper::toDomain).toList();
+        }
+        return window.clip(PriceTimelineResolver.resolve(prices).segmentAt(applicationDate));
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Reads the tariffs of the product that overlap the range in start date order from a cursor
+     * and resolves them with a single sweep, emitting each segment as soon as it is closed.
+     */
+    @Override
+    public void findTimeline(LocalDateTime from, LocalDateTime to, Long productId, Long brandId,
+                             Consumer<PriceSegment> sink) {
+        try (Stream<PriceEntity> prices = readsArchive
+                ? jpaPriceRepository.streamArchivedOverlappingPrices(brandId, productId, from, to, from)
+                : jpaPriceRepository.streamOverlappingPrices(brandId, productId, from, to)) {
+            PriceTimelineResolver.resolve(prices.map(priceMapper::toDomain).iterator(), sink);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Fetches the candidate prices of all queries with one set-based query, each product over the
+     * span of its own dates, and applies the priority rule in memory for each query.
+     */
+    @Override
+    public Map<PriceQuery, Price> findApplicablePrices(Collection<PriceQuery> queries) {
+        if (queries.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<PriceKey, List<Price>> candidates = findCandidates(SegmentWindow.aroundEach(queries, Duration.ZERO));
+
+        Map<PriceQuery, Price> prices = new HashMap<>();
+        for (PriceQuery query : queries) {
+            List<Price> productCandidates = candidates.getOrDefault(query.getKey(), List.of());
+            PriceTimelineResolver.applicableAt(productCandidates, query.getApplicationDate())
+                    .ifPresent(price -> prices.put(query, price));
+        }
+        return prices;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Fetches the tariffs of all queried products that overlap the {@link SegmentWindow} of each
+     * product with one set-based query and resolves the timeline of each product once.
+     */
+    @Override
+    public Map<PriceQuery, PriceSegment> findSegments(Collection<PriceQuery> queries) {
+        if (queries.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<PriceKey, SegmentWindow> windows = SegmentWindow.aroundEach(queries, SegmentWindow.REACH);
+        Map<PriceKey, List<Price>> candidates = findCandidates(windows);
+
+        Map<PriceKey, PriceTimeline> timelines = new HashMap<>();
+        Map<PriceQuery, PriceSegment> segments = new HashMap<>();
+        for (PriceQuery query : queries) {
+            PriceTimeline timeline = timelines.computeIfAbsent(query.getKey(), key ->
+                    PriceTimelineResolver.resolve(candidates.getOrDefault(key, List.of())));
+            segments.put(query, windows.get(query.getKey()).clip(timeline.segmentAt(query.getApplicationDate())));
+        }
+        return segments;
+    }
+
+    private Map<PriceKey, List<Price>> findCandidates(Map<PriceKey, SegmentWindow> windows) {
+        List<PriceKeyRange> ranges = new ArrayList<>(windows.size());
+        windows.forEach((key, window) ->
+                ranges.add(new PriceKeyRange(key.getBrandId(), key.getProductId(), window.getFrom(), window.getUntil())));
+
+        Map<PriceKey, List<Price>> candidates = new HashMap<>();
+        List<PriceEntity> entities = readsArchive
+                ? jpaPriceRepository.findArchivedCandidatePrices(ranges)
+                : jpaPriceRepository.findCandidatePrices(ranges);
+        entities.forEach(entity -> {
+            Price price = priceMapper.toDomain(entity);
+            candidates.computeIfAbsent(PriceKey.of(price), key -> new ArrayList<>()).add(price);
+        });
+        return candidates;
     }
 }
@@ -0,0 +1,103 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.PriceSegment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Date range of tariffs read by the database adapters to resolve price segments.
+ * 
+ * A segment depends on every tariff that starts or ends around the date, not only on the one that
+ * applies, so resolving it exactly would mean loading the whole history of the product. Instead,
+ * the adapters read the tariffs that overlap {@code REACH} before and after the application dates,
+ * an index range seek like the applicable price lookup, and clip the resolved segment to this window:
+ * inside the window the tariffs read are exactly the ones that apply, so the clipped segment is exact,
+ * only shorter. A shorter segment is still valid for caching; it just expires sooner.
+ */
+final class SegmentWindow {
+
+    static final Duration REACH = Duration.ofDays(1);
+
+    private final LocalDateTime from;
+    private final LocalDateTime until;
+
+    private SegmentWindow(LocalDateTime from, LocalDateTime until) {
+        this.from = from;
+        this.until = until;
+    }
+
+    /**
+     * Window around a single application date.
+     * 
+     * @param applicationDate Date and time of the lookup
+     * @return Window from {@code REACH} before to {@code REACH} after the date
+     */
+    static SegmentWindow around(LocalDateTime applicationDate) {
+        return new SegmentWindow(minus(applicationDate, REACH), plus(applicationDate, REACH));
+    }
+
+    /**
+     * Windows around the application dates of each product of a set of lookups, so every product
+     * is read over the span of its own dates rather than the span of all the lookups.
+     * 
+     * @param queries Lookup criteria
+     * @param reach Time read before the earliest and after the latest date of each product:
+     *              {@code REACH} to resolve segments, zero to resolve applicable prices
+     * @return Window of each queried product
+     */
+    static Map<PriceKey, SegmentWindow> aroundEach(Collection<PriceQuery> queries, Duration reach) {
+        Map<PriceKey, SegmentWindow> windows = new HashMap<>();
+        for (PriceQuery query : queries) {
+            LocalDateTime date = query.getApplicationDate();
+            windows.merge(query.getKey(), new SegmentWindow(minus(date, reach), plus(date, reach)),
+                    (first, second) -> new SegmentWindow(
+                            first.from.isBefore(second.from) ? first.from : second.from,
+                            first.until.isAfter(second.until) ? first.until : second.until));
+        }
+        return windows;
+    }
+
+    /**
+     * Limits a segment resolved from the tariffs of this window to the window itself.
+     * 
+     * @param segment Segment containing a date of the window
+     * @return The part of the segment inside the window
+     */
+    PriceSegment clip(PriceSegment segment) {
+        if (!segment.getFrom().isBefore(from) && !segment.getUntil().isAfter(until)) {
+            return segment;
+        }
+        return new PriceSegment(
+                segment.getFrom().isBefore(from) ? from : segment.getFrom(),
+                segment.getUntil().isAfter(until) ? until : segment.getUntil(),
+                segment.getPrice());
+    }
+
+    /**
+     * First instant of the window, inclusive.
+     */
+    LocalDateTime getFrom() {
+        return from;
+    }
+
+    /**
+     * First instant after the window; tariffs starting at it are read too, which is harmless.
+     */
+    LocalDateTime getUntil() {
+        return until;
+    }
+
+    private static LocalDateTime minus(LocalDateTime date, Duration reach) {
+        return date.isBefore(LocalDateTime.MIN.plus(reach)) ? LocalDateTime.MIN : date.minus(reach);
+    }
+
+    private static LocalDateTime plus(LocalDateTime date, Duration reach) {
+        return date.isAfter(LocalDateTime.MAX.minus(reach)) ? LocalDateTime.MAX : date.plus(reach);
+    }
+}
@@ -0,0 +1,63 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for EFFECTIVE_PRICES table.
+ * Each row is a segment of the effective price timeline of a product, denormalized with the
+ * winning tariff so the lookup does not need a join with PRICES.
+ * 
+ * Read-only from JPA: rows are written by the EffectivePriceMaterializer.
+ */
+@Entity
+@Immutable
+@Table(name = "EFFECTIVE_PRICES")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EffectivePriceEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "BRAND_ID", nullable = false)
+    private Long brandId;
+
+    @Column(name = "PRODUCT_ID", nullable = false)
+    private Long productId;
+
+    @Column(name = "VALID_FROM", nullable = false)
+    private LocalDateTime validFrom;
+
+    @Column(name = "VALID_UNTIL", nullable = false)
+    private LocalDateTime validUntil;
+
+    @Column(name = "PRICE_ID", nullable = false)
+    private Long priceId;
+
+    @Column(name = "START_DATE", nullable = false)
+    private LocalDateTime startDate;
+
+    @Column(name = "END_DATE", nullable = false)
+    private LocalDateTime endDate;
+
+    @Column(name = "PRICE_LIST", nullable = false)
+    private Long priceList;
+
+    @Column(name = "PRIORITY", nullable = false)
+    private Integer priority;
+
+    @Column(name = "PRICE", nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(name = "CURR", nullable = false, length = 3)
+    private String currency;
+}
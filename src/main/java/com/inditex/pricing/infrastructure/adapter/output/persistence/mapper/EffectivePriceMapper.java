@@ -0,0 +1,38 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence.mapper;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.entity.EffectivePriceEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper to convert an EFFECTIVE_PRICES row into a domain PriceSegment.
+ */
+@Component
+public class EffectivePriceMapper {
+
+    /**
+     * Converts an EffectivePriceEntity to a domain PriceSegment.
+     * 
+     * @param entity EffectivePriceEntity from database
+     * @return PriceSegment with the winning Price of the segment
+     */
+    public PriceSegment toSegment(EffectivePriceEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        Price price = new Price(
+                entity.getPriceId(),
+                entity.getBrandId(),
+                entity.getStartDate(),
+                entity.getEndDate(),
+                entity.getPriceList(),
+                entity.getProductId(),
+                entity.getPriority(),
+                entity.getPrice(),
+                entity.getCurrency()
+        );
+        return new PriceSegment(entity.getValidFrom(), entity.getValidUntil(), price);
+    }
+}
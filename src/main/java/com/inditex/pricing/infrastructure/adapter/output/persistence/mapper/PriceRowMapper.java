@@ -0,0 +1,37 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence.mapper;
+
+import com.inditex.pricing.domain.model.Price;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * JDBC RowMapper that reads a PRICES row straight into a domain Price.
+ * Used by the JDBC-based pipelines that stream the table without JPA entity management.
+ */
+@Component
+public class PriceRowMapper implements RowMapper<Price> {
+
+    /**
+     * Column list matching the order expected by {@link #mapRow(ResultSet, int)}.
+     */
+    public static final String COLUMNS =
+            "ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR";
+
+    @Override
+    public Price mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Price(
+                rs.getLong(1),
+                rs.getLong(2),
+                rs.getTimestamp(3).toLocalDateTime(),
+                rs.getTimestamp(4).toLocalDateTime(),
+                rs.getLong(5),
+                rs.getLong(6),
+                rs.getInt(7),
+                rs.getBigDecimal(8),
+                rs.getString(9)
+        );
+    }
+}
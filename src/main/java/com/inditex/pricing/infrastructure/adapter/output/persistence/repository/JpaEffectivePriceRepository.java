@@ -0,0 +1,101 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence.repository;
+
+import com.inditex.pricing.infrastructure.adapter.output.persistence.entity.EffectivePriceEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+/**
+ * Spring Data JPA repository for EffectivePriceEntity.
+ * Provides point lookups and range scans on the materialized effective price timeline.
+ */
+@Repository
+public interface JpaEffectivePriceRepository extends JpaRepository<EffectivePriceEntity, Long> {
+
+    /**
+     * Finds the last timeline segment starting at or before the given date.
+     * 
+     * Query strategy:
+     * 1. Seeks the (BRAND_ID, PRODUCT_ID, VALID_FROM DESC) index
+     * 2. Reads the first entry at or before applicationDate
+     * 
+     * Segments never overlap, so this single row is the only candidate; the caller must still
+     * check VALID_UNTIL, since the date may fall into a gap between segments.
+     * 
+     * @param applicationDate Date and time to check
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @return Optional containing the candidate segment if any
+     */
+    @Query("SELECT e FROM EffectivePriceEntity e " +
+           "WHERE e.brandId = :brandId " +
+           "AND e.productId = :productId " +
+           "AND e.validFrom <= :applicationDate " +
+           "ORDER BY e.validFrom DESC " +
+           "LIMIT 1")
+    Optional<EffectivePriceEntity> findSegmentStartingAtOrBefore(
+            @Param("applicationDate") LocalDateTime applicationDate,
+            @Param("productId") Long productId,
+            @Param("brandId") Long brandId
+    );
+
+    /**
+     * Finds the first timeline segment starting after the given date.
+     * Used to find where a gap of the timeline ends.
+     * 
+     * @param applicationDate Date and time to check
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @return Optional containing the next segment if any
+     */
+    @Query("SELECT e FROM EffectivePriceEntity e " +
+           "WHERE e.brandId = :brandId " +
+           "AND e.productId = :productId " +
+           "AND e.validFrom > :applicationDate " +
+           "ORDER BY e.validFrom ASC " +
+           "LIMIT 1")
+    Optional<EffectivePriceEntity> findSegmentStartingAfter(
+            @Param("applicationDate") LocalDateTime applicationDate,
+            @Param("productId") Long productId,
+            @Param("brandId") Long brandId
+    );
+
+    /**
+     * Streams the timeline segments of a product that overlap a date range, in chronological order.
+     * 
+     * Query strategy:
+     * 1. Seeks the (BRAND_ID, PRODUCT_ID, VALID_FROM DESC) index
+     * 2. Walks the segments starting at or before the end of the range, keeping those not ended before its start
+     * 
+     * Rows are fetched from an open cursor as the stream is consumed, so the caller must run
+     * inside a transaction and close the stream.
+     * 
+     * @param brandId Brand identifier
+     * @param productId Product identifier
+     * @param from First instant of the range
+     * @param to Last instant of the range
+     * @return Segments overlapping the range, ordered by start
+     */
+    @Query("SELECT e FROM EffectivePriceEntity e " +
+           "WHERE e.brandId = :brandId " +
+           "AND e.productId = :productId " +
+           "AND e.validFrom <= :to " +
+           "AND e.validUntil > :from " +
+           "ORDER BY e.validFrom ASC")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<EffectivePriceEntity> streamSegments(
+            @Param("brandId") Long brandId,
+            @Param("productId") Long productId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+}
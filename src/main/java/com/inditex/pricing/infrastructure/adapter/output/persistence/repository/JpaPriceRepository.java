@@ -1,46 +1,193 @@
 package com.inditex.pricing.infrastructure.adapter.output.persistence.repository;
 
 import com.inditex.pricing.infrastructure.adapter.output.persistence.entity.PriceEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * Spring Data JPA repository for PriceEntity.
- * Provides efficient data access with custom query for price lookup.
+ * Provides efficient data access with custom query for price lookup; the batch lookups are
+ * declared in {@link JpaPriceRepositoryCustom}.
  */
 @Repository
-public interface JpaPriceRepository extends JpaRepository<PriceEntity, Long> {
+public interface JpaPriceRepository extends JpaRepository<PriceEntity, Long>, JpaPriceRepositoryCustom {
+
+    /**
+     * SQL of {@link #findApplicablePrice}, shaped after the idx_price_lookup covering index.
+     * The ORDER BY repeats the index column order so the database reads the rows already
+     * sorted instead of sorting them.
+     */
+    String APPLICABLE_PRICE_QUERY =
+            "SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR " +
+            "FROM PRICES " +
+            "WHERE BRAND_ID = :brandId " +
+            "AND PRODUCT_ID = :productId " +
+            "AND START_DATE <= :applicationDate " +
+            "AND END_DATE >= :applicationDate " +
+            "ORDER BY BRAND_ID, PRODUCT_ID, PRIORITY DESC, ID " +
+            "FETCH FIRST 1 ROWS ONLY";
+
+    /**
+     * Tariffs of PRICES and PRICES_ARCHIVE together, read by the lookups when the archive is enabled.
+     * The archive branch only returns rows when {@code :archiveDate}, the earliest date of the lookup,
+     * is before the shared archive horizon, read by the same statement: archived tariffs all ended
+     * before it. Conditions on the derived table are pushed into both branches of the union.
+     */
+    String ALL_PRICES =
+            "(SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR FROM PRICES " +
+            "UNION ALL " +
+            "SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR FROM PRICES_ARCHIVE " +
+            "WHERE :archiveDate < (SELECT HORIZON FROM PRICE_ARCHIVE_HORIZON)) " +
+            "ALL_PRICES";
+
+    /**
+     * SQL of {@link #findCandidatePrices}. Joins the PRICES rows to the list of requested products,
+     * each with its own date range, so the idx_price_lookup index is sought once per product and only
+     * the tariffs around the dates of that product are read. Separate IN lists on BRAND_ID and
+     * PRODUCT_ID over one date range would read every requested product of every requested brand
+     * over the dates of all the lookups.
+     * 
+     * {@code :keys} stands for the VALUES rows (brand, product, from, until), expanded by the caller.
+     */
+    String CANDIDATE_PRICES_QUERY =
+            "SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR FROM PRICES " +
+            "JOIN (VALUES :keys) K(KEY_BRAND_ID, KEY_PRODUCT_ID, KEY_FROM, KEY_UNTIL) " +
+            "ON BRAND_ID = K.KEY_BRAND_ID AND PRODUCT_ID = K.KEY_PRODUCT_ID " +
+            "AND START_DATE <= K.KEY_UNTIL AND END_DATE >= K.KEY_FROM";
+
+    /**
+     * Same query on the union of PRICES and PRICES_ARCHIVE ({@link #ALL_PRICES}).
+     * 
+     * @param query Query reading {@code FROM PRICES}
+     * @return Query reading from both tables, with the {@code :archiveDate} parameter
+     */
+    static String includingArchive(String query) {
+        return query.replace(" FROM PRICES ", " FROM " + ALL_PRICES + " ");
+    }
 
     /**
      * Finds the applicable price with the highest priority for the given criteria.
      * 
      * Query strategy:
-     * 1. Filters by productId and brandId
-     * 2. Checks if applicationDate is within the date range
-     * 3. Orders by priority descending (highest first)
-     * 4. Returns only the first result
+     * 1. Seeks the idx_price_lookup index on brandId and productId
+     * 2. Walks the tariffs of the product in priority order (highest first, then lowest ID)
+     * 3. Returns the first one whose date range contains applicationDate
      * 
-     * This ensures efficient execution with proper indexing on PRODUCT_ID, BRAND_ID, and dates.
+     * The index delivers the rows in the requested order, so there is no sort step and the scan
+     * stops at the first match.
      * 
      * @param applicationDate Date and time to check
      * @param productId Product identifier
      * @param brandId Brand identifier
      * @return Optional containing the PriceEntity with highest priority if found
      */
-    @Query("SELECT p FROM PriceEntity p " +
-           "WHERE p.productId = :productId " +
-           "AND p.brandId = :brandId " +
-           "AND :applicationDate BETWEEN p.startDate AND p.endDate " +
-           "ORDER BY p.priority DESC " +
-           "LIMIT 1")
+    @Query(value = APPLICABLE_PRICE_QUERY, nativeQuery = true)
     Optional<PriceEntity> findApplicablePrice(
             @Param("applicationDate") LocalDateTime applicationDate,
             @Param("productId") Long productId,
             @Param("brandId") Long brandId
     );
+
+    /**
+     * Same as {@link #findApplicablePrice}, including the archived tariffs.
+     * 
+     * @param applicationDate Date and time to check
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @param archiveDate Same as applicationDate, the date the archive branch is guarded by
+     * @return Optional containing the PriceEntity with highest priority if found
+     */
+    @Query(value = "SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR " +
+                   "FROM " + ALL_PRICES + " " +
+                   "WHERE BRAND_ID = :brandId " +
+                   "AND PRODUCT_ID = :productId " +
+                   "AND START_DATE <= :applicationDate " +
+                   "AND END_DATE >= :applicationDate " +
+                   "ORDER BY PRIORITY DESC, ID " +
+                   "FETCH FIRST 1 ROWS ONLY",
+           nativeQuery = true)
+    Optional<PriceEntity> findArchivedApplicablePrice(
+            @Param("applicationDate") LocalDateTime applicationDate,
+            @Param("productId") Long productId,
+            @Param("brandId") Long brandId,
+            @Param("archiveDate") LocalDateTime archiveDate
+    );
+
+    /**
+     * Finds all the prices of a product, ordered by start date.
+     * Used to load the timelines of the in-memory indexes.
+     * 
+     * @param brandId Brand identifier
+     * @param productId Product identifier
+     * @return Prices of the product ordered by start date
+     */
+    List<PriceEntity> findByBrandIdAndProductIdOrderByStartDate(Long brandId, Long productId);
+
+    /**
+     * Streams the prices of a product that overlap a date range, ordered by start date.
+     * 
+     * Query strategy:
+     * 1. Seeks the idx_price_lookup index on brandId and productId
+     * 2. Keeps the tariffs whose [startDate, endDate] overlaps [from, to]
+     * 
+     * Rows are fetched from an open cursor as the stream is consumed, so the caller must run
+     * inside a transaction and close the stream.
+     * 
+     * @param brandId Brand identifier
+     * @param productId Product identifier
+     * @param from First instant of the range
+     * @param to Last instant of the range
+     * @return Prices overlapping the range, ordered by start date
+     */
+    @Query("SELECT p FROM PriceEntity p " +
+           "WHERE p.brandId = :brandId " +
+           "AND p.productId = :productId " +
+           "AND p.startDate <= :to " +
+           "AND p.endDate >= :from " +
+           "ORDER BY p.startDate")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<PriceEntity> streamOverlappingPrices(
+            @Param("brandId") Long brandId,
+            @Param("productId") Long productId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Same as {@link #streamOverlappingPrices}, including the archived tariffs.
+     * 
+     * @param brandId Brand identifier
+     * @param productId Product identifier
+     * @param from First instant of the range
+     * @param to Last instant of the range
+     * @param archiveDate Same as from, the date the archive branch is guarded by
+     * @return Prices overlapping the range, ordered by start date
+     */
+    @Query(value = "SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR " +
+                   "FROM " + ALL_PRICES + " " +
+                   "WHERE BRAND_ID = :brandId " +
+                   "AND PRODUCT_ID = :productId " +
+                   "AND START_DATE <= :to " +
+                   "AND END_DATE >= :from " +
+                   "ORDER BY START_DATE",
+           nativeQuery = true)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<PriceEntity> streamArchivedOverlappingPrices(
+            @Param("brandId") Long brandId,
+            @Param("productId") Long productId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("archiveDate") LocalDateTime archiveDate
+    );
 }
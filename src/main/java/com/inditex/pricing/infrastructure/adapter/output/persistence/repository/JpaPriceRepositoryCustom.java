@@ -0,0 +1,35 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence.repository;
+
+import com.inditex.pricing.infrastructure.adapter.output.persistence.entity.PriceEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Queries of {@link JpaPriceRepository} whose SQL depends on the number of arguments, implemented
+ * with the EntityManager in {@link JpaPriceRepositoryCustomImpl}.
+ */
+public interface JpaPriceRepositoryCustom {
+
+    /**
+     * Finds every price that may apply to a set of lookups in a single query.
+     * 
+     * Query strategy:
+     * 1. Joins PRICES to the list of requested products, seeking the idx_price_lookup index once per product
+     * 2. Keeps only the prices overlapping the date range of their own product
+     * 
+     * The result is a superset of the applicable prices; the caller resolves each lookup in memory.
+     * 
+     * @param ranges Products of the lookups with their date ranges, one per product
+     * @return Candidate prices
+     */
+    List<PriceEntity> findCandidatePrices(Collection<PriceKeyRange> ranges);
+
+    /**
+     * Same as {@link #findCandidatePrices}, including the archived tariffs.
+     * 
+     * @param ranges Products of the lookups with their date ranges, one per product
+     * @return Candidate prices
+     */
+    List<PriceEntity> findArchivedCandidatePrices(Collection<PriceKeyRange> ranges);
+}
@@ -0,0 +1,68 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence.repository;
+
+import com.inditex.pricing.infrastructure.adapter.output.persistence.entity.PriceEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementation of {@link JpaPriceRepositoryCustom}, found by Spring Data by its name.
+ * 
+ * Native queries cannot bind a list of rows, so the VALUES list of
+ * {@link JpaPriceRepository#CANDIDATE_PRICES_QUERY} is expanded with one set of named parameters per product.
+ */
+class JpaPriceRepositoryCustomImpl implements JpaPriceRepositoryCustom {
+
+    private static final String ARCHIVED_CANDIDATE_PRICES_QUERY =
+            JpaPriceRepository.includingArchive(JpaPriceRepository.CANDIDATE_PRICES_QUERY);
+
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param entityManager Shared EntityManager of the pricing database
+     */
+    JpaPriceRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PriceEntity> findCandidatePrices(Collection<PriceKeyRange> ranges) {
+        return candidates(JpaPriceRepository.CANDIDATE_PRICES_QUERY, ranges).getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PriceEntity> findArchivedCandidatePrices(Collection<PriceKeyRange> ranges) {
+        LocalDateTime archiveDate = LocalDateTime.MAX;
+        for (PriceKeyRange range : ranges) {
+            archiveDate = range.getFrom().isBefore(archiveDate) ? range.getFrom() : archiveDate;
+        }
+        return candidates(ARCHIVED_CANDIDATE_PRICES_QUERY, ranges)
+                .setParameter("archiveDate", archiveDate)
+                .getResultList();
+    }
+
+    private Query candidates(String sql, Collection<PriceKeyRange> ranges) {
+        List<String> rows = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            rows.add("(:brandId" + i + ", :productId" + i + ", :from" + i + ", :until" + i + ")");
+        }
+        Query query = entityManager.createNativeQuery(sql.replace(":keys", String.join(", ", rows)), PriceEntity.class);
+        int i = 0;
+        for (PriceKeyRange range : ranges) {
+            query.setParameter("brandId" + i, range.getBrandId())
+                    .setParameter("productId" + i, range.getProductId())
+                    .setParameter("from" + i, range.getFrom())
+                    .setParameter("until" + i, range.getUntil());
+            i++;
+        }
+        return query;
+    }
+}
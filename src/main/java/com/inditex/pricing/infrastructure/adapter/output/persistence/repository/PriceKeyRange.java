@@ -0,0 +1,46 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Product of a batch of lookups with the date range its tariffs are read over.
+ * One row of the VALUES list joined by {@link JpaPriceRepository#CANDIDATE_PRICES_QUERY}.
+ */
+public final class PriceKeyRange {
+
+    private final Long brandId;
+    private final Long productId;
+    private final LocalDateTime from;
+    private final LocalDateTime until;
+
+    /**
+     * Constructor for PriceKeyRange.
+     * 
+     * @param brandId Brand identifier
+     * @param productId Product identifier
+     * @param from First instant of the range
+     * @param until Last instant of the range
+     */
+    public PriceKeyRange(Long brandId, Long productId, LocalDateTime from, LocalDateTime until) {
+        this.brandId = brandId;
+        this.productId = productId;
+        this.from = from;
+        this.until = until;
+    }
+
+    public Long getBrandId() {
+        return brandId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getUntil() {
+        return until;
+    }
+}
@@ -0,0 +1,70 @@
+package com.inditex.pricing.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource with a {@link ReadReplicaRoutingDataSource} when read replicas are enabled.
+ * 
+ * The primary pool is built from {@code spring.datasource.*} and each replica pool from
+ * {@code pricing.read-replicas.replicas[*]}; every pool publishes the {@code hikaricp.*} metrics
+ * under its own pool name ({@code primary}, {@code replica-1}, ...). Replica pools start without
+ * waiting for their database, so an unavailable replica is ejected instead of failing the startup.
+ * 
+ * Enabled with {@code pricing.read-replicas.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "pricing.read-replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaDataSourceConfiguration {
+
+    /**
+     * Routing DataSource over the primary and the replica pools.
+     * 
+     * @param dataSourceProperties Connection settings of the primary
+     * @param properties Replica settings
+     * @param meterRegistry Registry where the pool metrics are published
+     * @return ReadReplicaRoutingDataSource used by JPA, JdbcTemplate and the SQL initialization
+     */
+    @Bean
+    public ReadReplicaRoutingDataSource dataSource(DataSourceProperties dataSourceProperties,
+                                                   ReadReplicaProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getReplicas().isEmpty()) {
+            throw new IllegalStateException("pricing.read-replicas.enabled requires at least one replica");
+        }
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName(ReplicaPoolDataSource.PRIMARY);
+        primary.setMetricsTrackerFactory(metrics);
+
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (ReadReplicaProperties.Replica replica : properties.getReplicas()) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + (pools.size() + 1));
+            config.setJdbcUrl(replica.getUrl());
+            config.setUsername(replica.getUsername());
+            config.setPassword(replica.getPassword());
+            config.setMaximumPoolSize(replica.getMaximumPoolSize());
+            config.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+            config.setReadOnly(true);
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(metrics);
+            pools.add(new HikariDataSource(config));
+        }
+        return new ReadReplicaRoutingDataSource(primary,
+                new ReplicaPoolDataSource(pools, primary, properties, meterRegistry));
+    }
+}
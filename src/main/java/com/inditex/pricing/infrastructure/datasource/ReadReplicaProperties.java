@@ -0,0 +1,128 @@
+package com.inditex.pricing.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of the read replicas, bound from {@code pricing.read-replicas.*}.
+ * 
+ * Read-only transactions are served by one of the replicas, chosen with the given strategy;
+ * a replica that fails to give a connection, or gives it slower than {@code slowThreshold},
+ * is left out for {@code ejectionTime}.
+ */
+@ConfigurationProperties(prefix = "pricing.read-replicas")
+public class ReadReplicaProperties {
+
+    /**
+     * How a replica is chosen for each read-only connection.
+     */
+    public enum Strategy {
+        /** Replicas in turn. */
+        ROUND_ROBIN,
+        /** Replica with the fewest connections in use. */
+        LEAST_LOADED
+    }
+
+    private boolean enabled;
+    private Strategy strategy = Strategy.ROUND_ROBIN;
+    private Duration slowThreshold = Duration.ofMillis(200);
+    private Duration ejectionTime = Duration.ofSeconds(30);
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Connection settings of one replica.
+     */
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+
+        // Getters and Setters
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+
+        public Duration getConnectionTimeout() {
+            return connectionTimeout;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+        }
+    }
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
+    public Duration getEjectionTime() {
+        return ejectionTime;
+    }
+
+    public void setEjectionTime(Duration ejectionTime) {
+        this.ejectionTime = ejectionTime;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+}
@@ -0,0 +1,36 @@
+package com.inditex.pricing.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.io.Closeable;
+
+/**
+ * DataSource that sends read-only transactions to the read replicas and everything else to the primary.
+ * 
+ * Connections are only fetched on the first statement, once the transaction has marked them
+ * read-only, so the JPA and JDBC transaction managers pick the pool without any routing code in the
+ * adapters: lookups run in read-only transactions, while writes, the import, the outbox poller and
+ * connections outside a transaction use the primary.
+ */
+public class ReadReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final HikariDataSource primary;
+    private final ReplicaPoolDataSource replicas;
+
+    ReadReplicaRoutingDataSource(HikariDataSource primary, ReplicaPoolDataSource replicas) {
+        super(primary);
+        setReadOnlyDataSource(replicas);
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    /**
+     * Closes the replica pools and the primary pool.
+     */
+    @Override
+    public void close() {
+        replicas.close();
+        primary.close();
+    }
+}
@@ -0,0 +1,169 @@
+package com.inditex.pricing.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource that hands out connections of a pool of read replicas.
+ * 
+ * Each connection comes from the replica chosen by the {@link ReadReplicaProperties.Strategy}.
+ * A replica that throws when asked for a connection, or takes longer than the slow threshold to
+ * give one (a saturated or lagging replica), is ejected for the ejection time and the next replica
+ * is tried. When every replica is ejected the primary serves the read.
+ * 
+ * Publishes {@code pricing.datasource.reads} (connections handed out, tag {@code pool}) and
+ * {@code pricing.datasource.ejections} (tags {@code pool} and {@code reason=error|slow}).
+ */
+class ReplicaPoolDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPoolDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final DataSource primary;
+    private final ReadReplicaProperties.Strategy strategy;
+    private final long slowThresholdNanos;
+    private final long ejectionNanos;
+    private final Counter primaryReads;
+    private final AtomicInteger next = new AtomicInteger();
+
+    ReplicaPoolDataSource(List<HikariDataSource> pools, DataSource primary, ReadReplicaProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.replicas = pools.stream().map(pool -> new Replica(pool, meterRegistry)).toList();
+        this.primary = primary;
+        this.strategy = properties.getStrategy();
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.ejectionNanos = properties.getEjectionTime().toNanos();
+        this.primaryReads = readCounter(meterRegistry, PRIMARY);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int count = replicas.size();
+        int first = Math.floorMod(next.getAndIncrement(), count);
+        if (strategy == ReadReplicaProperties.Strategy.LEAST_LOADED) {
+            first = leastLoaded(first);
+        }
+        for (int i = 0; i < count; i++) {
+            Connection connection = replicas.get((first + i) % count).tryConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials");
+    }
+
+    void close() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    /**
+     * Available replica with the fewest active connections, scanning from the round-robin position to break ties.
+     */
+    private int leastLoaded(int first) {
+        long now = System.nanoTime();
+        int best = first;
+        int bestActive = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (first + i) % replicas.size();
+            Replica replica = replicas.get(index);
+            int active = replica.activeConnections();
+            if (!replica.isEjected(now) && active < bestActive) {
+                best = index;
+                bestActive = active;
+            }
+        }
+        return best;
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String pool) {
+        return Counter.builder("pricing.datasource.reads")
+                .description("Read-only connections handed out per pool")
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+
+    /**
+     * One replica pool and its ejection state.
+     */
+    private final class Replica {
+
+        private final HikariDataSource pool;
+        private final Counter reads;
+        private final Counter errorEjections;
+        private final Counter slowEjections;
+
+        private volatile boolean ejected;
+        private volatile long ejectedUntil;
+
+        Replica(HikariDataSource pool, MeterRegistry meterRegistry) {
+            this.pool = pool;
+            this.reads = readCounter(meterRegistry, pool.getPoolName());
+            this.errorEjections = ejectionCounter(meterRegistry, "error");
+            this.slowEjections = ejectionCounter(meterRegistry, "slow");
+        }
+
+        Connection tryConnection() {
+            long start = System.nanoTime();
+            if (isEjected(start)) {
+                return null;
+            }
+            Connection connection;
+            try {
+                connection = pool.getConnection();
+            } catch (SQLException ex) {
+                eject(start, errorEjections, ex.getMessage());
+                return null;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (elapsed > slowThresholdNanos) {
+                eject(start, slowEjections, "connection took " + elapsed / 1_000_000 + " ms");
+            }
+            reads.increment();
+            return connection;
+        }
+
+        boolean isEjected(long now) {
+            return ejected && ejectedUntil - now > 0;
+        }
+
+        int activeConnections() {
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            return bean == null ? 0 : bean.getActiveConnections();
+        }
+
+        private void eject(long now, Counter ejections, String reason) {
+            ejectedUntil = now + ejectionNanos;
+            ejected = true;
+            ejections.increment();
+            log.warn("Ejected read replica {} for {} ms: {}", pool.getPoolName(), ejectionNanos / 1_000_000, reason);
+        }
+
+        private Counter ejectionCounter(MeterRegistry meterRegistry, String reason) {
+            return Counter.builder("pricing.datasource.ejections")
+                    .description("Read replicas left out after a failed or slow connection")
+                    .tag("pool", pool.getPoolName())
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+}
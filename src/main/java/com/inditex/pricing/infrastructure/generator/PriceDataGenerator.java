@@ -0,0 +1,84 @@
+package com.inditex.pricing.infrastructure.generator;
+
+import com.inditex.pricing.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic generator of a synthetic PRICES catalogue.
+ * 
+ * The same settings and seed always produce the same rows in the same order, so tests,
+ * benchmarks and local load tests can reproduce production-scale data. Rows are streamed
+ * to a consumer one at a time and never held in memory as a whole.
+ */
+public class PriceDataGenerator {
+
+    private final PriceDataGeneratorProperties properties;
+    private final int[] cumulativePriorityWeights;
+
+    /**
+     * Constructor for PriceDataGenerator.
+     * 
+     * @param properties Catalogue settings
+     */
+    public PriceDataGenerator(PriceDataGeneratorProperties properties) {
+        this.properties = properties;
+        List<Integer> weights = properties.getPromotionPriorityWeights();
+        this.cumulativePriorityWeights = new int[weights.size()];
+        int total = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            total += weights.get(i);
+            cumulativePriorityWeights[i] = total;
+        }
+    }
+
+    /**
+     * Generates the catalogue, ordered by product and then by tariff.
+     * Generated prices carry no identifier; it is assigned by the database.
+     * 
+     * @param sink Consumer receiving every generated price
+     */
+    public void generate(Consumer<Price> sink) {
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        LocalDateTime seasonStart = properties.getSeasonStart();
+        LocalDateTime seasonEnd = seasonStart.plusDays(properties.getSeasonDays()).minusSeconds(1);
+        int seasonHours = properties.getSeasonDays() * 24;
+        int promotionHoursRange = properties.getMaxPromotionHours() - properties.getMinPromotionHours() + 1;
+
+        for (int product = 0; product < properties.getProductsPerBrand(); product++) {
+            long productId = properties.getFirstProductId() + product;
+            for (long brandId = 1; brandId <= properties.getBrands(); brandId++) {
+                sink.accept(new Price(null, brandId, seasonStart, seasonEnd, 1L, productId, 0,
+                        randomAmount(random), properties.getCurrency()));
+
+                for (int tariff = 1; tariff < properties.getTariffsPerProduct(); tariff++) {
+                    LocalDateTime start = seasonStart.plusHours(random.nextInt(seasonHours));
+                    LocalDateTime end = start
+                            .plusHours(properties.getMinPromotionHours() + random.nextInt(promotionHoursRange))
+                            .minusSeconds(1);
+                    sink.accept(new Price(null, brandId, start, end, tariff + 1L, productId,
+                            randomPriority(random), randomAmount(random), properties.getCurrency()));
+                }
+            }
+        }
+    }
+
+    private int randomPriority(SplittableRandom random) {
+        int total = cumulativePriorityWeights[cumulativePriorityWeights.length - 1];
+        int draw = random.nextInt(total);
+        for (int i = 0; i < cumulativePriorityWeights.length; i++) {
+            if (draw < cumulativePriorityWeights[i]) {
+                return i + 1;
+            }
+        }
+        return cumulativePriorityWeights.length;
+    }
+
+    private static BigDecimal randomAmount(SplittableRandom random) {
+        return BigDecimal.valueOf(500 + random.nextInt(19_500), 2);
+    }
+}
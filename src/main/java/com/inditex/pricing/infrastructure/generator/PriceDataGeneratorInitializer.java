@@ -0,0 +1,57 @@
+package com.inditex.pricing.infrastructure.generator;
+
+import com.inditex.pricing.infrastructure.adapter.output.persistence.JdbcPriceBatchWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Populates PRICES with a synthetic catalogue when the {@code generator} profile is active.
+ * 
+ * Registered as a database initializer through {@link PriceDataGeneratorInitializerDetector}, so it
+ * runs after schema.sql/data.sql and before any bean that reads the database (JPA, JdbcTemplate,
+ * in-memory indexes) is created. Rows are written with JDBC batch inserts, not spring.sql.init.
+ * 
+ * Example: mvn spring-boot:run -Dspring-boot.run.profiles=generator
+ *          -Dspring-boot.run.arguments=--pricing.generator.products-per-brand=250000
+ */
+@Component
+@Profile("generator")
+@EnableConfigurationProperties(PriceDataGeneratorProperties.class)
+public class PriceDataGeneratorInitializer implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceDataGeneratorInitializer.class);
+
+    private final DataSource dataSource;
+    private final PriceDataGeneratorProperties properties;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param dataSource Target database; a JdbcTemplate bean cannot be used here since it
+     *                   depends on database initialization itself
+     * @param properties Catalogue settings
+     */
+    public PriceDataGeneratorInitializer(DataSource dataSource, PriceDataGeneratorProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        long start = System.nanoTime();
+        JdbcPriceBatchWriter writer = new JdbcPriceBatchWriter(new JdbcTemplate(dataSource), properties.getBatchSize());
+        new PriceDataGenerator(properties).generate(writer::add);
+        writer.flush();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("Generated {} synthetic prices in {} s ({} rows/s)",
+                writer.getWritten(), String.format("%.1f", seconds), Math.round(writer.getWritten() / seconds));
+    }
+}
@@ -0,0 +1,27 @@
+package com.inditex.pricing.infrastructure.generator;
+
+import org.springframework.boot.sql.init.dependency.AbstractBeansOfTypeDatabaseInitializerDetector;
+import org.springframework.core.Ordered;
+
+import java.util.Set;
+
+/**
+ * Declares {@link PriceDataGeneratorInitializer} as a database initializer, ordered after the
+ * SQL script initializer so the schema exists when the catalogue is generated.
+ * 
+ * Registered in META-INF/spring.factories.
+ */
+public class PriceDataGeneratorInitializerDetector extends AbstractBeansOfTypeDatabaseInitializerDetector {
+
+    private static final int PRECEDENCE = Ordered.LOWEST_PRECEDENCE - 50;
+
+    @Override
+    protected Set<Class<?>> getDatabaseInitializerBeanTypes() {
+        return Set.of(PriceDataGeneratorInitializer.class);
+    }
+
+    @Override
+    public int getOrder() {
+        return PRECEDENCE;
+    }
+}
@@ -0,0 +1,152 @@
+package com.inditex.pricing.infrastructure.generator;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Settings of the synthetic PRICES catalogue, bound from {@code pricing.generator.*}.
+ * 
+ * The catalogue has {@code brands * productsPerBrand} products, each with {@code tariffsPerProduct}
+ * overlapping tariffs: a base tariff covering the whole season with priority 0, plus promotions
+ * whose priorities follow {@code promotionPriorityWeights} (weight of priority 1, 2, ...).
+ */
+@ConfigurationProperties(prefix = "pricing.generator")
+public class PriceDataGeneratorProperties {
+
+    private long seed = 42L;
+    private int brands = 4;
+    private int productsPerBrand = 25_000;
+    private long firstProductId = 100_000L;
+    private int tariffsPerProduct = 4;
+    private List<Integer> promotionPriorityWeights = List.of(70, 20, 10);
+    private LocalDateTime seasonStart = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private int seasonDays = 180;
+    private int minPromotionHours = 1;
+    private int maxPromotionHours = 168;
+    private String currency = "EUR";
+    private int batchSize = 5_000;
+
+    /**
+     * Settings producing approximately the given number of rows.
+     * 
+     * @param rows Total number of tariffs
+     * @param tariffsPerProduct Overlapping tariffs per product
+     * @param seed Random seed
+     * @return PriceDataGeneratorProperties with the remaining settings at their defaults
+     */
+    public static PriceDataGeneratorProperties forRows(int rows, int tariffsPerProduct, long seed) {
+        PriceDataGeneratorProperties properties = new PriceDataGeneratorProperties();
+        properties.setSeed(seed);
+        properties.setTariffsPerProduct(tariffsPerProduct);
+        properties.setProductsPerBrand(Math.max(1, rows / (properties.getBrands() * tariffsPerProduct)));
+        return properties;
+    }
+
+    /**
+     * Total number of rows the generator will produce.
+     * 
+     * @return brands * productsPerBrand * tariffsPerProduct
+     */
+    public long getRowCount() {
+        return (long) brands * productsPerBrand * tariffsPerProduct;
+    }
+
+    // Getters and Setters
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getBrands() {
+        return brands;
+    }
+
+    public void setBrands(int brands) {
+        this.brands = brands;
+    }
+
+    public int getProductsPerBrand() {
+        return productsPerBrand;
+    }
+
+    public void setProductsPerBrand(int productsPerBrand) {
+        this.productsPerBrand = productsPerBrand;
+    }
+
+    public long getFirstProductId() {
+        return firstProductId;
+    }
+
+    public void setFirstProductId(long firstProductId) {
+        this.firstProductId = firstProductId;
+    }
+
+    public int getTariffsPerProduct() {
+        return tariffsPerProduct;
+    }
+
+    public void setTariffsPerProduct(int tariffsPerProduct) {
+        this.tariffsPerProduct = tariffsPerProduct;
+    }
+
+    public List<Integer> getPromotionPriorityWeights() {
+        return promotionPriorityWeights;
+    }
+
+    public void setPromotionPriorityWeights(List<Integer> promotionPriorityWeights) {
+        this.promotionPriorityWeights = promotionPriorityWeights;
+    }
+
+    public LocalDateTime getSeasonStart() {
+        return seasonStart;
+    }
+
+    public void setSeasonStart(LocalDateTime seasonStart) {
+        this.seasonStart = seasonStart;
+    }
+
+    public int getSeasonDays() {
+        return seasonDays;
+    }
+
+    public void setSeasonDays(int seasonDays) {
+        this.seasonDays = seasonDays;
+    }
+
+    public int getMinPromotionHours() {
+        return minPromotionHours;
+    }
+
+    public void setMinPromotionHours(int minPromotionHours) {
+        this.minPromotionHours = minPromotionHours;
+    }
+
+    public int getMaxPromotionHours() {
+        return maxPromotionHours;
+    }
+
+    public void setMaxPromotionHours(int maxPromotionHours) {
+        this.maxPromotionHours = maxPromotionHours;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -1,6 +1,11 @@
 -- Schema definition for PRICES table
 -- This script creates the database structure for the pricing service
 
+DROP TABLE IF EXISTS PRICE_IMPORTS;
+DROP TABLE IF EXISTS PRICE_CHANGES;
+DROP TABLE IF EXISTS EFFECTIVE_PRICES;
+DROP TABLE IF EXISTS PRICE_ARCHIVE_HORIZON;
+DROP TABLE IF EXISTS PRICES_ARCHIVE;
 DROP TABLE IF EXISTS PRICES;
 
 CREATE TABLE PRICES (
@@ -15,8 +20,86 @@ CREATE TABLE PRICES (
     CURR VARCHAR(3) NOT NULL
 );
 
--- Create indexes for efficient querying
--- These indexes optimize the main query (by productId, brandId, and date range)
-CREATE INDEX idx_product_brand ON PRICES(PRODUCT_ID, BRAND_ID);
-CREATE INDEX idx_dates ON PRICES(START_DATE, END_DATE);
-CREATE INDEX idx_priority ON PRICES(PRIORITY);
+-- Covering index for the applicable price lookup
+-- BRAND_ID, PRODUCT_ID: equality seek to the tariffs of one product
+-- PRIORITY DESC, ID: rows come out in resolution order, so no sort is needed and the scan
+--                    stops at the first tariff whose dates match
+-- START_DATE, END_DATE and payload columns: the row can be evaluated and returned from the index
+CREATE INDEX idx_price_lookup ON PRICES(BRAND_ID, PRODUCT_ID, PRIORITY DESC, ID,
+                                        START_DATE, END_DATE, PRICE_LIST, PRICE, CURR);
+
+-- Key of a tariff for the import and the archive MERGE: a second tariff with the same key replaces the first
+CREATE UNIQUE INDEX idx_price_key ON PRICES(BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE);
+
+-- Archive of expired tariffs (see PriceArchive)
+-- Tariffs that ended before the retention horizon are moved here from PRICES, keeping their ID,
+-- so that the hot table and its lookup index only hold current and recent tariffs.
+-- Lookups read both tables, the archive only before the horizon; this index serves them as idx_price_lookup does.
+CREATE TABLE PRICES_ARCHIVE (
+    ID BIGINT PRIMARY KEY,
+    BRAND_ID BIGINT NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE_LIST BIGINT NOT NULL,
+    PRODUCT_ID BIGINT NOT NULL,
+    PRIORITY INTEGER NOT NULL,
+    PRICE DECIMAL(10, 2) NOT NULL,
+    CURR VARCHAR(3) NOT NULL
+);
+
+CREATE INDEX idx_price_archive_lookup ON PRICES_ARCHIVE(BRAND_ID, PRODUCT_ID, PRIORITY DESC, ID,
+                                                        START_DATE, END_DATE, PRICE_LIST, PRICE, CURR);
+
+CREATE UNIQUE INDEX idx_price_archive_key ON PRICES_ARCHIVE(BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE);
+
+-- Archive horizon shared by every instance (single row)
+-- Every archived tariff ended before it. The archive job advances it in its own transaction before
+-- moving any tariff, and the lookups read it in the same statement as the tariffs.
+CREATE TABLE PRICE_ARCHIVE_HORIZON (
+    ID INTEGER PRIMARY KEY,
+    HORIZON TIMESTAMP NOT NULL
+);
+
+INSERT INTO PRICE_ARCHIVE_HORIZON (ID, HORIZON) VALUES (1, TIMESTAMP '1970-01-01 00:00:00');
+
+-- Effective price timeline (materialized view of PRICES)
+-- Overlapping tariffs are flattened into non-overlapping segments with the winning priority
+-- already resolved, so a lookup reads a single row. VALID_UNTIL is exclusive.
+CREATE TABLE EFFECTIVE_PRICES (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    BRAND_ID BIGINT NOT NULL,
+    PRODUCT_ID BIGINT NOT NULL,
+    VALID_FROM TIMESTAMP(9) NOT NULL,
+    VALID_UNTIL TIMESTAMP(9) NOT NULL,
+    PRICE_ID BIGINT NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE_LIST BIGINT NOT NULL,
+    PRIORITY INTEGER NOT NULL,
+    PRICE DECIMAL(10, 2) NOT NULL,
+    CURR VARCHAR(3) NOT NULL
+);
+
+-- Point lookups seek the latest segment starting at or before the application date
+CREATE UNIQUE INDEX idx_effective_lookup ON EFFECTIVE_PRICES(BRAND_ID, PRODUCT_ID, VALID_FROM DESC);
+
+-- Outbox of changes to PRICES
+-- Writers insert one row per changed (BRAND_ID, PRODUCT_ID) in the same transaction as the change;
+-- the service polls it by CHANGE_ID to refresh its in-memory state (snapshot, caches, filters)
+CREATE TABLE PRICE_CHANGES (
+    CHANGE_ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    BRAND_ID BIGINT NOT NULL,
+    PRODUCT_ID BIGINT NOT NULL,
+    CHANGED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+-- CHANGE_IDs are assigned at insert, not at commit: the changes written shortly before the one a tariff
+-- file was exported up to may have been committed after the export, so they are replayed by CHANGED_AT
+CREATE INDEX idx_price_changes_changed_at ON PRICE_CHANGES(CHANGED_AT);
+
+-- Checkpoints of the tariff imports: rows of each import committed so far, to resume it after a failure
+CREATE TABLE PRICE_IMPORTS (
+    IMPORT_ID VARCHAR(100) PRIMARY KEY,
+    COMMITTED_ROWS BIGINT NOT NULL,
+    UPDATED_AT TIMESTAMP NOT NULL
+);
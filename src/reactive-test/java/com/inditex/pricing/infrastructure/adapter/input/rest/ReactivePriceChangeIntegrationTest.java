@@ -0,0 +1,82 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.inditex.pricing.ReactivePricingApplication;
+import com.inditex.pricing.infrastructure.adapter.output.r2dbc.R2dbcPriceChangePoller;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Integration test for a price change on the reactive (WebFlux + R2DBC) application: a tariff written
+ * with its PRICE_CHANGES row must replace the cached price once the outbox is polled.
+ * 
+ * Uses its own database, and polls the outbox from the test instead of on schedule.
+ */
+@SpringBootTest(classes = ReactivePricingApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.main.web-application-type=reactive",
+                "spring.r2dbc.url=r2dbc:h2:mem:///reactivechangesdb?options=DB_CLOSE_DELAY=-1",
+                "pricing.changes.poll-interval=PT1H"
+        })
+@ActiveProfiles({"test", "reactive"})
+class ReactivePriceChangeIntegrationTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private R2dbcPriceChangePoller poller;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api/prices";
+    }
+
+    @Test
+    @DisplayName("Test: Price change - Should serve the new tariff once the outbox is polled")
+    void testPriceChangeInvalidatesCachedPrice() {
+        assertPriceAt10AmOn14th(1, 35.50f);
+
+        databaseClient.sql("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) "
+                        + "VALUES (1, '2020-06-14 00:00:00', '2020-06-14 23:59:59', 9, 35455, 5, 19.99, 'EUR')")
+                .fetch().rowsUpdated().block();
+        databaseClient.sql("INSERT INTO PRICE_CHANGES (BRAND_ID, PRODUCT_ID) VALUES (1, 35455)")
+                .fetch().rowsUpdated().block();
+
+        assertPriceAt10AmOn14th(1, 35.50f);
+
+        poller.poll();
+
+        assertPriceAt10AmOn14th(9, 19.99f);
+    }
+
+    private void assertPriceAt10AmOn14th(int priceList, float price) {
+        given()
+            .queryParam("applicationDate", "2020-06-14T10:00:00")
+            .queryParam("productId", PRODUCT_ID)
+            .queryParam("brandId", BRAND_ID)
+        .when()
+            .get()
+        .then()
+            .statusCode(200)
+            .body("priceList", equalTo(priceList))
+            .body("price", equalTo(price));
+    }
+}
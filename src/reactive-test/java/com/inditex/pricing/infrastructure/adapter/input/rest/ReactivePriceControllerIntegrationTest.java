@@ -0,0 +1,28 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.inditex.pricing.ReactivePricingApplication;
+import com.inditex.pricing.domain.port.output.ReactivePriceRepositoryPort;
+import com.inditex.pricing.infrastructure.adapter.output.r2dbc.R2dbcPriceRepositoryAdapter;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs the Price REST API integration scenarios against the reactive (WebFlux + R2DBC) application,
+ * verifying it returns the same results and status codes as the servlet application.
+ */
+@SpringBootTest(classes = ReactivePricingApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles({"test", "reactive"})
+class ReactivePriceControllerIntegrationTest extends PriceControllerIntegrationTest {
+
+    @Override
+    protected Class<?> repositoryPort() {
+        return ReactivePriceRepositoryPort.class;
+    }
+
+    @Override
+    protected Class<?> expectedRepository() {
+        return R2dbcPriceRepositoryAdapter.class;
+    }
+}
@@ -0,0 +1,78 @@
+package com.inditex.pricing;
+
+import com.inditex.pricing.application.service.ReactivePriceService;
+import com.inditex.pricing.infrastructure.adapter.input.reactive.ReactiveExceptionHandler;
+import com.inditex.pricing.infrastructure.adapter.input.reactive.ReactivePriceController;
+import com.inditex.pricing.infrastructure.adapter.input.rest.exception.GlobalExceptionHandler;
+import com.inditex.pricing.infrastructure.adapter.input.rest.mapper.PriceResponseMapper;
+import com.inditex.pricing.infrastructure.adapter.output.cache.CaffeinePriceCacheAdapter;
+import com.inditex.pricing.infrastructure.adapter.output.r2dbc.R2dbcPriceChangePoller;
+import com.inditex.pricing.infrastructure.adapter.output.r2dbc.R2dbcPriceRepositoryAdapter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+/**
+ * Main application class for the reactive (WebFlux + R2DBC) variant of the Pricing Service.
+ * 
+ * Serves the same /api/prices endpoint on Netty with the reactive adapter set, sharing the
+ * domain model, the cache adapter, the response mapper and the error handling with the servlet
+ * application. Beans are imported explicitly instead of scanned, so none of the blocking JPA
+ * adapters are created; the class is ignored when scanned from the servlet application. The cache is
+ * invalidated from the PRICE_CHANGES outbox by {@link R2dbcPriceChangePoller}, as in the servlet application.
+ * 
+ * Built and run with the {@code reactive} Maven profile: mvn -Preactive spring-boot:run
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableAutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableScheduling
+@Import({
+        ReactivePriceController.class,
+        ReactiveExceptionHandler.class,
+        GlobalExceptionHandler.class,
+        PriceResponseMapper.class,
+        ReactivePriceService.class,
+        R2dbcPriceRepositoryAdapter.class,
+        CaffeinePriceCacheAdapter.class,
+        R2dbcPriceChangePoller.class
+})
+public class ReactivePricingApplication {
+
+    /**
+     * Clock of the system default zone, in which the tariff dates are expressed.
+     * Injected wherever the current date matters, so that tests can replace it.
+     * 
+     * @return System clock
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    /**
+     * Serves on Netty's event loops. Without it the reactive application would run on the
+     * Tomcat reactive adapter, since Tomcat is also on the classpath for the servlet application.
+     * 
+     * @return Netty server factory
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactivePricingApplication.class);
+        application.setWebApplicationType(WebApplicationType.REACTIVE);
+        application.setAdditionalProfiles("reactive");
+        application.run(args);
+    }
+}
@@ -0,0 +1,69 @@
+package com.inditex.pricing.application.service;
+
+import com.inditex.pricing.domain.exception.PriceNotFoundException;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.port.input.GetPriceReactiveUseCase;
+import com.inditex.pricing.domain.port.output.PriceCachePort;
+import com.inditex.pricing.domain.port.output.ReactivePriceRepositoryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Application service that implements the GetPriceReactiveUseCase.
+ * Same rules as {@link PriceService}, composed as a non-blocking pipeline.
+ * 
+ * The resolved price cache is shared with the servlet variant: it is in memory and never blocks.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePriceService implements GetPriceReactiveUseCase {
+
+    private final ReactivePriceRepositoryPort priceRepositoryPort;
+    private final PriceCachePort priceCachePort;
+
+    /**
+     * Constructor injection for dependency inversion.
+     * Depends on abstractions (ports), not concrete implementations.
+     * 
+     * @param priceRepositoryPort Port for reactive price persistence operations
+     * @param priceCachePort Port for the resolved price cache, absent when caching is disabled
+     */
+    public ReactivePriceService(ReactivePriceRepositoryPort priceRepositoryPort,
+                                Optional<PriceCachePort> priceCachePort) {
+        this.priceRepositoryPort = priceRepositoryPort;
+        this.priceCachePort = priceCachePort.orElse(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Business logic: Query the repository for the applicable price.
+     * When caching is enabled, the price is resolved with its validity period and reused
+     * for every application date inside that period; periods without price are cached too.
+     */
+    @Override
+    public Mono<Price> getApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        Mono<Price> price = priceCachePort == null
+                ? priceRepositoryPort.findApplicablePrice(applicationDate, productId, brandId)
+                : findCachedPrice(new PriceKey(brandId, productId), applicationDate);
+        return price.switchIfEmpty(Mono.error(() -> new PriceNotFoundException(productId, brandId, applicationDate)));
+    }
+
+    private Mono<Price> findCachedPrice(PriceKey key, LocalDateTime applicationDate) {
+        Optional<PriceSegment> cached = priceCachePort.get(key, applicationDate);
+        Mono<PriceSegment> segment = cached.isPresent()
+                ? Mono.just(cached.get())
+                : Mono.defer(() -> {
+                    long generation = priceCachePort.generation(key);
+                    return priceRepositoryPort.findSegment(applicationDate, key.getProductId(), key.getBrandId())
+                            .doOnNext(resolved -> priceCachePort.put(key, resolved, generation));
+                });
+        return segment.mapNotNull(PriceSegment::getPrice);
+    }
+}
@@ -0,0 +1,27 @@
+package com.inditex.pricing.domain.port.input;
+
+import com.inditex.pricing.domain.model.Price;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive input port (use case interface) for querying prices.
+ * Non-blocking counterpart of {@link GetPriceUseCase}.
+ * 
+ * Part of hexagonal architecture - defines the API for the domain.
+ */
+public interface GetPriceReactiveUseCase {
+
+    /**
+     * Retrieves the applicable price for a product at a specific date.
+     * When multiple prices overlap, the one with highest priority is returned.
+     * 
+     * @param applicationDate Date and time to apply the price query
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @return Mono emitting the applicable Price, or failing with
+     *         {@link com.inditex.pricing.domain.exception.PriceNotFoundException} if no price is found
+     */
+    Mono<Price> getApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId);
+}
@@ -0,0 +1,36 @@
+package com.inditex.pricing.domain.port.output;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceSegment;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive output port for price persistence operations.
+ * Non-blocking counterpart of {@link PriceRepositoryPort}.
+ * 
+ * Part of hexagonal architecture - defines what the domain needs from infrastructure.
+ */
+public interface ReactivePriceRepositoryPort {
+
+    /**
+     * Finds the applicable price with highest priority for the given criteria.
+     * 
+     * @param applicationDate Date and time to check
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @return Mono emitting the applicable price, empty if none applies
+     */
+    Mono<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId);
+
+    /**
+     * Finds the period around the given date during which the applicable price does not change.
+     * 
+     * @param applicationDate Date and time to check
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @return Mono emitting the segment containing the date, a gap segment when no price applies
+     */
+    Mono<PriceSegment> findSegment(LocalDateTime applicationDate, Long productId, Long brandId);
+}
@@ -0,0 +1,44 @@
+package com.inditex.pricing.infrastructure.adapter.input.reactive;
+
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.ErrorResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Exception handler for the WebFlux request binding errors.
+ * WebFlux reports missing and malformed parameters as ServerWebInputException instead of the
+ * servlet exceptions handled by GlobalExceptionHandler, which handles the rest of the errors.
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /**
+     * Handles missing or invalid request parameters.
+     * Returns 400 BAD REQUEST.
+     * 
+     * @param ex ServerWebInputException
+     * @return ResponseEntity with ErrorResponse and 400 status
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInput(ServerWebInputException ex) {
+        ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                ex.getReason(),
+                LocalDateTime.now().format(TIMESTAMP_FORMATTER)
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+}
@@ -0,0 +1,66 @@
+package com.inditex.pricing.infrastructure.adapter.input.reactive;
+
+import com.inditex.pricing.domain.port.input.GetPriceReactiveUseCase;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceResponse;
+import com.inditex.pricing.infrastructure.adapter.input.rest.mapper.PriceResponseMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * WebFlux controller for price queries.
+ * Same contract as the servlet PriceController: request parameters, response body and status codes.
+ */
+@RestController
+@RequestMapping("/api/prices")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePriceController {
+
+    private final GetPriceReactiveUseCase getPriceReactiveUseCase;
+    private final PriceResponseMapper priceResponseMapper;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param getPriceReactiveUseCase Reactive use case for price queries
+     * @param priceResponseMapper Mapper to convert domain to DTO
+     */
+    public ReactivePriceController(GetPriceReactiveUseCase getPriceReactiveUseCase,
+                                   PriceResponseMapper priceResponseMapper) {
+        this.getPriceReactiveUseCase = getPriceReactiveUseCase;
+        this.priceResponseMapper = priceResponseMapper;
+    }
+
+    /**
+     * GET endpoint to query applicable price.
+     * 
+     * Example request:
+     * GET /api/prices?applicationDate=2020-06-14T10:00:00&productId=35455&brandId=1
+     * 
+     * @param applicationDate Date and time for price application (ISO format)
+     * @param productId Product identifier
+     * @param brandId Brand identifier
+     * @return Mono with the PriceResponse, or failing with the error mapped by the exception handlers
+     */
+    @GetMapping
+    public Mono<PriceResponse> getApplicablePrice(
+            @RequestParam("applicationDate")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime applicationDate,
+
+            @RequestParam("productId")
+            Long productId,
+
+            @RequestParam("brandId")
+            Long brandId) {
+
+        return getPriceReactiveUseCase.getApplicablePrice(applicationDate, productId, brandId)
+                .map(priceResponseMapper::toResponse);
+    }
+}
@@ -0,0 +1,242 @@
+package com.inditex.pricing.infrastructure.adapter.output.r2dbc;
+
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.PriceChangeListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Polls the PRICE_CHANGES outbox through R2DBC and notifies the {@link PriceChangeListener}s of the
+ * changed products, so the price cache of the reactive application is invalidated like the servlet one.
+ * 
+ * Follows the {@code PriceChangeOutboxPoller} of the servlet application: the position only advances
+ * once every listener has processed a batch, and the CHANGE_IDs skipped by a read, whose writers may
+ * still be open, are looked up again by primary key until they show up or {@code gap-timeout} passes.
+ * The only listener is the cache, which is empty until the poller starts, so there is nothing to replay
+ * at startup: the poller starts after the latest change and keeps the IDs missing among the latest
+ * {@code batch-size} changes as gaps.
+ * 
+ * Created after the schema scripts have run, since it reads the outbox on startup. Polls run on the
+ * scheduling thread, never on the event loops, so each one waits for its queries.
+ * 
+ * Publishes {@code pricing.changes.applied}, {@code pricing.changes.poll.age} and
+ * {@code pricing.changes.gaps}, as the servlet poller does.
+ * 
+ * Disabled with {@code pricing.changes.enabled=false}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(name = "pricing.changes.enabled", havingValue = "true", matchIfMissing = true)
+@DependsOnDatabaseInitialization
+public class R2dbcPriceChangePoller {
+
+    private static final Logger log = LoggerFactory.getLogger(R2dbcPriceChangePoller.class);
+
+    private static final String LATEST_CHANGE_QUERY =
+            "SELECT COALESCE(MAX(CHANGE_ID), 0) FROM PRICE_CHANGES";
+
+    private static final String CHANGES_QUERY =
+            "SELECT CHANGE_ID, BRAND_ID, PRODUCT_ID FROM PRICE_CHANGES " +
+            "WHERE CHANGE_ID > :lastChangeId ORDER BY CHANGE_ID FETCH FIRST :batchSize ROWS ONLY";
+
+    private static final String GAP_QUERY =
+            "SELECT CHANGE_ID, BRAND_ID, PRODUCT_ID FROM PRICE_CHANGES " +
+            "WHERE CHANGE_ID BETWEEN :from AND :to ORDER BY CHANGE_ID";
+
+    private final DatabaseClient databaseClient;
+    private final List<PriceChangeListener> listeners;
+    private final int batchSize;
+    private final long gapTimeoutMillis;
+    private final Counter appliedChanges;
+
+    private long lastChangeId;
+    private List<ChangeGap> gaps = new ArrayList<>();
+    private volatile long lastPollMillis = System.currentTimeMillis();
+
+    /**
+     * Constructor injection for dependencies and configuration.
+     * 
+     * @param databaseClient R2DBC client used to read the outbox
+     * @param listeners Listeners to notify, in order
+     * @param meterRegistry Registry where the poller metrics are published
+     * @param batchSize Maximum number of outbox rows read per query
+     * @param gapTimeout How long a skipped CHANGE_ID is waited for
+     */
+    public R2dbcPriceChangePoller(DatabaseClient databaseClient, List<PriceChangeListener> listeners,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${pricing.changes.batch-size:1000}") int batchSize,
+                                  @Value("${pricing.changes.gap-timeout:PT1M}") Duration gapTimeout) {
+        this.databaseClient = databaseClient;
+        this.listeners = listeners;
+        this.batchSize = batchSize;
+        this.gapTimeoutMillis = gapTimeout.toMillis();
+        this.appliedChanges = Counter.builder("pricing.changes.applied")
+                .description("PRICE_CHANGES rows applied to the in-memory state")
+                .register(meterRegistry);
+        Gauge.builder("pricing.changes.poll.age", this, poller -> (System.currentTimeMillis() - poller.lastPollMillis) / 1000.0)
+                .description("Seconds since the last successful poll of PRICE_CHANGES")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("pricing.changes.gaps", this, poller -> poller.gaps.size())
+                .description("Ranges of skipped CHANGE_IDs still waited for")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts after the latest change, waiting for the IDs missing among the latest {@code batch-size}.
+     */
+    @PostConstruct
+    public synchronized void init() {
+        Long latest = databaseClient.sql(LATEST_CHANGE_QUERY)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+        long latestId = latest == null ? 0 : latest;
+        long start = Math.max(0, latestId - batchSize);
+        long deadline = System.currentTimeMillis() + gapTimeoutMillis;
+        long previous = start;
+        for (Change change : query(GAP_QUERY, "from", start + 1, "to", latestId)) {
+            addGap(gaps, previous, change.changeId, deadline);
+            previous = change.changeId;
+        }
+        this.lastChangeId = latestId;
+    }
+
+    /**
+     * Applies the skipped changes committed since the previous poll, then the changes written after it.
+     */
+    @Scheduled(fixedDelayString = "${pricing.changes.poll-interval:PT1S}")
+    public synchronized void poll() {
+        long now = System.currentTimeMillis();
+        pollGaps(now);
+
+        long deadline = now + gapTimeoutMillis;
+        List<Change> changes;
+        do {
+            changes = query(CHANGES_QUERY, "lastChangeId", lastChangeId, "batchSize", batchSize);
+            if (changes.isEmpty()) {
+                break;
+            }
+            Set<PriceKey> keys = new LinkedHashSet<>();
+            List<ChangeGap> skipped = new ArrayList<>();
+            long previous = lastChangeId;
+            for (Change change : changes) {
+                addGap(skipped, previous, change.changeId, deadline);
+                previous = change.changeId;
+                keys.add(change.key);
+            }
+
+            listeners.forEach(listener -> listener.onPricesChanged(keys));
+            lastChangeId = previous;
+            gaps.addAll(skipped);
+            appliedChanges.increment(changes.size());
+            log.debug("Applied price changes up to {} for {} products", lastChangeId, keys.size());
+        } while (changes.size() == batchSize);
+        lastPollMillis = System.currentTimeMillis();
+    }
+
+    private void pollGaps(long now) {
+        if (gaps.isEmpty()) {
+            return;
+        }
+        Set<PriceKey> keys = new LinkedHashSet<>();
+        List<ChangeGap> remaining = new ArrayList<>();
+        long read = 0;
+        for (ChangeGap gap : gaps) {
+            long previous = gap.from - 1;
+            for (Change change : query(GAP_QUERY, "from", gap.from, "to", gap.to)) {
+                addGap(remaining, previous, change.changeId, gap.deadline);
+                previous = change.changeId;
+                read++;
+                keys.add(change.key);
+            }
+            addGap(remaining, previous, gap.to + 1, gap.deadline);
+        }
+
+        if (read > 0) {
+            listeners.forEach(listener -> listener.onPricesChanged(keys));
+            appliedChanges.increment(read);
+            log.debug("Applied late price changes for {} products", keys.size());
+        }
+        remaining.removeIf(gap -> {
+            if (gap.deadline > now) {
+                return false;
+            }
+            log.warn("Stopped waiting for price changes {} to {}", gap.from, gap.to);
+            return true;
+        });
+        gaps = remaining;
+    }
+
+    private List<Change> query(String sql, String firstName, Object firstValue, String secondName, Object secondValue) {
+        List<Change> changes = databaseClient.sql(sql)
+                .bind(firstName, firstValue)
+                .bind(secondName, secondValue)
+                .map(R2dbcPriceChangePoller::toChange)
+                .all()
+                .collectList()
+                .block();
+        return changes == null ? List.of() : changes;
+    }
+
+    private static Change toChange(Readable row) {
+        return new Change(row.get(0, Long.class), new PriceKey(row.get(1, Long.class), row.get(2, Long.class)));
+    }
+
+    /**
+     * Adds the IDs between two consecutive changes, if any, as a gap.
+     */
+    private static void addGap(List<ChangeGap> gaps, long previousId, long changeId, long deadline) {
+        if (changeId > previousId + 1) {
+            gaps.add(new ChangeGap(previousId + 1, changeId - 1, deadline));
+        }
+    }
+
+    /**
+     * Row of the outbox: a change of the tariffs of one product.
+     */
+    private static final class Change {
+
+        private final long changeId;
+        private final PriceKey key;
+
+        private Change(long changeId, PriceKey key) {
+            this.changeId = changeId;
+            this.key = key;
+        }
+    }
+
+    /**
+     * Range of skipped CHANGE_IDs, from and to included, waited for until the deadline.
+     */
+    private static final class ChangeGap {
+
+        private final long from;
+        private final long to;
+        private final long deadline;
+
+        private ChangeGap(long from, long to, long deadline) {
+            this.from = from;
+            this.to = to;
+            this.deadline = deadline;
+        }
+    }
+}
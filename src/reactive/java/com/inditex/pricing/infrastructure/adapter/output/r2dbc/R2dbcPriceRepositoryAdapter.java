@@ -0,0 +1,88 @@
+package com.inditex.pricing.infrastructure.adapter.output.r2dbc;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.port.output.ReactivePriceRepositoryPort;
+import com.inditex.pricing.domain.service.PriceTimelineResolver;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.mapper.PriceRowMapper;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.repository.JpaPriceRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Adapter that implements the ReactivePriceRepositoryPort using R2DBC.
+ * Runs the same SQL as the JDBC adapters and reads the rows straight into the domain Price.
+ * 
+ * Follows the Adapter pattern from hexagonal architecture.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class R2dbcPriceRepositoryAdapter implements ReactivePriceRepositoryPort {
+
+    private static final String PRODUCT_PRICES_QUERY =
+            "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES " +
+            "WHERE BRAND_ID = :brandId AND PRODUCT_ID = :productId " +
+            "ORDER BY START_DATE";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Constructor injection for dependencies.
+     * 
+     * @param databaseClient R2DBC client of the pricing database
+     */
+    public R2dbcPriceRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Runs {@link JpaPriceRepository#APPLICABLE_PRICE_QUERY}, resolved by the covering index.
+     */
+    @Override
+    public Mono<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return databaseClient.sql(JpaPriceRepository.APPLICABLE_PRICE_QUERY)
+                .bind("brandId", brandId)
+                .bind("productId", productId)
+                .bind("applicationDate", applicationDate)
+                .map(R2dbcPriceRepositoryAdapter::toPrice)
+                .first();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Loads all the tariffs of the product and resolves its timeline.
+     */
+    @Override
+    public Mono<PriceSegment> findSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return databaseClient.sql(PRODUCT_PRICES_QUERY)
+                .bind("brandId", brandId)
+                .bind("productId", productId)
+                .map(R2dbcPriceRepositoryAdapter::toPrice)
+                .all()
+                .collectList()
+                .map(prices -> PriceTimelineResolver.resolve(prices).segmentAt(applicationDate));
+    }
+
+    private static Price toPrice(Readable row) {
+        return new Price(
+                row.get(0, Long.class),
+                row.get(1, Long.class),
+                row.get(2, LocalDateTime.class),
+                row.get(3, LocalDateTime.class),
+                row.get(4, Long.class),
+                row.get(5, Long.class),
+                row.get(6, Integer.class),
+                row.get(7, BigDecimal.class),
+                row.get(8, String.class)
+        );
+    }
+}
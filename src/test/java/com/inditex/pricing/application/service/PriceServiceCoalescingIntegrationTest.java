@@ -0,0 +1,192 @@
+package com.inditex.pricing.application.service;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.port.output.PriceCachePort;
+import com.inditex.pricing.domain.port.output.PriceMetricsPort;
+import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the coalescing of concurrent identical lookups in the PriceService.
+ * 
+ * A burst of lookups of the same product misses the cache at once while the repository call of the
+ * first one is held, as after a cache expiry on a hot product. The burst must share that call, and
+ * lookups that wait longer than the maximum wait must query the repository themselves.
+ */
+class PriceServiceCoalescingIntegrationTest {
+
+    private static final int LOOKUPS = 16;
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+    private static final Price PRICE = new Price(1L, 1L, DATE.minusDays(1), DATE.plusDays(1),
+            2L, 35455L, 1, new BigDecimal("25.45"), "EUR");
+
+    @Test
+    @DisplayName("Test: Concurrent lookups of a product - Should share one repository call")
+    void testConcurrentLookupsShareRepositoryCall() throws Exception {
+        HeldRepository repository = new HeldRepository(Integer.MAX_VALUE);
+        CountingMetrics metrics = new CountingMetrics();
+        PriceService service = service(repository, metrics, Duration.ofSeconds(10));
+
+        List<Price> prices = burst(service, repository);
+
+        assertThat(repository.calls).hasValue(1);
+        assertThat(prices).hasSize(LOOKUPS).allMatch(price -> price == PRICE);
+        assertThat(metrics.shared).hasValue(LOOKUPS - 1);
+        assertThat(metrics.fallback).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Test: Repository call slower than the maximum wait - Waiters should query themselves")
+    void testWaitersFallBackAfterMaximumWait() throws Exception {
+        HeldRepository repository = new HeldRepository(1);
+        CountingMetrics metrics = new CountingMetrics();
+        PriceService service = service(repository, metrics, Duration.ofMillis(50));
+
+        List<Price> prices = burst(service, repository);
+
+        assertThat(repository.calls).hasValue(LOOKUPS);
+        assertThat(prices).hasSize(LOOKUPS).allMatch(price -> price == PRICE);
+        assertThat(metrics.shared).hasValue(0);
+        assertThat(metrics.fallback).hasValue(LOOKUPS - 1);
+    }
+
+    private static PriceService service(PriceRepositoryPort repository, PriceMetricsPort metrics, Duration maxWait) {
+        return new PriceService(repository, Optional.of(new MissingCache()), Optional.empty(), Optional.of(metrics),
+                true, maxWait);
+    }
+
+    /**
+     * Starts the lookups, waits until all of them are blocked on the held repository call, and releases it.
+     */
+    private static List<Price> burst(PriceService service, HeldRepository repository)
+            throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(LOOKUPS);
+        try {
+            List<Future<Price>> futures = new ArrayList<>();
+            for (int i = 0; i < LOOKUPS; i++) {
+                futures.add(executor.submit(() -> service.getApplicablePrice(DATE.plusMinutes(1), 35455L, 1L)));
+            }
+            assertThat(repository.entered.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(200);
+            repository.release.countDown();
+
+            List<Price> prices = new ArrayList<>();
+            for (Future<Price> future : futures) {
+                prices.add(future.get(5, TimeUnit.SECONDS));
+            }
+            return prices;
+        } catch (TimeoutException ex) {
+            throw new AssertionError("Lookup did not finish", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Repository whose first calls block until released.
+     */
+    private static final class HeldRepository implements PriceRepositoryPort {
+
+        private final int heldCalls;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        HeldRepository(int heldCalls) {
+            this.heldCalls = heldCalls;
+        }
+
+        @Override
+        public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+            return Optional.ofNullable(findSegment(applicationDate, productId, brandId).getPrice());
+        }
+
+        @Override
+        public PriceSegment findSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+            if (calls.incrementAndGet() <= heldCalls) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new PriceSegment(PRICE.getStartDate(), PRICE.getEndDate(), PRICE);
+        }
+    }
+
+    /**
+     * Cache that always misses, as right after an expiry.
+     */
+    private static final class MissingCache implements PriceCachePort {
+
+        @Override
+        public Optional<PriceSegment> get(PriceKey key, LocalDateTime applicationDate) {
+            return Optional.empty();
+        }
+
+        @Override
+        public long generation(PriceKey key) {
+            return 0;
+        }
+
+        @Override
+        public void put(PriceKey key, PriceSegment segment, long generation) {
+        }
+    }
+
+    private static final class CountingMetrics implements PriceMetricsPort {
+
+        private final AtomicInteger shared = new AtomicInteger();
+        private final AtomicInteger fallback = new AtomicInteger();
+
+        @Override
+        public void recordControllerLookup(long nanos) {
+        }
+
+        @Override
+        public void recordMapping(long nanos) {
+        }
+
+        @Override
+        public void recordSerialization(long nanos) {
+        }
+
+        @Override
+        public void recordServiceLookup(long nanos) {
+        }
+
+        @Override
+        public void recordRepositoryLookup(long nanos) {
+        }
+
+        @Override
+        public void recordOutcome(Long brandId, boolean found) {
+        }
+
+        @Override
+        public void recordCoalescedLookup(boolean shared) {
+            (shared ? this.shared : fallback).incrementAndGet();
+        }
+    }
+}
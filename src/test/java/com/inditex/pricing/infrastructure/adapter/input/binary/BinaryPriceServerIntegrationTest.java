@@ -0,0 +1,183 @@
+package com.inditex.pricing.infrastructure.adapter.input.binary;
+
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.port.input.GetPriceUseCase;
+import com.inditex.pricing.domain.port.input.GetPricesBatchUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.Socket;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the binary price protocol.
+ * 
+ * Uses its own database, a chunk size of 2 so that batches are streamed in several chunks,
+ * and a batch limit of 5 lookups.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:binarydb",
+        "pricing.binary.enabled=true",
+        "pricing.binary.port=0",
+        "pricing.binary.chunk-size=2",
+        "pricing.binary.max-batch-size=5"
+})
+class BinaryPriceServerIntegrationTest {
+
+    private static final long PRODUCT_ID = 35455L;
+    private static final long BRAND_ID = 1L;
+
+    @Autowired
+    private BinaryPriceServer server;
+
+    @Autowired
+    private GetPriceUseCase getPriceUseCase;
+
+    @Autowired
+    private GetPricesBatchUseCase getPricesBatchUseCase;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BinaryPriceClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        client = new BinaryPriceClient("localhost", server.getPort());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+    }
+
+    @Test
+    @DisplayName("Test: Lookup at 16:00 on June 14, 2020 - Should return price list 2 in minor units and epoch millis")
+    void testLookup() throws IOException {
+        BinaryPriceResponse response = client.lookup(query("2020-06-14T16:00:00", PRODUCT_ID));
+
+        assertThat(response.isFound()).isTrue();
+        assertThat(response.getProductId()).isEqualTo(PRODUCT_ID);
+        assertThat(response.getBrandId()).isEqualTo(BRAND_ID);
+        assertThat(response.getPriceList()).isEqualTo(2);
+        assertThat(response.getStartDate()).isEqualTo(1592146800000L);
+        assertThat(response.getEndDate()).isEqualTo(1592159400000L);
+        assertThat(response.getPrice()).isEqualTo(2545);
+        assertThat(response.getFractionDigits()).isEqualTo(2);
+        assertThat(response.getPriceAmount()).isEqualTo(new BigDecimal("25.45"));
+        assertThat(response.getCurrency()).isEqualTo("EUR");
+    }
+
+    @Test
+    @DisplayName("Test: Lookup of an unknown product - Should return NOT_FOUND")
+    void testLookupNotFound() throws IOException {
+        BinaryPriceResponse response = client.lookup(query("2020-06-14T16:00:00", 99999L));
+
+        assertThat(response.getStatus()).isEqualTo(BinaryPriceProtocol.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Test: Batch of lookups - Should stream one response per lookup in request order")
+    void testBatch() throws IOException {
+        List<BinaryPriceResponse> responses = new ArrayList<>();
+        client.lookupBatch(List.of(
+                query("2020-06-14T10:00:00", PRODUCT_ID),
+                query("2020-06-14T10:00:00", 99999L),
+                query("2020-06-15T10:00:00", PRODUCT_ID)), responses::add);
+
+        assertThat(responses).extracting(BinaryPriceResponse::getIndex).containsExactly(0, 1, 2);
+        assertThat(responses).extracting(BinaryPriceResponse::getStatus).containsExactly(
+                BinaryPriceProtocol.FOUND, BinaryPriceProtocol.NOT_FOUND, BinaryPriceProtocol.FOUND);
+        assertThat(responses.get(0).getPriceList()).isEqualTo(1);
+        assertThat(responses.get(2).getPriceList()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Test: Batch above the limit - Should be refused and leave the connection usable")
+    void testBatchTooLarge() throws IOException {
+        List<BinaryPriceResponse> responses = new ArrayList<>();
+        client.lookupBatch(Collections.nCopies(6, query("2020-06-14T10:00:00", PRODUCT_ID)), responses::add);
+
+        assertThat(responses).singleElement().satisfies(response -> {
+            assertThat(response.getStatus()).isEqualTo(BinaryPriceProtocol.INVALID);
+            assertThat(response.getMessage()).contains("5 lookups");
+        });
+        assertThat(client.lookup(query("2020-06-14T21:00:00", PRODUCT_ID)).getPriceList()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test: Unknown request type - Should answer INVALID and close the connection")
+    void testUnknownRequestType() throws IOException {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeInt(BinaryPriceProtocol.REQUEST_HEADER_BYTES);
+            out.writeByte(9);
+            out.writeLong(42L);
+            out.flush();
+
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            BinaryPriceResponse response = BinaryPriceProtocol.readResponse(in);
+            assertThat(response.getStatus()).isEqualTo(BinaryPriceProtocol.INVALID);
+            assertThat(response.getRequestId()).isEqualTo(42L);
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    @DisplayName("Test: Price whose currency cannot be encoded - Should answer ERROR and leave the connection usable")
+    void testLookupWithUnencodableCurrency() throws IOException {
+        jdbcTemplate.update("MERGE INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) "
+                + "KEY (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE) "
+                + "VALUES (1, '2021-06-01 00:00:00', '2021-06-30 23:59:59', 5, 35455, 0, 10.00, 'EU')");
+
+        assertThat(client.lookup(query("2021-06-01T10:00:00", PRODUCT_ID)).getStatus()).isEqualTo(BinaryPriceProtocol.ERROR);
+        assertThat(client.lookup(query("2020-06-14T16:00:00", PRODUCT_ID)).getPriceList()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test: Server closed - Should close the connections waiting for a request")
+    void testCloseClosesOpenConnections() throws IOException {
+        BinaryPriceServer closingServer = new BinaryPriceServer(getPriceUseCase, getPricesBatchUseCase, meterRegistry,
+                0, 2, 5, 2);
+        try (Socket socket = new Socket("localhost", closingServer.getPort())) {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            BinaryPriceProtocol.writeLookup(out, 1, query("2020-06-14T16:00:00", PRODUCT_ID));
+            out.flush();
+            assertThat(BinaryPriceProtocol.readResponse(in).getPriceList()).isEqualTo(2);
+
+            closingServer.close();
+
+            socket.setSoTimeout(5000);
+            assertThat(in.read()).isEqualTo(-1);
+        } finally {
+            closingServer.close();
+        }
+    }
+
+    private static PriceQuery query(String applicationDate, long productId) {
+        return new PriceQuery(LocalDateTime.parse(applicationDate), productId, BRAND_ID);
+    }
+}
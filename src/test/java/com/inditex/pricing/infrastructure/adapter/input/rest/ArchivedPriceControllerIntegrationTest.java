@@ -0,0 +1,28 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.inditex.pricing.infrastructure.adapter.output.persistence.PriceArchiveJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the Price REST API integration scenarios with the sample tariffs moved to PRICES_ARCHIVE,
+ * verifying the lookups at past dates return the same results from the archive.
+ * 
+ * Uses its own database, since archiving empties PRICES of the sample data.
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archivedb",
+        "pricing.archive.enabled=true",
+        "pricing.archive.initial-delay=PT1H"
+})
+class ArchivedPriceControllerIntegrationTest extends PriceControllerIntegrationTest {
+
+    @Autowired
+    private PriceArchiveJob priceArchiveJob;
+
+    @BeforeEach
+    void archiveExpiredTariffs() {
+        priceArchiveJob.archive();
+    }
+}
@@ -0,0 +1,75 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.infrastructure.adapter.output.cache.CaffeinePriceCacheAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Integration tests for the price cache behind the price query endpoint.
+ * 
+ * Counts the repository lookups through the {@code pricing.lookup} timer with {@code layer=repository}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class CachedPriceLookupIntegrationTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CaffeinePriceCacheAdapter priceCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api/prices";
+        priceCache.onPricesChanged(Set.of(new PriceKey(BRAND_ID, PRODUCT_ID)));
+    }
+
+    @Test
+    @DisplayName("Test: Second request in the same segment - Should be answered from the cache")
+    void testSecondRequestInSegmentSkipsRepository() {
+        long before = repositoryLookups();
+        request("2020-06-15T12:00:00");
+        assertThat(repositoryLookups() - before).isEqualTo(1);
+
+        request("2020-06-15T15:30:00");
+        assertThat(repositoryLookups() - before).isEqualTo(1);
+    }
+
+    private void request(String applicationDate) {
+        given()
+                .queryParam("applicationDate", applicationDate)
+                .queryParam("productId", PRODUCT_ID)
+                .queryParam("brandId", BRAND_ID)
+            .when()
+                .get()
+            .then()
+                .statusCode(200)
+                .body("priceList", equalTo(1));
+    }
+
+    private long repositoryLookups() {
+        return meterRegistry.get("pricing.lookup").tag("layer", "repository").timer().count();
+    }
+}
@@ -0,0 +1,21 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.inditex.pricing.infrastructure.adapter.output.persistence.EffectivePriceRepositoryAdapter;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the Price REST API integration scenarios against the materialized
+ * EFFECTIVE_PRICES timeline, verifying it returns the same results as the JPA query.
+ * Uses its own database, so contexts that re-create the schema cannot drop the timeline.
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:effectivedb",
+        "pricing.repository.type=effective-timeline"
+})
+class EffectiveTimelinePriceControllerIntegrationTest extends PriceControllerIntegrationTest {
+
+    @Override
+    protected Class<?> expectedRepository() {
+        return EffectivePriceRepositoryAdapter.class;
+    }
+}
@@ -0,0 +1,14 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the price timeline integration scenarios against the materialized EFFECTIVE_PRICES timeline,
+ * verifying it returns the same timeline as the JPA range scan.
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:effectivedb",
+        "pricing.repository.type=effective-timeline"
+})
+class EffectiveTimelinePriceTimelineControllerIntegrationTest extends PriceTimelineControllerIntegrationTest {
+}
@@ -0,0 +1,17 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.inditex.pricing.infrastructure.adapter.output.memory.InMemoryPriceRepositoryAdapter;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the Price REST API integration scenarios against the in-memory interval index,
+ * verifying it returns the same results as the JPA query.
+ */
+@TestPropertySource(properties = "pricing.repository.type=in-memory")
+class InMemoryPriceControllerIntegrationTest extends PriceControllerIntegrationTest {
+
+    @Override
+    protected Class<?> expectedRepository() {
+        return InMemoryPriceRepositoryAdapter.class;
+    }
+}
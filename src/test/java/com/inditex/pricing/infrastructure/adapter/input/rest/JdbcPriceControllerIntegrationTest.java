@@ -0,0 +1,17 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.inditex.pricing.infrastructure.adapter.output.persistence.JdbcPriceRepositoryAdapter;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the Price REST API integration scenarios against the plain JDBC read path,
+ * verifying it returns the same results as the JPA query.
+ */
+@TestPropertySource(properties = "pricing.repository.type=jdbc")
+class JdbcPriceControllerIntegrationTest extends PriceControllerIntegrationTest {
+
+    @Override
+    protected Class<?> expectedRepository() {
+        return JdbcPriceRepositoryAdapter.class;
+    }
+}
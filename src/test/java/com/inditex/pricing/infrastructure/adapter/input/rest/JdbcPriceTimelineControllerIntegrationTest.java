@@ -0,0 +1,11 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the price timeline integration scenarios against the plain JDBC range query,
+ * verifying it returns the same timeline as the JPA range scan.
+ */
+@TestPropertySource(properties = "pricing.repository.type=jdbc")
+class JdbcPriceTimelineControllerIntegrationTest extends PriceTimelineControllerIntegrationTest {
+}
@@ -0,0 +1,20 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.inditex.pricing.infrastructure.adapter.output.memory.MappedPriceRepositoryAdapter;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the Price REST API integration scenarios against the memory-mapped tariff file,
+ * exported from the sample data at startup, verifying it returns the same results as the JPA query.
+ */
+@TestPropertySource(properties = {
+        "pricing.repository.type=mapped",
+        "pricing.mapped.file=target/test-data/prices.tariffs"
+})
+class MappedPriceControllerIntegrationTest extends PriceControllerIntegrationTest {
+
+    @Override
+    protected Class<?> expectedRepository() {
+        return MappedPriceRepositoryAdapter.class;
+    }
+}
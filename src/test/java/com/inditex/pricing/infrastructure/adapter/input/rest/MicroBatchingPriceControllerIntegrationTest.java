@@ -0,0 +1,125 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.JdbcPriceRepositoryAdapter;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.MicroBatchingPriceRepositoryAdapter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Price REST API integration scenarios with the single lookups micro-batched into
+ * set-based queries of the JDBC adapter, verifying it returns the same results as the JPA query.
+ * The cache and the coalescing are off so every request reaches the repository.
+ * 
+ * Also checks that a burst of concurrent lookups, made directly or through the REST API, where the
+ * HTTP cache makes them segment lookups, is resolved with fewer queries than lookups.
+ */
+@TestPropertySource(properties = {
+        "pricing.repository.type=jdbc",
+        "pricing.batching.enabled=true",
+        "pricing.batching.window=PT0.05S",
+        "pricing.cache.enabled=false",
+        "pricing.coalescing.enabled=false"
+})
+class MicroBatchingPriceControllerIntegrationTest extends PriceControllerIntegrationTest {
+
+    private static final int LOOKUPS = 64;
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private JdbcPriceRepositoryAdapter jdbcPriceRepositoryAdapter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected Class<?> expectedRepository() {
+        return MicroBatchingPriceRepositoryAdapter.class;
+    }
+
+    @Test
+    @DisplayName("Test: Concurrent lookups - Should be resolved by fewer set-based queries with the same prices")
+    void testConcurrentLookupsAreBatched() throws Exception {
+        assertThat(priceRepositoryPort).isInstanceOf(MicroBatchingPriceRepositoryAdapter.class);
+        DistributionSummary batchSizes = meterRegistry.get("pricing.batching.size").summary();
+        long queriesBefore = batchSizes.count();
+
+        ExecutorService executor = Executors.newFixedThreadPool(LOOKUPS);
+        List<LocalDateTime> dates = new ArrayList<>();
+        List<Future<Optional<Price>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < LOOKUPS; i++) {
+                LocalDateTime date = LocalDateTime.of(2020, 6, 13, 12, 0).plusHours(i);
+                dates.add(date);
+                futures.add(executor.submit(() -> priceRepositoryPort.findApplicablePrice(date, 35455L, 1L)));
+            }
+            for (int i = 0; i < LOOKUPS; i++) {
+                Optional<Price> expected = jdbcPriceRepositoryAdapter.findApplicablePrice(dates.get(i), 35455L, 1L);
+                assertThat(futures.get(i).get(5, TimeUnit.SECONDS).map(Price::getPriceList))
+                        .isEqualTo(expected.map(Price::getPriceList));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(batchSizes.count() - queriesBefore).isGreaterThan(0).isLessThan(LOOKUPS);
+    }
+
+    @Test
+    @DisplayName("Test: Concurrent GET requests - Should resolve their segments with fewer queries than requests")
+    void testConcurrentRequestsAreBatched() throws Exception {
+        DistributionSummary batchSizes = meterRegistry.get("pricing.batching.size").summary();
+        Timer repositoryLookups = meterRegistry.get("pricing.lookup").tag("layer", "repository").timer();
+        long queriesBefore = batchSizes.count();
+        long lookupsBefore = repositoryLookups.count();
+
+        ExecutorService executor = Executors.newFixedThreadPool(LOOKUPS);
+        List<LocalDateTime> dates = new ArrayList<>();
+        List<Future<Response>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < LOOKUPS; i++) {
+                LocalDateTime date = LocalDateTime.of(2020, 6, 13, 12, 0).plusHours(i);
+                dates.add(date);
+                futures.add(executor.submit(() -> given()
+                        .queryParam("applicationDate", date.toString())
+                        .queryParam("productId", 35455L)
+                        .queryParam("brandId", 1L)
+                        .get()));
+            }
+            for (int i = 0; i < LOOKUPS; i++) {
+                Optional<Price> expected = jdbcPriceRepositoryAdapter.findApplicablePrice(dates.get(i), 35455L, 1L);
+                Response response = futures.get(i).get(5, TimeUnit.SECONDS);
+                assertThat(response.statusCode()).isEqualTo(expected.isPresent() ? 200 : 404);
+                if (expected.isPresent()) {
+                    assertThat(response.jsonPath().getLong("priceList")).isEqualTo(expected.get().getPriceList());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(repositoryLookups.count() - lookupsBefore).isEqualTo(LOOKUPS);
+        assertThat(batchSizes.count() - queriesBefore).isGreaterThan(0).isLessThan(LOOKUPS);
+    }
+}
@@ -0,0 +1,93 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Integration tests for the batch Price REST API endpoint.
+ * 
+ * Validates that the lookups of a batch are resolved like the single price endpoint,
+ * in request order, and that lookups without price are marked instead of failing the batch.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class PriceBatchControllerIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    private static final String BASE_PATH = "/api/prices/batch";
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = BASE_PATH;
+    }
+
+    @Test
+    @DisplayName("Test: Batch with the 5 required scenarios and an unknown product - Should resolve each item in order")
+    void testBatchResolvesEveryItem() {
+        String body = """
+                {"items": [
+                  {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-14T21:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-15T10:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-16T21:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2020-06-14T10:00:00", "productId": 99999, "brandId": 1}
+                ]}
+                """;
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(body)
+        .when()
+            .post()
+        .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("results", hasSize(6))
+            .body("results.found", contains(true, true, true, true, true, false))
+            .body("results[0..4].price.priceList", contains(1, 2, 1, 3, 4))
+            .body("results[1].price.price", equalTo(25.45f))
+            .body("results[5].productId", equalTo(99999))
+            .body("results[5].price", nullValue());
+    }
+
+    @Test
+    @DisplayName("Test: Batch without items - Should return 400 Bad Request")
+    void testEmptyBatch() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"items\": []}")
+        .when()
+            .post()
+        .then()
+            .statusCode(400)
+            .contentType(ContentType.JSON)
+            .body("error", equalTo("Bad Request"));
+    }
+
+    @Test
+    @DisplayName("Test: Batch item without productId - Should return 400 Bad Request")
+    void testBatchItemWithoutProductId() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"items\": [{\"applicationDate\": \"2020-06-14T10:00:00\", \"brandId\": 1}]}")
+        .when()
+            .post()
+        .then()
+            .statusCode(400)
+            .contentType(ContentType.JSON)
+            .body("error", equalTo("Bad Request"));
+    }
+}
@@ -1,15 +1,20 @@
 package com.inditex.pricing.infrastructure.adapter.input.rest;
 
+import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.PriceRepositoryAdapter;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.ActiveProfiles;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 
 /**
@@ -23,6 +28,8 @@ import static org.hamcrest.Matchers.*;
  * - Test 5: Request at 21:00 on the 16th for product 35455 and brand 1 (ZARA)
  * 
  * Uses REST Assured for clean and readable API testing.
+ * Subclasses run the same scenarios against other repository adapters and declare which one
+ * serves them in {@link #expectedRepository()}.
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -31,6 +38,9 @@ class PriceControllerIntegrationTest {
     @LocalServerPort
     private int port;
 
+    @Autowired
+    private ApplicationContext applicationContext;
+
     private static final Long PRODUCT_ID = 35455L;
     private static final Long BRAND_ID = 1L;
     private static final String BASE_PATH = "/api/prices";
@@ -41,6 +51,26 @@ class PriceControllerIntegrationTest {
         RestAssured.basePath = BASE_PATH;
     }
 
+    /**
+     * Output port the application under test reads prices from.
+     */
+    protected Class<?> repositoryPort() {
+        return PriceRepositoryPort.class;
+    }
+
+    /**
+     * Repository adapter these scenarios are expected to run against.
+     */
+    protected Class<?> expectedRepository() {
+        return PriceRepositoryAdapter.class;
+    }
+
+    @Test
+    @DisplayName("Test: Repository - Should serve the lookups from the expected adapter")
+    void testServedByExpectedRepository() {
+        assertThat(applicationContext.getBean(repositoryPort())).isInstanceOf(expectedRepository());
+    }
+
     @Test
     @DisplayName("Test 1: Request at 10:00 on June 14, 2020 - Should return price list 1 with price 35.50")
     void testPriceAt10AmOn14th() {
@@ -176,6 +206,23 @@ class PriceControllerIntegrationTest {
             .body("error", equalTo("Price Not Found"));
     }
 
+    @Test
+    @DisplayName("Test: Request before any tariff of an existing product - Should return 404 Not Found twice")
+    void testExistingProductWithoutApplicablePrice() {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            given()
+                .queryParam("applicationDate", "2019-06-14T10:00:00")
+                .queryParam("productId", PRODUCT_ID)
+                .queryParam("brandId", BRAND_ID)
+            .when()
+                .get()
+            .then()
+                .statusCode(404)
+                .contentType(ContentType.JSON)
+                .body("error", equalTo("Price Not Found"));
+        }
+    }
+
     @Test
     @DisplayName("Test: Request without required parameters - Should return 400 Bad Request")
     void testMissingParameters() {
@@ -0,0 +1,132 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.infrastructure.adapter.input.rest.reader.PriceCsvReader;
+import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the brand price export endpoint.
+ * 
+ * Uses its own database, with a few products added to the sample data of brand 1:
+ * - 90101: two overlapping tariffs, the one with higher priority wins
+ * - 90102: a tariff that does not apply at the export date, so the product is left out
+ * - 90103: a tariff of brand 2, which is not exported with brand 1
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:exportdb")
+class PriceExportControllerIntegrationTest {
+
+    private static final String APPLICATION_DATE = "2020-06-14T16:00:00";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api/prices/exports";
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID > 90000");
+        jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) VALUES "
+                + "(1, '2020-01-01 00:00:00', '2020-12-31 23:59:59', 5, 90101, 0, 12.00, 'EUR'), "
+                + "(1, '2020-06-01 00:00:00', '2020-06-30 23:59:59', 6, 90101, 1, 9.99, 'EUR'), "
+                + "(1, '2021-01-01 00:00:00', '2021-12-31 23:59:59', 7, 90102, 0, 15.00, 'EUR'), "
+                + "(2, '2020-01-01 00:00:00', '2020-12-31 23:59:59', 8, 90103, 0, 20.00, 'EUR')");
+    }
+
+    @Test
+    @DisplayName("Test: NDJSON export - Should return one line per product of the brand with its applicable price")
+    void testNdjsonExport() {
+        String body = given()
+                .accept(PriceImportController.NDJSON)
+                .queryParam("applicationDate", APPLICATION_DATE)
+            .when()
+                .get("/1")
+            .then()
+                .statusCode(200)
+                .contentType(PriceImportController.NDJSON)
+                .extract().asString();
+
+        List<JsonPath> lines = body.lines().map(JsonPath::from).toList();
+        assertThat(lines).extracting(line -> line.getLong("productId")).containsExactly(35455L, 90101L);
+        assertThat(lines).extracting(line -> line.getLong("priceList")).containsExactly(2L, 6L);
+        assertThat(lines).extracting(line -> line.getString("startDate"))
+                .containsExactly("2020-06-14-15.00.00", "2020-06-01-00.00.00");
+        assertThat(lines).extracting(line -> line.getDouble("price")).containsExactly(25.45, 9.99);
+        assertThat(body).endsWith("\n");
+    }
+
+    @Test
+    @DisplayName("Test: Export without Accept header - Should default to NDJSON")
+    void testDefaultFormatIsNdjson() {
+        given()
+                .queryParam("applicationDate", APPLICATION_DATE)
+            .when()
+                .get("/1")
+            .then()
+                .statusCode(200)
+                .contentType(PriceImportController.NDJSON);
+    }
+
+    @Test
+    @DisplayName("Test: CSV export - Should return the applicable tariffs in the import format")
+    void testCsvExport() {
+        byte[] body = given()
+                .accept(PriceImportController.CSV)
+                .queryParam("applicationDate", APPLICATION_DATE)
+            .when()
+                .get("/1")
+            .then()
+                .statusCode(200)
+                .contentType(PriceImportController.CSV)
+                .extract().asByteArray();
+
+        List<Price> prices = new ArrayList<>();
+        Iterator<Price> rows = new PriceCsvReader().read(new ByteArrayInputStream(body));
+        rows.forEachRemaining(prices::add);
+        assertThat(prices).extracting(Price::getProductId).containsExactly(35455L, 90101L);
+        assertThat(prices).extracting(Price::getPriority).containsExactly(1, 1);
+        assertThat(prices).extracting(Price::getPrice)
+                .containsExactly(new BigDecimal("25.45"), new BigDecimal("9.99"));
+        assertThat(new String(body, StandardCharsets.UTF_8))
+                .contains("1,2020-06-01T00:00:00,2020-06-30T23:59:59,6,90101,1,9.99,EUR\n");
+    }
+
+    @Test
+    @DisplayName("Test: Brand without applicable prices - Should return an empty export")
+    void testEmptyExport() {
+        String body = given()
+                .accept(PriceImportController.NDJSON)
+                .queryParam("applicationDate", "2019-01-01T00:00:00")
+            .when()
+                .get("/1")
+            .then()
+                .statusCode(200)
+                .extract().asString();
+
+        assertThat(body).isEmpty();
+    }
+}
@@ -0,0 +1,132 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+/**
+ * Integration tests for the HTTP caching headers of the price query endpoint:
+ * ETag, Cache-Control max-age up to the next tariff boundary, and conditional GET with If-None-Match.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class PriceHttpCacheIntegrationTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api/prices";
+    }
+
+    @Test
+    @DisplayName("Test: Cache headers - Should return a strong ETag of the price list and max-age capped by configuration")
+    void testCacheHeaders() {
+        given()
+                .queryParam("applicationDate", "2020-06-14T16:00:00")
+                .queryParam("productId", PRODUCT_ID)
+                .queryParam("brandId", BRAND_ID)
+            .when()
+                .get()
+            .then()
+                .statusCode(200)
+                .header("ETag", startsWith("\"2-"))
+                .header("Cache-Control", equalTo("max-age=300"))
+                .body("priceList", equalTo(2));
+    }
+
+    @Test
+    @DisplayName("Test: Cache headers - Should compute max-age up to the end of the applicable tariff")
+    void testMaxAgeUntilNextBoundary() {
+        given()
+                .queryParam("applicationDate", "2020-06-14T18:29:00")
+                .queryParam("productId", PRODUCT_ID)
+                .queryParam("brandId", BRAND_ID)
+            .when()
+                .get()
+            .then()
+                .statusCode(200)
+                .header("Cache-Control", equalTo("max-age=60"));
+    }
+
+    @Test
+    @DisplayName("Test: Conditional GET - Should return 304 without body when the ETag matches")
+    void testNotModified() {
+        String etag = etagAt("2020-06-14T16:00:00");
+
+        String body = given()
+                .header("If-None-Match", etag)
+                .queryParam("applicationDate", "2020-06-14T17:00:00")
+                .queryParam("productId", PRODUCT_ID)
+                .queryParam("brandId", BRAND_ID)
+            .when()
+                .get()
+            .then()
+                .statusCode(304)
+                .header("ETag", equalTo(etag))
+                .header("Cache-Control", equalTo("max-age=300"))
+                .extract().asString();
+
+        assertThat(body).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test: Conditional GET - Should match weak and listed entity tags")
+    void testNotModifiedWithTagList() {
+        String etag = etagAt("2020-06-14T16:00:00");
+
+        given()
+                .header("If-None-Match", "\"other\", W/" + etag)
+                .queryParam("applicationDate", "2020-06-14T16:00:00")
+                .queryParam("productId", PRODUCT_ID)
+                .queryParam("brandId", BRAND_ID)
+            .when()
+                .get()
+            .then()
+                .statusCode(304);
+    }
+
+    @Test
+    @DisplayName("Test: Conditional GET - Should return the new price when another tariff applies")
+    void testModifiedAcrossBoundary() {
+        String etag = etagAt("2020-06-14T16:00:00");
+
+        given()
+                .header("If-None-Match", etag)
+                .queryParam("applicationDate", "2020-06-14T21:00:00")
+                .queryParam("productId", PRODUCT_ID)
+                .queryParam("brandId", BRAND_ID)
+            .when()
+                .get()
+            .then()
+                .statusCode(200)
+                .header("ETag", startsWith("\"1-"))
+                .body("priceList", equalTo(1));
+    }
+
+    private String etagAt(String applicationDate) {
+        return given()
+                .queryParam("applicationDate", applicationDate)
+                .queryParam("productId", PRODUCT_ID)
+                .queryParam("brandId", BRAND_ID)
+            .when()
+                .get()
+            .then()
+                .statusCode(200)
+                .extract().header("ETag");
+    }
+}
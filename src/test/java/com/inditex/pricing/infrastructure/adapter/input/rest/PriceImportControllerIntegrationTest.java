@@ -0,0 +1,214 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import com.inditex.pricing.infrastructure.adapter.input.rest.reader.PriceCsvReader;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.charset.StandardCharsets;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Integration tests for the tariff import endpoint.
+ * 
+ * Uses its own database and a small batch size, so that checkpoints are taken within
+ * the few rows of each test. Imported products are served once the PRICE_CHANGES outbox
+ * has been polled, which registers them in the product key filter.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:importdb",
+        "pricing.import.batch-size=2",
+        "pricing.changes.poll-interval=PT0.1S"
+})
+class PriceImportControllerIntegrationTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private static final String CSV = PriceCsvReader.HEADER + "\n"
+            + "1,2021-01-01T00:00:00,2021-12-31T23:59:59,7,90001,0,10.00,EUR\n"
+            + "1,2021-06-01T00:00:00,2021-06-30T23:59:59,8,90001,1,8.00,EUR\n"
+            + "1,2021-01-01T00:00:00,2021-12-31T23:59:59,7,90002,0,20.00,EUR\n";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api/prices";
+    }
+
+    @Test
+    @DisplayName("Test: CSV import - Should write the tariffs and serve them")
+    void testCsvImport() throws InterruptedException {
+        given()
+                .contentType(PriceImportController.CSV)
+                .body(CSV)
+            .when()
+                .post("/imports/csv-import")
+            .then()
+                .statusCode(200)
+                .body("importId", equalTo("csv-import"))
+                .body("importedRows", equalTo(3))
+                .body("committedRows", equalTo(3));
+
+        awaitPrice("2021-06-15T10:00:00", 90001, 1)
+            .then()
+                .statusCode(200)
+                .body("priceList", equalTo(8));
+        assertThat(outboxRows(90002)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Test: Import posted twice - Should skip the committed rows and keep one tariff per key")
+    void testReimportIsIdempotent() {
+        postCsv("repeated-import");
+        given()
+                .contentType(PriceImportController.CSV)
+                .body(CSV.replace("10.00", "11.00"))
+            .when()
+                .post("/imports/repeated-import")
+            .then()
+                .statusCode(200)
+                .body("skippedRows", equalTo(3))
+                .body("importedRows", equalTo(0));
+
+        given()
+                .contentType(PriceImportController.CSV)
+                .body(CSV.replace("10.00", "11.00"))
+            .when()
+                .post("/imports/another-import")
+            .then()
+                .statusCode(200)
+                .body("importedRows", equalTo(3));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM PRICES WHERE PRODUCT_ID IN (90001, 90002)", Integer.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT PRICE FROM PRICES WHERE PRODUCT_ID = 90001 AND PRICE_LIST = 7", Double.class)).isEqualTo(11.0);
+    }
+
+    @Test
+    @DisplayName("Test: NDJSON import - Should write the tariffs")
+    void testNdjsonImport() throws InterruptedException {
+        given()
+                .contentType(PriceImportController.NDJSON)
+                .body(("{\"brandId\": 2, \"startDate\": \"2021-01-01T00:00:00\", \"endDate\": \"2021-12-31T23:59:59\", "
+                        + "\"priceList\": 3, \"productId\": 90003, \"priority\": 0, \"price\": 5.25, \"currency\": \"USD\"}\n").getBytes(StandardCharsets.UTF_8))
+            .when()
+                .post("/imports/ndjson-import")
+            .then()
+                .statusCode(200)
+                .body("importedRows", equalTo(1));
+
+        awaitPrice("2021-03-01T00:00:00", 90003, 2)
+            .then()
+                .statusCode(200)
+                .body("currency", equalTo("USD"));
+    }
+
+    @Test
+    @DisplayName("Test: Invalid row - Should return 400 with the row and keep the committed batches")
+    void testInvalidRowStopsImport() {
+        String csv = CSV + "1,2021-12-31T00:00:00,2021-01-01T00:00:00,9,90004,0,1.00,EUR\n";
+
+        given()
+                .contentType(PriceImportController.CSV)
+                .body(csv)
+            .when()
+                .post("/imports/invalid-import")
+            .then()
+                .statusCode(400)
+                .body("error", equalTo("Invalid Price"))
+                .body("message", containsString("row 4"))
+                .body("message", containsString("2 rows committed"));
+
+        given()
+                .contentType(PriceImportController.CSV)
+                .body(CSV)
+            .when()
+                .post("/imports/invalid-import")
+            .then()
+                .statusCode(200)
+                .body("skippedRows", equalTo(2))
+                .body("importedRows", equalTo(1));
+    }
+
+    @Test
+    @DisplayName("Test: Price beyond DECIMAL(10, 2) - Should return 400 with the row instead of failing or rounding")
+    void testPriceOutOfPrecision() {
+        given()
+                .contentType(PriceImportController.CSV)
+                .body(PriceCsvReader.HEADER + "\n"
+                        + "1,2021-01-01T00:00:00,2021-12-31T23:59:59,7,90005,0,123456789.00,EUR\n")
+            .when()
+                .post("/imports/large-price-import")
+            .then()
+                .statusCode(400)
+                .body("message", containsString("row 1"))
+                .body("message", containsString("integer digits"));
+
+        given()
+                .contentType(PriceImportController.CSV)
+                .body(PriceCsvReader.HEADER + "\n"
+                        + "1,2021-01-01T00:00:00,2021-12-31T23:59:59,7,90005,0,10.50,EUR\n"
+                        + "1,2021-06-01T00:00:00,2021-06-30T23:59:59,8,90005,1,9.995,EUR\n")
+            .when()
+                .post("/imports/fraction-price-import")
+            .then()
+                .statusCode(400)
+                .body("message", containsString("row 2"))
+                .body("message", containsString("decimals"));
+    }
+
+    private Response awaitPrice(String applicationDate, long productId, long brandId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        Response response = getPrice(applicationDate, productId, brandId);
+        while (response.statusCode() == 404 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            response = getPrice(applicationDate, productId, brandId);
+        }
+        return response;
+    }
+
+    private Response getPrice(String applicationDate, long productId, long brandId) {
+        return given()
+                .queryParam("applicationDate", applicationDate)
+                .queryParam("productId", productId)
+                .queryParam("brandId", brandId)
+            .when()
+                .get();
+    }
+
+    private void postCsv(String importId) {
+        given()
+                .contentType(PriceImportController.CSV)
+                .body(CSV)
+            .when()
+                .post("/imports/" + importId)
+            .then()
+                .statusCode(200);
+    }
+
+    private int outboxRows(long productId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM PRICE_CHANGES WHERE PRODUCT_ID = ?", Integer.class, productId);
+    }
+}
@@ -0,0 +1,91 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Integration tests for the price timeline REST API endpoint.
+ * 
+ * Over June 14-16, 2020 product 35455 of brand 1 (ZARA) goes through the four sample tariffs,
+ * with price list 1 filling the gaps between the promotions: 1, 2, 1, 3, 1, 4.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class PriceTimelineControllerIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final String BASE_PATH = "/api/prices/timeline";
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = BASE_PATH;
+    }
+
+    @Test
+    @DisplayName("Timeline from June 14 to June 16, 2020 - Should return price lists 1, 2, 1, 3, 1, 4 clipped to the range")
+    void testTimelineOverThreeDays() {
+        given()
+            .queryParam("from", "2020-06-14T00:00:00")
+            .queryParam("to", "2020-06-16T23:59:59")
+            .queryParam("productId", PRODUCT_ID)
+            .queryParam("brandId", BRAND_ID)
+        .when()
+            .get()
+        .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("priceList", contains(1, 2, 1, 3, 1, 4))
+            .body("price", contains(35.50f, 25.45f, 35.50f, 30.50f, 35.50f, 38.95f))
+            .body("startDate", contains("2020-06-14-00.00.00", "2020-06-14-15.00.00", "2020-06-14-18.30.00",
+                    "2020-06-15-00.00.00", "2020-06-15-11.00.00", "2020-06-15-16.00.00"))
+            .body("endDate", contains("2020-06-14-14.59.59", "2020-06-14-18.30.00", "2020-06-14-23.59.59",
+                    "2020-06-15-11.00.00", "2020-06-15-15.59.59", "2020-06-16-23.59.59"))
+            .body("productId", everyItem(equalTo(PRODUCT_ID.intValue())))
+            .body("brandId", everyItem(equalTo(BRAND_ID.intValue())));
+    }
+
+    @Test
+    @DisplayName("Timeline without tariffs - Should return an empty array")
+    void testTimelineWithoutPrices() {
+        given()
+            .queryParam("from", "2019-01-01T00:00:00")
+            .queryParam("to", "2019-12-31T23:59:59")
+            .queryParam("productId", PRODUCT_ID)
+            .queryParam("brandId", BRAND_ID)
+        .when()
+            .get()
+        .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("$", empty());
+    }
+
+    @Test
+    @DisplayName("Timeline ending before it starts - Should return 400 Bad Request")
+    void testTimelineWithInvalidRange() {
+        given()
+            .queryParam("from", "2020-06-16T00:00:00")
+            .queryParam("to", "2020-06-14T00:00:00")
+            .queryParam("productId", PRODUCT_ID)
+            .queryParam("brandId", BRAND_ID)
+        .when()
+            .get()
+        .then()
+            .statusCode(400)
+            .body("error", equalTo("Invalid Date Range"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.inditex.pricing.infrastructure.adapter.input.rest.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.pricing.infrastructure.adapter.input.rest.dto.PriceResponse;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the PriceResponse JSON writer.
+ * 
+ * Compares its output with the ObjectMapper configured by Spring Boot, byte by byte,
+ * for the sample data served over HTTP and for edge values.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class PriceResponseHttpMessageConverterIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PriceResponseHttpMessageConverter converter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Test: Price endpoint - Should return the same JSON as Jackson")
+    void testEndpointMatchesJackson() throws Exception {
+        RestAssured.port = port;
+        byte[] body = given()
+                .basePath("/api/prices")
+                .queryParam("applicationDate", "2020-06-14T16:00:00")
+                .queryParam("productId", 35455)
+                .queryParam("brandId", 1)
+            .when()
+                .get()
+            .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .extract().asByteArray();
+
+        PriceResponse expected = new PriceResponse(35455L, 1L, 2L, LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30), new BigDecimal("25.45"), "EUR");
+        assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(expected));
+    }
+
+    @Test
+    @DisplayName("Test: Edge values - Should write the same bytes as Jackson")
+    void testEdgeValuesMatchJackson() throws Exception {
+        List<PriceResponse> responses = List.of(
+                new PriceResponse(0L, -1L, Long.MAX_VALUE, LocalDateTime.of(1, 1, 1, 0, 0),
+                        LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999), new BigDecimal("1E+3"), "EUR"),
+                new PriceResponse(Long.MIN_VALUE, 10L, 100L, LocalDateTime.of(999, 9, 9, 9, 9, 9),
+                        LocalDateTime.of(10000, 1, 1, 0, 0), new BigDecimal("-0.000001"), "E\"U\\R\n€"),
+                new PriceResponse(null, null, null, null, null, null, null)
+        );
+
+        for (PriceResponse response : responses) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            converter.writeJson(response, out);
+            assertThat(out.toByteArray()).isEqualTo(objectMapper.writeValueAsBytes(response));
+        }
+    }
+}
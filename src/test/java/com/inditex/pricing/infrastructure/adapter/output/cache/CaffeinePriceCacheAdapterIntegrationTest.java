@@ -0,0 +1,175 @@
+package com.inditex.pricing.infrastructure.adapter.output.cache;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceSegment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the segment cache, on a clock that the test moves forward.
+ * 
+ * The clock gives both the current date the boundaries are compared with and the cache ticker,
+ * so expiry at the end of a segment can be checked without waiting.
+ */
+class CaffeinePriceCacheAdapterIntegrationTest {
+
+    private static final PriceKey KEY = new PriceKey(1L, 35455L);
+    private static final LocalDateTime NOW = LocalDateTime.of(2020, 6, 14, 16, 0);
+    private static final LocalDateTime BOUNDARY = LocalDateTime.of(2020, 6, 14, 18, 30);
+    private static final Price PRICE = new Price(2L, 1L, LocalDateTime.of(2020, 6, 14, 15, 0), BOUNDARY,
+            2L, 35455L, 1, new BigDecimal("25.45"), "EUR");
+
+    private final MovableClock clock = new MovableClock(NOW);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CaffeinePriceCacheAdapter cache =
+            new CaffeinePriceCacheAdapter(meterRegistry, 100, Duration.ofHours(1), clock, false, Duration.ZERO);
+
+    @Test
+    @DisplayName("Test: Date inside the cached segment - Should hit")
+    void testHitInsideSegment() {
+        PriceSegment segment = new PriceSegment(PRICE.getStartDate(), BOUNDARY, PRICE);
+        cache.put(KEY, segment, cache.generation(KEY));
+
+        assertThat(cache.get(KEY, NOW)).containsSame(segment);
+        assertThat(cache.get(KEY, BOUNDARY.minusNanos(1))).containsSame(segment);
+        assertThat(hits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test: Date outside the cached segment - Should miss and count a miss")
+    void testMissOutsideSegment() {
+        cache.put(KEY, new PriceSegment(PRICE.getStartDate(), BOUNDARY, PRICE), cache.generation(KEY));
+
+        assertThat(cache.get(KEY, BOUNDARY)).isEmpty();
+        assertThat(cache.get(KEY, PRICE.getStartDate().minusSeconds(1))).isEmpty();
+        assertThat(cache.get(new PriceKey(1L, 1L), NOW)).isEmpty();
+        assertThat(hits()).isZero();
+        assertThat(misses()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Test: Period without price - Should be cached as a gap")
+    void testGapIsCached() {
+        PriceSegment gap = PriceSegment.gap(NOW.minusDays(1), NOW.plusDays(1));
+        cache.put(KEY, gap, cache.generation(KEY));
+
+        assertThat(cache.get(KEY, NOW)).hasValueSatisfying(cached -> assertThat(cached.hasPrice()).isFalse());
+    }
+
+    @Test
+    @DisplayName("Test: Segment ending before the time to live - Should expire at its boundary")
+    void testExpiresAtBoundary() {
+        clock.advance(Duration.ofHours(2));
+        cache.put(KEY, new PriceSegment(PRICE.getStartDate(), BOUNDARY, PRICE), cache.generation(KEY));
+
+        clock.advance(Duration.ofMinutes(30).minusSeconds(1));
+        assertThat(cache.get(KEY, BOUNDARY.minusSeconds(1))).isPresent();
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get(KEY, BOUNDARY.minusSeconds(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test: Segment ending after the time to live - Should expire after the time to live")
+    void testExpiresAfterTimeToLive() {
+        cache.put(KEY, new PriceSegment(NOW.minusDays(1), NOW.plusDays(1), PRICE), cache.generation(KEY));
+
+        clock.advance(Duration.ofMinutes(59));
+        assertThat(cache.get(KEY, NOW)).isPresent();
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(cache.get(KEY, NOW)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test: Tariffs of the product changed - Should invalidate its entry")
+    void testInvalidatedOnChange() {
+        cache.put(KEY, new PriceSegment(PRICE.getStartDate(), BOUNDARY, PRICE), cache.generation(KEY));
+
+        cache.onPricesChanged(Set.of(KEY));
+
+        assertThat(cache.get(KEY, NOW)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test: Segment queried before an invalidation - Should not be stored after it")
+    void testSkipsSegmentQueriedBeforeInvalidation() {
+        long generation = cache.generation(KEY);
+
+        cache.onPricesChanged(Set.of(KEY));
+        cache.put(KEY, new PriceSegment(PRICE.getStartDate(), BOUNDARY, PRICE), generation);
+
+        assertThat(cache.get(KEY, NOW)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test: Read replicas, segment stored right after an invalidation - Should expire once the replica lag has passed")
+    void testBoundsEntriesStoredWithinReplicaLag() {
+        CaffeinePriceCacheAdapter replicaCache =
+                new CaffeinePriceCacheAdapter(meterRegistry, 100, Duration.ofHours(1), clock, true, Duration.ofSeconds(5));
+        replicaCache.onPricesChanged(Set.of(KEY));
+        clock.advance(Duration.ofSeconds(2));
+
+        replicaCache.put(KEY, new PriceSegment(PRICE.getStartDate(), BOUNDARY, PRICE), replicaCache.generation(KEY));
+        assertThat(replicaCache.get(KEY, NOW)).isPresent();
+
+        clock.advance(Duration.ofSeconds(3));
+        assertThat(replicaCache.get(KEY, NOW)).isEmpty();
+
+        replicaCache.put(KEY, new PriceSegment(PRICE.getStartDate(), BOUNDARY, PRICE), replicaCache.generation(KEY));
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(replicaCache.get(KEY, NOW)).isPresent();
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "prices").tag("result", "hit").functionCounter().count();
+    }
+
+    private double misses() {
+        return meterRegistry.get("cache.gets").tag("cache", "prices").tag("result", "miss").functionCounter().count();
+    }
+
+    /**
+     * Clock that only moves when told to.
+     */
+    private static final class MovableClock extends Clock {
+
+        private Instant instant;
+
+        MovableClock(LocalDateTime start) {
+            this.instant = start.toInstant(ZoneOffset.UTC);
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.inditex.pricing.infrastructure.adapter.output.memory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the hot reload of the in-memory price snapshot.
+ * 
+ * Writes a tariff and its PRICE_CHANGES outbox row straight to the database, as an external
+ * writer would, and checks the API serves it without a restart. Uses its own database, since
+ * the test changes the sample data. The changed timeline is folded straight into the columns
+ * ({@code pricing.snapshot.max-overlay=0}).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:snapshotdb",
+        "pricing.repository.type=in-memory",
+        "pricing.changes.poll-interval=PT0.1S",
+        "pricing.snapshot.max-overlay=0"
+})
+class PriceSnapshotRefreshIntegrationTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Test: Tariff added with an outbox row - Should be served after the next poll")
+    void testNewTariffIsServedWithoutRestart() throws InterruptedException {
+        RestAssured.port = port;
+        assertThat(priceListAt("2020-06-14T10:00:00")).isEqualTo(1);
+
+        jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) " +
+                "VALUES (1, '2020-06-14 00:00:00', '2020-06-14 23:59:59', 9, 35455, 5, 19.99, 'EUR')");
+        jdbcTemplate.update("INSERT INTO PRICE_CHANGES (BRAND_ID, PRODUCT_ID) VALUES (1, 35455)");
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (priceListAt("2020-06-14T10:00:00") != 9 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(priceListAt("2020-06-14T10:00:00")).isEqualTo(9);
+        assertThat(priceListAt("2020-06-15T10:00:00")).isEqualTo(3);
+        assertThat(meterRegistry.get("pricing.snapshot.rebuild").tag("type", "incremental").timer().count())
+                .isPositive();
+    }
+
+    private int priceListAt(String applicationDate) {
+        return given()
+                .basePath("/api/prices")
+                .queryParam("applicationDate", applicationDate)
+                .queryParam("productId", 35455)
+                .queryParam("brandId", 1)
+            .when()
+                .get()
+            .then()
+                .statusCode(200)
+                .extract().path("priceList");
+    }
+}
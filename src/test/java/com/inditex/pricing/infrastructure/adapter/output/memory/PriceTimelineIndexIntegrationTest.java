@@ -0,0 +1,165 @@
+package com.inditex.pricing.infrastructure.adapter.output.memory;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.model.PriceTimeline;
+import com.inditex.pricing.domain.service.PriceTimelineResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the compact encoding of the in-memory interval index.
+ * 
+ * Resolves random catalogues, with overlaps, gaps, priority ties and fractional seconds,
+ * both as object timelines and through the columnar store, and checks that every lookup
+ * returns the same segment and price. The store is also checked after a roundtrip through a
+ * memory-mapped file.
+ */
+class PriceTimelineIndexIntegrationTest {
+
+    private static final LocalDateTime SEASON_START = LocalDateTime.of(2020, 6, 1, 0, 0);
+    private static final int SEASON_HOURS = 24 * 30;
+    private static final String[] CURRENCIES = {"EUR", "USD", "GBP"};
+
+    @Test
+    @DisplayName("Test: Random catalogue - Compact index should resolve like the object timelines")
+    void testCompactIndexMatchesTimelines() {
+        SplittableRandom random = new SplittableRandom(42L);
+        Map<PriceKey, List<Price>> pricesByKey = randomCatalogue(random, 300);
+        PriceTimelineIndex index = PriceTimelineIndex.of(pricesByKey.values().stream().flatMap(List::stream).toList());
+
+        assertThat(index.size()).isEqualTo(pricesByKey.size());
+        assertThat(index.getStore().tariffCount())
+                .isLessThanOrEqualTo(pricesByKey.values().stream().mapToInt(List::size).sum());
+        pricesByKey.forEach((key, prices) -> assertSameLookups(index, key, PriceTimelineResolver.resolve(prices), random));
+        assertThat(index.segmentAt(new PriceKey(9L, 9L), SEASON_START).hasPrice()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test: Changed and removed products - Should shadow the compact store")
+    void testChangedTimelinesShadowStore() {
+        SplittableRandom random = new SplittableRandom(7L);
+        Map<PriceKey, List<Price>> pricesByKey = randomCatalogue(random, 20);
+        PriceTimelineIndex index = PriceTimelineIndex.of(pricesByKey.values().stream().flatMap(List::stream).toList());
+        PriceKey changed = pricesByKey.keySet().iterator().next();
+        PriceKey removed = pricesByKey.keySet().stream().skip(1).findFirst().orElseThrow();
+        PriceKey added = new PriceKey(99L, 99L);
+        List<Price> changedPrices = randomPrices(random, changed, 1000);
+        List<Price> addedPrices = randomPrices(random, added, 2000);
+
+        PriceTimelineIndex updated = index.withTimelines(Map.of(changed, changedPrices, removed, List.of(), added, addedPrices));
+
+        assertThat(updated.size()).isEqualTo(index.size());
+        assertSameLookups(updated, changed, PriceTimelineResolver.resolve(changedPrices), random);
+        assertSameLookups(updated, added, PriceTimelineResolver.resolve(addedPrices), random);
+        assertThat(updated.timelineOf(removed).size()).isZero();
+        assertSameLookups(index, removed, PriceTimelineResolver.resolve(pricesByKey.get(removed)), random);
+    }
+
+    @Test
+    @DisplayName("Test: Compacted index - Should fold the changed timelines into the store and resolve the same")
+    void testCompactedIndexFoldsOverlay() {
+        SplittableRandom random = new SplittableRandom(13L);
+        Map<PriceKey, List<Price>> pricesByKey = randomCatalogue(random, 50);
+        PriceTimelineIndex index = PriceTimelineIndex.of(pricesByKey.values().stream().flatMap(List::stream).toList());
+        PriceKey changed = pricesByKey.keySet().iterator().next();
+        PriceKey removed = pricesByKey.keySet().stream().skip(1).findFirst().orElseThrow();
+        PriceKey added = new PriceKey(99L, 99L);
+        Map<PriceKey, List<Price>> current = new HashMap<>(pricesByKey);
+        current.put(changed, randomPrices(random, changed, 1000));
+        current.put(added, randomPrices(random, added, 2000));
+        current.remove(removed);
+
+        PriceTimelineIndex updated = index.withTimelines(Map.of(changed, current.get(changed), removed, List.of(),
+                added, current.get(added)));
+        PriceTimelineIndex compacted = updated.compacted();
+
+        assertThat(updated.overlaySize()).isEqualTo(3);
+        assertThat(compacted.overlaySize()).isZero();
+        assertThat(compacted.size()).isEqualTo(updated.size());
+        assertThat(compacted.getStore().size()).isEqualTo(current.size());
+        current.forEach((key, prices) -> assertSameLookups(compacted, key, PriceTimelineResolver.resolve(prices), random));
+        assertThat(compacted.timelineOf(removed).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test: Store written to a file - Mapped store should resolve like the heap store")
+    void testMappedStoreMatchesTimelines(@TempDir Path directory) throws IOException {
+        SplittableRandom random = new SplittableRandom(11L);
+        Map<PriceKey, List<Price>> pricesByKey = randomCatalogue(random, 300);
+        PriceTimelineIndex heap = PriceTimelineIndex.of(pricesByKey.values().stream().flatMap(List::stream).toList());
+        Path file = directory.resolve("prices.tariffs");
+
+        CompactPriceStoreFile.write(heap.getStore(), 42L, file);
+        CompactPriceStoreFile mapped = CompactPriceStoreFile.map(file);
+        PriceTimelineIndex index = PriceTimelineIndex.of(mapped.getStore());
+
+        assertThat(mapped.getChangeId()).isEqualTo(42L);
+        assertThat(index.size()).isEqualTo(heap.size());
+        assertThat(index.getStore().footprintBytes()).isEqualTo(heap.getStore().footprintBytes());
+        pricesByKey.forEach((key, prices) -> assertSameLookups(index, key, PriceTimelineResolver.resolve(prices), random));
+        assertThat(index.segmentAt(new PriceKey(9L, 9L), SEASON_START).hasPrice()).isFalse();
+    }
+
+    private static void assertSameLookups(PriceTimelineIndex index, PriceKey key, PriceTimeline expected,
+                                          SplittableRandom random) {
+        assertThat(index.timelineOf(key).getSegments()).usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(expected.getSegments());
+        List<LocalDateTime> dates = new ArrayList<>();
+        for (PriceSegment segment : expected.getSegments()) {
+            dates.add(segment.getFrom());
+            dates.add(segment.getFrom().minusNanos(1));
+            dates.add(segment.getUntil());
+            dates.add(segment.getUntil().minusNanos(1));
+        }
+        for (int i = 0; i < 50; i++) {
+            dates.add(SEASON_START.minusHours(24).plusMinutes(random.nextInt((SEASON_HOURS + 48) * 60)));
+        }
+        for (LocalDateTime date : dates) {
+            assertThat(index.segmentAt(key, date)).as("%s at %s", key, date)
+                    .usingRecursiveComparison().isEqualTo(expected.segmentAt(date));
+            assertThat(index.findSegment(key, date).isPresent()).isEqualTo(expected.findSegment(date).isPresent());
+            assertThat(index.findPrice(key, date)).usingRecursiveComparison()
+                    .isEqualTo(expected.findSegment(date).map(PriceSegment::getPrice));
+        }
+    }
+
+    private static Map<PriceKey, List<Price>> randomCatalogue(SplittableRandom random, int products) {
+        Map<PriceKey, List<Price>> pricesByKey = new HashMap<>();
+        for (int product = 0; product < products; product++) {
+            PriceKey key = new PriceKey(1L + random.nextInt(3), 35000L + product);
+            pricesByKey.put(key, randomPrices(random, key, product * 10L));
+        }
+        return pricesByKey;
+    }
+
+    private static List<Price> randomPrices(SplittableRandom random, PriceKey key, long firstId) {
+        List<Price> prices = new ArrayList<>();
+        int tariffs = 1 + random.nextInt(6);
+        for (int i = 0; i < tariffs; i++) {
+            LocalDateTime start = SEASON_START.plusHours(random.nextInt(SEASON_HOURS));
+            if (random.nextInt(4) == 0) {
+                start = start.plusNanos(random.nextInt(1_000_000_000));
+            }
+            LocalDateTime end = start.plusHours(1 + random.nextInt(240)).minusSeconds(1);
+            prices.add(new Price(firstId + i, key.getBrandId(), start, end, 1L + i, key.getProductId(),
+                    random.nextInt(3), BigDecimal.valueOf(random.nextInt(100_000), 2),
+                    CURRENCIES[random.nextInt(CURRENCIES.length)]));
+        }
+        return prices;
+    }
+}
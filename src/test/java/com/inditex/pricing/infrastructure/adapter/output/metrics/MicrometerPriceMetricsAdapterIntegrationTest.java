@@ -0,0 +1,96 @@
+package com.inditex.pricing.infrastructure.adapter.output.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+/**
+ * Integration tests for the price lookup metrics.
+ * 
+ * Checks the outcome counters per brand, the cap on brand tags and the latency histograms
+ * exposed on the Prometheus scrape endpoint, whose registry Spring Boot only enables in tests on request.
+ * Brand tags are capped at one to exercise the overflow.
+ */
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "pricing.metrics.max-brands=1")
+class MicrometerPriceMetricsAdapterIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "";
+    }
+
+    @Test
+    @DisplayName("Test: Found and not found lookups - Should be counted per brand, up to the brand cap")
+    void testOutcomesAreCountedPerBrand() {
+        double found = outcomeCount("1", "found");
+        double notFound = outcomeCount("1", "not_found");
+        double other = outcomeCount("other", "not_found");
+
+        lookup(35455, 1, 200);
+        lookup(99999, 1, 404);
+        lookup(35455, 2, 404);
+
+        assertThat(outcomeCount("1", "found")).isEqualTo(found + 1);
+        assertThat(outcomeCount("1", "not_found")).isEqualTo(notFound + 1);
+        assertThat(outcomeCount("other", "not_found")).isEqualTo(other + 1);
+        assertThat(meterRegistry.find("pricing.lookup.result").tag("brand", "2").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Test: Prometheus endpoint - Should expose the latency histogram of every lookup stage")
+    void testPrometheusEndpointExposesHistograms() {
+        lookup(35455, 1, 200);
+
+        given()
+            .when()
+                .get("/actuator/prometheus")
+            .then()
+                .statusCode(200)
+                .body(containsString("pricing_lookup_seconds_bucket{layer=\"controller\""))
+                .body(containsString("pricing_lookup_seconds_bucket{layer=\"service\""))
+                .body(containsString("pricing_lookup_seconds_bucket{layer=\"repository\""))
+                .body(containsString("pricing_lookup_seconds_bucket{layer=\"mapping\""))
+                .body(containsString("pricing_lookup_seconds_bucket{layer=\"serialization\""))
+                .body(containsString("pricing_lookup_result_total{brand=\"1\",outcome=\"found\""));
+    }
+
+    private void lookup(long productId, long brandId, int expectedStatus) {
+        given()
+                .basePath("/api/prices")
+                .queryParam("applicationDate", "2020-06-14T10:00:00")
+                .queryParam("productId", productId)
+                .queryParam("brandId", brandId)
+            .when()
+                .get()
+            .then()
+                .statusCode(expectedStatus);
+    }
+
+    private double outcomeCount(String brand, String outcome) {
+        Counter counter = meterRegistry.find("pricing.lookup.result").tag("brand", brand).tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,58 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.PriceKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the known products filter as the catalogue grows.
+ * 
+ * Uses its own database and a filter sized for 4 products, so registering new products from
+ * the PRICE_CHANGES outbox soon goes over its capacity.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:keyfilterdb",
+        "pricing.key-filter.minimum-capacity=4"
+})
+class BloomFilterPriceKeyAdapterIntegrationTest {
+
+    private static final Long BRAND_ID = 1L;
+    private static final long FIRST_PRODUCT_ID = 70000L;
+    private static final int NEW_PRODUCTS = 20;
+
+    @Autowired
+    private BloomFilterPriceKeyAdapter keyFilter;
+
+    @Autowired
+    private PriceChangeOutboxPoller poller;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Test: New products beyond the capacity - Should be registered and rebuild a larger filter")
+    void testRebuildsWhenSaturated() {
+        long capacity = keyFilter.capacity();
+        for (long productId = FIRST_PRODUCT_ID; productId < FIRST_PRODUCT_ID + NEW_PRODUCTS; productId++) {
+            jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) "
+                    + "VALUES (?, '2020-01-01 00:00:00', '2020-12-31 23:59:59', 1, ?, 0, 10.00, 'EUR')", BRAND_ID, productId);
+            jdbcTemplate.update("INSERT INTO PRICE_CHANGES (BRAND_ID, PRODUCT_ID) VALUES (?, ?)", BRAND_ID, productId);
+        }
+
+        poller.poll();
+
+        assertThat(keyFilter.capacity()).isGreaterThan(capacity);
+        for (long productId = FIRST_PRODUCT_ID; productId < FIRST_PRODUCT_ID + NEW_PRODUCTS; productId++) {
+            assertThat(keyFilter.mightContain(new PriceKey(BRAND_ID, productId))).isTrue();
+        }
+    }
+}
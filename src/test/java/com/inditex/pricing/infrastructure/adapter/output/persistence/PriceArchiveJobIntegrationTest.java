@@ -0,0 +1,247 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import com.inditex.pricing.domain.port.output.PriceWriteRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the archive of expired tariffs with the plain JDBC read path.
+ * 
+ * Uses its own database: the sample tariffs of 2020 and an extra expired one are archived in
+ * batches of two, while a tariff of product 90201 that never ends stays in PRICES.
+ * The horizon tests run their own archive and job on a clock that only moves when told to, sharing
+ * the horizon of the database with the archive of the application like another instance would.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archivejobdb",
+        "pricing.repository.type=jdbc",
+        "pricing.archive.enabled=true",
+        "pricing.archive.batch-size=2",
+        "pricing.archive.pause=PT0S",
+        "pricing.archive.initial-delay=PT1H"
+})
+class PriceArchiveJobIntegrationTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    @Autowired
+    private PriceArchiveJob priceArchiveJob;
+
+    @Autowired
+    private PriceArchive priceArchive;
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private PriceWriteRepositoryPort priceWriteRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("UPDATE PRICE_ARCHIVE_HORIZON SET HORIZON = TIMESTAMP '1970-01-01 00:00:00'");
+        jdbcTemplate.update("DELETE FROM PRICES_ARCHIVE");
+        jdbcTemplate.update("DELETE FROM PRICES");
+        jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) VALUES "
+                + "(1, '2020-06-14 00:00:00', '2020-12-31 23:59:59', 1, 35455, 0, 35.50, 'EUR'), "
+                + "(1, '2020-06-14 15:00:00', '2020-06-14 18:30:00', 2, 35455, 1, 25.45, 'EUR'), "
+                + "(1, '2020-06-15 00:00:00', '2020-06-15 11:00:00', 3, 35455, 1, 30.50, 'EUR'), "
+                + "(1, '2020-06-15 16:00:00', '2020-12-31 23:59:59', 4, 35455, 1, 38.95, 'EUR'), "
+                + "(1, '2019-01-01 00:00:00', '2019-12-31 23:59:59', 5, 90201, 0, 10.00, 'EUR'), "
+                + "(1, '2020-01-01 00:00:00', '9999-12-31 23:59:59', 6, 90201, 0, 12.00, 'EUR')");
+    }
+
+    @Test
+    @DisplayName("Test: Archive job - Should move every expired tariff in batches and keep the live ones")
+    void testArchiveMovesExpiredTariffs() {
+        double movedBefore = meterRegistry.counter("pricing.archive.moved").count();
+
+        assertThat(priceArchiveJob.archive()).isEqualTo(5);
+        assertThat(priceArchiveJob.archive()).isZero();
+
+        assertThat(jdbcTemplate.queryForList("SELECT PRICE_LIST FROM PRICES", Long.class)).containsExactly(6L);
+        assertThat(jdbcTemplate.queryForList("SELECT PRICE_LIST FROM PRICES_ARCHIVE ORDER BY PRICE_LIST", Long.class))
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(meterRegistry.counter("pricing.archive.moved").count() - movedBefore).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Test: Archive routing - Should resolve past dates from the archive as before archiving")
+    void testHistoricalLookups() {
+        priceArchiveJob.archive();
+
+        assertThat(priceRepositoryPort.findApplicablePrice(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID))
+                .map(Price::getPriceList).contains(2L);
+        assertThat(priceRepositoryPort.findApplicablePrice(LocalDateTime.of(2019, 6, 1, 0, 0), 90201L, BRAND_ID))
+                .map(Price::getPriceList).contains(5L);
+
+        PriceSegment segment = priceRepositoryPort.findSegment(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID);
+        assertThat(segment.getFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+        assertThat(segment.getPrice().getPriceList()).isEqualTo(2L);
+
+        PriceQuery past = new PriceQuery(LocalDateTime.of(2020, 6, 15, 10, 0), PRODUCT_ID, BRAND_ID);
+        PriceQuery live = new PriceQuery(LocalDateTime.now(), 90201L, BRAND_ID);
+        Map<PriceQuery, Price> prices = priceRepositoryPort.findApplicablePrices(List.of(past, live));
+        assertThat(prices.get(past).getPriceList()).isEqualTo(3L);
+        assertThat(prices.get(live).getPriceList()).isEqualTo(6L);
+
+        List<Long> timeline = new ArrayList<>();
+        priceRepositoryPort.findTimeline(LocalDateTime.of(2019, 12, 31, 0, 0), LocalDateTime.of(2020, 1, 1, 12, 0),
+                90201L, BRAND_ID, s -> timeline.add(s.hasPrice() ? s.getPrice().getPriceList() : null));
+        assertThat(timeline).containsExactly(5L, 6L);
+    }
+
+    @Test
+    @DisplayName("Test: Archive routing - Should not extend a segment read from PRICES alone before the horizon")
+    void testLiveSegmentStartsAtHorizon() {
+        priceArchiveJob.archive();
+
+        PriceSegment segment = priceRepositoryPort.findSegment(LocalDateTime.now(), 90201L, BRAND_ID);
+
+        assertThat(segment.getPrice().getPriceList()).isEqualTo(6L);
+        assertThat(segment.getFrom()).isAfterOrEqualTo(priceArchive.horizon());
+    }
+
+    @Test
+    @DisplayName("Test: Archive horizon - Should read the clock once per run and advance the shared horizon before moving")
+    void testHorizonMovesOnlyWithRuns() {
+        MovableClock clock = new MovableClock(LocalDateTime.of(2021, 6, 30, 23, 59, 59));
+        PriceArchive archive = new PriceArchive(dataSource, Period.ofYears(1), clock);
+        PriceArchiveJob job = new PriceArchiveJob(dataSource, archive, meterRegistry, 2, Duration.ZERO);
+
+        assertThat(job.archive()).isEqualTo(3);
+
+        assertThat(archive.horizon()).isEqualTo(LocalDateTime.of(2020, 6, 30, 0, 0));
+        assertThat(jdbcTemplate.queryForList("SELECT PRICE_LIST FROM PRICES_ARCHIVE ORDER BY PRICE_LIST", Long.class))
+                .containsExactly(2L, 3L, 5L);
+
+        clock.advance(Duration.ofSeconds(1));
+
+        assertThat(archive.nextHorizon()).isEqualTo(LocalDateTime.of(2020, 7, 1, 0, 0));
+        assertThat(archive.horizon()).isEqualTo(LocalDateTime.of(2020, 6, 30, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Test: Archive horizon - Should never move the shared horizon back")
+    void testHorizonNeverMovesBack() {
+        PriceArchive archive = new PriceArchive(dataSource, Period.ofYears(1),
+                new MovableClock(LocalDateTime.of(2021, 6, 30, 12, 0)));
+
+        assertThat(archive.advance(LocalDateTime.of(2020, 7, 1, 0, 0))).isTrue();
+        assertThat(archive.advance(LocalDateTime.of(2020, 6, 1, 0, 0))).isFalse();
+
+        assertThat(archive.horizon()).isEqualTo(LocalDateTime.of(2020, 7, 1, 0, 0));
+        assertThat(priceArchive.horizon()).isEqualTo(LocalDateTime.of(2020, 7, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Test: Archive routing - Should resolve tariffs archived by another instance with its own clock")
+    void testLookupsSeeTariffsArchivedByAnotherInstance() {
+        PriceArchive otherArchive = new PriceArchive(dataSource, Period.ofYears(1),
+                new MovableClock(LocalDateTime.of(2021, 7, 1, 12, 0)));
+        new PriceArchiveJob(dataSource, otherArchive, meterRegistry, 2, Duration.ZERO).archive();
+
+        assertThat(jdbcTemplate.queryForList("SELECT PRICE_LIST FROM PRICES_ARCHIVE ORDER BY PRICE_LIST", Long.class))
+                .containsExactly(2L, 3L, 5L);
+        assertThat(priceRepositoryPort.findApplicablePrice(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID))
+                .map(Price::getPriceList).contains(2L);
+        assertThat(priceRepositoryPort.findSegment(LocalDateTime.of(2020, 6, 15, 10, 0), PRODUCT_ID, BRAND_ID)
+                .getPrice().getPriceList()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Test: Archive routing - Should read PRICES_ARCHIVE only before the shared horizon")
+    void testArchiveReadOnlyBeforeHorizon() {
+        priceArchive.advance(LocalDateTime.of(2020, 7, 1, 0, 0));
+        jdbcTemplate.update("INSERT INTO PRICES_ARCHIVE (ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) "
+                + "VALUES (1000, 1, '2020-01-01 00:00:00', '2020-12-31 23:59:59', 7, 90201, 9, 99.99, 'EUR')");
+
+        assertThat(priceRepositoryPort.findApplicablePrice(LocalDateTime.of(2020, 6, 30, 12, 0), 90201L, BRAND_ID))
+                .map(Price::getPriceList).contains(7L);
+        assertThat(priceRepositoryPort.findApplicablePrice(LocalDateTime.of(2020, 7, 1, 0, 0), 90201L, BRAND_ID))
+                .map(Price::getPriceList).contains(6L);
+    }
+
+    @Test
+    @DisplayName("Test: Archive import - Should replace the archived copy of a tariff imported again")
+    void testImportReplacesArchivedTariff() {
+        priceArchiveJob.archive();
+
+        priceWriteRepositoryPort.saveBatch("archived-reimport", List.of(new Price(null, BRAND_ID,
+                LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30),
+                2L, PRODUCT_ID, 1, new BigDecimal("19.99"), "EUR")), 1);
+
+        assertThat(jdbcTemplate.queryForList("SELECT PRICE_LIST FROM PRICES_ARCHIVE ORDER BY PRICE_LIST", Long.class))
+                .containsExactly(1L, 3L, 4L, 5L);
+        assertThat(priceRepositoryPort.findApplicablePrice(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID))
+                .map(Price::getPrice).contains(new BigDecimal("19.99"));
+    }
+
+    /**
+     * Clock that only moves when told to.
+     */
+    private static final class MovableClock extends Clock {
+
+        private Instant instant;
+
+        MovableClock(LocalDateTime start) {
+            this.instant = start.toInstant(ZoneOffset.UTC);
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
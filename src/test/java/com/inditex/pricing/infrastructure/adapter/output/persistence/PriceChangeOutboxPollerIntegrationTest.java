@@ -0,0 +1,159 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.PriceKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the PRICE_CHANGES outbox poller with overlapping writers.
+ * 
+ * Uses its own database, and a listener that records the products it is notified of.
+ * A second listener commits a change right after loading, before the poller starts.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outboxpollerdb",
+        "pricing.changes.poll-interval=PT1H"
+})
+class PriceChangeOutboxPollerIntegrationTest {
+
+    private static final Long BRAND_ID = 1L;
+    private static final PriceKey CHANGED_WHILE_LOADING = new PriceKey(BRAND_ID, 81000L);
+
+    @Autowired
+    private PriceChangeOutboxPoller poller;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Autowired
+    private LoadingListener loadingListener;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        poller.poll();
+        listener.keys.clear();
+    }
+
+    @Test
+    @DisplayName("Test: Lower CHANGE_ID committed after a higher one - Should still be applied")
+    void testAppliesChangeCommittedAfterHigherId() throws SQLException {
+        PriceKey first = new PriceKey(BRAND_ID, 81001L);
+        PriceKey second = new PriceKey(BRAND_ID, 81002L);
+
+        try (Connection firstWriter = dataSource.getConnection();
+             Connection secondWriter = dataSource.getConnection()) {
+            firstWriter.setAutoCommit(false);
+            secondWriter.setAutoCommit(false);
+
+            insertChange(firstWriter, first);
+            insertChange(secondWriter, second);
+            secondWriter.commit();
+
+            poller.poll();
+            assertThat(listener.keys).containsExactly(second);
+
+            firstWriter.commit();
+        }
+
+        poller.poll();
+        assertThat(listener.keys).containsExactlyInAnyOrder(first, second);
+    }
+
+    @Test
+    @DisplayName("Test: Rolled back writer - Should not block the changes written after it")
+    void testRolledBackWriterLeavesGap() throws SQLException {
+        PriceKey rolledBack = new PriceKey(BRAND_ID, 81003L);
+        PriceKey committed = new PriceKey(BRAND_ID, 81004L);
+
+        try (Connection firstWriter = dataSource.getConnection();
+             Connection secondWriter = dataSource.getConnection()) {
+            firstWriter.setAutoCommit(false);
+            insertChange(firstWriter, rolledBack);
+            insertChange(secondWriter, committed);
+            firstWriter.rollback();
+        }
+
+        poller.poll();
+        poller.poll();
+        assertThat(listener.keys).containsExactly(committed);
+    }
+
+    @Test
+    @DisplayName("Test: Change committed after a listener loaded, before the poller started - Should be replayed")
+    void testReplaysChangeCommittedWhileListenersLoad() {
+        assertThat(loadingListener.keys).contains(CHANGED_WHILE_LOADING);
+    }
+
+    private static void insertChange(Connection connection, PriceKey key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO PRICE_CHANGES (BRAND_ID, PRODUCT_ID) VALUES (?, ?)")) {
+            statement.setLong(1, key.getBrandId());
+            statement.setLong(2, key.getProductId());
+            statement.executeUpdate();
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingListenerConfiguration {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+
+        @Bean
+        LoadingListener loadingListener(DataSource dataSource) throws SQLException {
+            return new LoadingListener(dataSource);
+        }
+    }
+
+    static class RecordingListener implements PriceChangeListener {
+
+        private final Set<PriceKey> keys = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void onPricesChanged(Set<PriceKey> changed) {
+            keys.addAll(changed);
+        }
+    }
+
+    /**
+     * Listener whose state is loaded when it is created; another writer commits a change right after.
+     */
+    static class LoadingListener implements PriceChangeListener {
+
+        private final Set<PriceKey> keys = ConcurrentHashMap.newKeySet();
+
+        LoadingListener(DataSource dataSource) throws SQLException {
+            try (Connection writer = dataSource.getConnection()) {
+                insertChange(writer, CHANGED_WHILE_LOADING);
+            }
+        }
+
+        @Override
+        public void onPricesChanged(Set<PriceKey> changed) {
+            keys.addAll(changed);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.infrastructure.adapter.output.persistence.repository.JpaPriceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the execution plan of the lookup queries.
+ * 
+ * Guards the contract between {@link JpaPriceRepository#APPLICABLE_PRICE_QUERY} and the
+ * idx_price_lookup covering index: a change to either that reintroduces a sort fails here.
+ * Also checks that the date-bounded segment lookup and the batch lookup seek the same index.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PriceQueryPlanIntegrationTest {
+
+    private static final String JDBC_APPLICABLE_PRICE_QUERY =
+            JpaPriceRepository.APPLICABLE_PRICE_QUERY.replaceAll(":\\w+", "?");
+
+    private static final String JDBC_TIMELINE_PRICES_QUERY =
+            JdbcPriceRepositoryAdapter.TIMELINE_PRICES_QUERY.replaceAll(":\\w+", "?");
+
+    private static final String JDBC_CANDIDATE_PRICES_QUERY = JpaPriceRepository.CANDIDATE_PRICES_QUERY
+            .replace(":keys", "(?, ?, ?, ?), (?, ?, ?, ?)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Test: Applicable price query - Should use the covering index without sorting")
+    void testApplicablePriceQueryUsesCoveringIndex() {
+        Timestamp applicationDate = Timestamp.valueOf(LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + JDBC_APPLICABLE_PRICE_QUERY, String.class,
+                1L, 35455L, applicationDate, applicationDate);
+
+        assertThat(plan)
+                .contains("IDX_PRICE_LOOKUP")
+                .contains("/* index sorted */");
+    }
+
+    @Test
+    @DisplayName("Test: Segment query - Should seek the lookup index within the date window")
+    void testSegmentQueryUsesLookupIndex() {
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + JDBC_TIMELINE_PRICES_QUERY, String.class,
+                1L, 35455L, Timestamp.valueOf(applicationDate.plus(SegmentWindow.REACH)),
+                Timestamp.valueOf(applicationDate.minus(SegmentWindow.REACH)));
+
+        assertThat(plan).contains("IDX_PRICE_LOOKUP");
+    }
+
+    @Test
+    @DisplayName("Test: Candidate prices query - Should seek the lookup index per product within its own dates")
+    void testCandidatePricesQuerySeeksEachProduct() {
+        Timestamp june = Timestamp.valueOf(LocalDateTime.of(2020, 6, 14, 16, 0));
+        Timestamp december = Timestamp.valueOf(LocalDateTime.of(2020, 12, 31, 0, 0));
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + JDBC_CANDIDATE_PRICES_QUERY, String.class,
+                1L, 35455L, june, june, 2L, 35456L, december, december);
+
+        assertThat(plan)
+                .contains("IDX_PRICE_LOOKUP: BRAND_ID = K.KEY_BRAND_ID")
+                .contains("AND PRODUCT_ID = K.KEY_PRODUCT_ID")
+                .contains("AND START_DATE <= K.KEY_UNTIL");
+    }
+}
@@ -0,0 +1,61 @@
+package com.inditex.pricing.infrastructure.adapter.output.persistence;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.PriceSegment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the batch lookups of the JPA adapter, which join the sample tariffs to
+ * the requested products, each over the dates of its own lookups.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PriceRepositoryAdapterIntegrationTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    @Autowired
+    private PriceRepositoryAdapter priceRepositoryAdapter;
+
+    @Test
+    @DisplayName("Test: Batch lookup - Should resolve each product at its own dates")
+    void testFindApplicablePrices() {
+        PriceQuery afternoon = new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID);
+        PriceQuery later = new PriceQuery(LocalDateTime.of(2020, 6, 16, 21, 0), PRODUCT_ID, BRAND_ID);
+        PriceQuery otherBrand = new PriceQuery(LocalDateTime.of(2020, 6, 16, 21, 0), PRODUCT_ID, 2L);
+        PriceQuery missing = new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), 99999L, BRAND_ID);
+
+        Map<PriceQuery, Price> prices = priceRepositoryAdapter.findApplicablePrices(
+                List.of(afternoon, later, otherBrand, missing));
+
+        assertThat(prices).containsOnlyKeys(afternoon, later);
+        assertThat(prices.get(afternoon).getPriceList()).isEqualTo(2L);
+        assertThat(prices.get(later).getPriceList()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Test: Batch segment lookup - Should resolve the segments within the window of each product")
+    void testFindSegments() {
+        PriceQuery afternoon = new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID);
+        PriceQuery missing = new PriceQuery(LocalDateTime.of(2021, 1, 1, 0, 0), 99999L, BRAND_ID);
+
+        Map<PriceQuery, PriceSegment> segments = priceRepositoryAdapter.findSegments(List.of(afternoon, missing));
+
+        assertThat(segments.get(afternoon).getFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+        assertThat(segments.get(afternoon).getPrice().getPriceList()).isEqualTo(2L);
+        assertThat(segments.get(missing).hasPrice()).isFalse();
+        assertThat(segments.get(missing).getFrom()).isEqualTo(LocalDateTime.of(2020, 12, 31, 0, 0));
+    }
+}
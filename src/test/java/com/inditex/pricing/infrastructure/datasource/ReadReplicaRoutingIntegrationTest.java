@@ -0,0 +1,89 @@
+package com.inditex.pricing.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Integration tests for the routing of read-only lookups to the read replicas.
+ * 
+ * The first replica is a second pool on the primary H2 database, standing in for a replica;
+ * the second one points to a server that does not exist, so it must be ejected and its reads
+ * served by the first one. The cache is disabled so every lookup reaches the database.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingdb",
+        "pricing.cache.enabled=false",
+        "pricing.read-replicas.enabled=true",
+        "pricing.read-replicas.replicas[0].url=jdbc:h2:mem:routingdb",
+        "pricing.read-replicas.replicas[0].username=sa",
+        "pricing.read-replicas.replicas[1].url=jdbc:h2:tcp://localhost:1/mem:unreachable",
+        "pricing.read-replicas.replicas[1].connection-timeout=PT0.25S"
+})
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final int LOOKUPS = 10;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Test: Lookups with an unreachable replica - Should be served by the healthy replica")
+    void testLookupsAreRoutedToHealthyReplica() {
+        RestAssured.port = port;
+        double replicaReads = reads("replica-1");
+
+        for (int i = 0; i < LOOKUPS; i++) {
+            given()
+                    .basePath("/api/prices")
+                    .queryParam("applicationDate", "2020-06-14T16:00:00")
+                    .queryParam("productId", 35455)
+                    .queryParam("brandId", 1)
+                .when()
+                    .get()
+                .then()
+                    .statusCode(200)
+                    .body("priceList", equalTo(2));
+        }
+
+        assertThat(reads("replica-1") - replicaReads).isGreaterThanOrEqualTo(LOOKUPS);
+        assertThat(reads("replica-2")).isZero();
+        assertThat(meterRegistry.get("pricing.datasource.ejections").tag("pool", "replica-2").tag("reason", "error")
+                .counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Test: Statement outside a read-only transaction - Should use the primary")
+    void testWritesUseThePrimary() {
+        double replicaReads = reads("replica-1") + reads("replica-2") + reads("primary");
+
+        jdbcTemplate.update("INSERT INTO PRICE_CHANGES (BRAND_ID, PRODUCT_ID) VALUES (1, 35455)");
+
+        assertThat(reads("replica-1") + reads("replica-2") + reads("primary")).isEqualTo(replicaReads);
+    }
+
+    private double reads(String pool) {
+        Counter counter = meterRegistry.find("pricing.datasource.reads").tag("pool", pool).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,81 @@
+package com.inditex.pricing.infrastructure.generator;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceKey;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.port.output.PriceRepositoryPort;
+import com.inditex.pricing.infrastructure.adapter.output.memory.PriceTimelineIndex;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.mapper.PriceMapper;
+import com.inditex.pricing.infrastructure.adapter.output.persistence.repository.JpaPriceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the synthetic catalogue generator.
+ * 
+ * Loads a small generated catalogue through the {@code generator} profile and checks that
+ * the JPA query and the in-memory interval index resolve the same price for random lookups.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "generator"})
+@TestPropertySource(properties = {
+        "pricing.generator.products-per-brand=200",
+        "pricing.generator.tariffs-per-product=5"
+})
+class PriceDataGeneratorIntegrationTest {
+
+    @Autowired
+    private PriceDataGeneratorProperties properties;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Autowired
+    private PriceMapper priceMapper;
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Test
+    @DisplayName("Test: Same settings and seed - Should generate the same catalogue")
+    void testGenerationIsDeterministic() {
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        new PriceDataGenerator(properties).generate(price -> first.add(price.toString()));
+        new PriceDataGenerator(properties).generate(price -> second.add(price.toString()));
+
+        assertThat(first).hasSize((int) properties.getRowCount()).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("Test: Generated catalogue loaded with batch inserts - Should resolve like the in-memory index")
+    void testGeneratedCatalogueResolvesConsistently() {
+        List<Price> prices = jpaPriceRepository.findAll().stream().map(priceMapper::toDomain).toList();
+        assertThat(prices).hasSize(4 + (int) properties.getRowCount());
+
+        PriceTimelineIndex index = PriceTimelineIndex.of(prices);
+        SplittableRandom random = new SplittableRandom(7L);
+        for (int i = 0; i < 1_000; i++) {
+            Price sample = prices.get(random.nextInt(prices.size()));
+            LocalDateTime date = properties.getSeasonStart().plusMinutes(random.nextInt(properties.getSeasonDays() * 24 * 60));
+
+            Optional<Price> expected = index.timelineOf(PriceKey.of(sample)).findSegment(date).map(PriceSegment::getPrice);
+            Optional<Price> actual = priceRepositoryPort.findApplicablePrice(date, sample.getProductId(), sample.getBrandId());
+
+            assertThat(actual.map(Price::getId)).as("lookup %s at %s", PriceKey.of(sample), date)
+                    .isEqualTo(expected.map(Price::getId));
+        }
+    }
+}